@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.smithy.aws.cloudformation.jmh;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.aws.cloudformation.schema.CfnConfig;
+import software.amazon.smithy.aws.cloudformation.schema.fromsmithy.CfnConverter;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.jmh.SyntheticModelGenerator;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class CfnConversion {
+
+    @State(Scope.Benchmark)
+    public static class ConversionState {
+
+        // Services of the synthetic model bind at most 250 resources, so
+        // sizes above 2500 shapes only grow the rest of the model.
+        @Param({"500", "2500", "10000"})
+        public int shapeCount;
+
+        public Model model;
+        public CfnConfig config;
+
+        @Setup
+        public void prepare() {
+            SyntheticModelGenerator generator = new SyntheticModelGenerator(shapeCount);
+            StringBuilder idl = new StringBuilder(generator.generateIdl());
+            for (ShapeId resource : generator.getResourceIds()) {
+                idl.append("apply ").append(resource).append(" @aws.cloudformation#cfnResource\n");
+            }
+
+            model = Model.assembler()
+                    .discoverModels(CfnConversion.class.getClassLoader())
+                    .addUnparsedModel("synthetic.smithy", idl.toString())
+                    .assemble()
+                    .unwrap();
+            config = new CfnConfig();
+            config.setOrganizationName("Smithy");
+            config.setService(SyntheticModelGenerator.SERVICE);
+        }
+    }
+
+    @Benchmark
+    public Map<String, ObjectNode> convert(ConversionState state) {
+        return CfnConverter.create().config(state.config).convertToNodes(state.model);
+    }
+}
@@ -43,6 +43,7 @@ public final class CfnConfig extends JsonSchemaConfig {
             "Developer Guide", "Reference", "Guide");
     private Map<ShapeId, Map<String, Node>> jsonAdd = Collections.emptyMap();
     private String organizationName;
+    private boolean parallelConversion = false;
     private String serviceName;
     private ShapeId service;
     private List<String> sourceDocs = ListUtils.of(
@@ -212,6 +213,24 @@ public final class CfnConfig extends JsonSchemaConfig {
         this.organizationName = organizationName;
     }
 
+    public boolean getParallelConversion() {
+        return parallelConversion;
+    }
+
+    /**
+     * Set to true to convert the resources of the service in parallel.
+     *
+     * <p>The converted resources are the same regardless of this setting,
+     * but any {@link software.amazon.smithy.aws.cloudformation.schema.fromsmithy.CfnMapper}
+     * or JSON schema mapper provided by an extension must be thread-safe
+     * when it is enabled. Resources are converted sequentially by default.
+     *
+     * @param parallelConversion True to convert resources in parallel, false otherwise.
+     */
+    public void setParallelConversion(boolean parallelConversion) {
+        this.parallelConversion = parallelConversion;
+    }
+
     public String getServiceName() {
         return serviceName;
     }
@@ -22,7 +22,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
-import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import software.amazon.smithy.aws.cloudformation.schema.CfnConfig;
 import software.amazon.smithy.aws.cloudformation.schema.CfnException;
 import software.amazon.smithy.aws.cloudformation.schema.model.Property;
@@ -49,6 +51,7 @@ import software.amazon.smithy.model.shapes.StructureShape;
 import software.amazon.smithy.model.traits.DocumentationTrait;
 import software.amazon.smithy.model.traits.StringTrait;
 import software.amazon.smithy.utils.ListUtils;
+import software.amazon.smithy.utils.Pair;
 import software.amazon.smithy.utils.StringUtils;
 
 public final class CfnConverter {
@@ -111,47 +114,44 @@ public final class CfnConverter {
      * @return A map of CloudFormation resource type names to their converted schema nodes.
      */
     public Map<String, ObjectNode> convertToNodes(Model model) {
-        List<ConversionEnvironment> environments = createConversionEnvironments(model);
-        Map<ShapeId, ResourceSchema> resources = convertWithEnvironments(environments);
-
-        Map<String, ObjectNode> convertedNodes = new HashMap<>();
-        for (ConversionEnvironment environment : environments) {
-            ResourceSchema resourceSchema = resources.get(environment.context.getResource().getId());
-            ObjectNode node = resourceSchema.toNode().expectObjectNode();
-
-            // Apply all the mappers' updateNode methods.
-            for (CfnMapper mapper : environment.mappers) {
-                node = mapper.updateNode(environment.context, resourceSchema, node);
-            }
-
-            // CloudFormation resource schemas require the presence of a top-level
-            // additionalProperties setting with the value of false to be validated.
-            node = node.withMember("additionalProperties", false);
-
-            convertedNodes.put(resourceSchema.getTypeName(), node);
-        }
-        return convertedNodes;
+        // Sort the converted nodes by resource type name to make the result deterministic.
+        return stream(createConversionEnvironments(model))
+                .map(environment -> {
+                    ResourceSchema resourceSchema = convertResource(environment, environment.context.getResource());
+                    ObjectNode node = resourceSchema.toNode().expectObjectNode();
+
+                    // Apply all the mappers' updateNode methods.
+                    for (CfnMapper mapper : environment.mappers) {
+                        node = mapper.updateNode(environment.context, resourceSchema, node);
+                    }
+
+                    // CloudFormation resource schemas require the presence of a top-level
+                    // additionalProperties setting with the value of false to be validated.
+                    node = node.withMember("additionalProperties", false);
+
+                    return Pair.of(resourceSchema.getTypeName(), node);
+                })
+                .collect(Collectors.toMap(Pair::getLeft, Pair::getRight, (a, b) -> b, TreeMap::new));
     }
 
     /**
      * Converts the annotated resources in the Smithy model to CloudFormation
      * Resource Schemas.
      *
+     * <p>The converted resources are ordered by the shape ID of the resource
+     * shape they were converted from.
+     *
      * @param model Smithy model containing resources to convert.
      * @return Returns the converted resources.
      */
     public List<ResourceSchema> convert(Model model) {
-        return ListUtils.copyOf(convertWithEnvironments(createConversionEnvironments(model)).values());
+        return stream(createConversionEnvironments(model))
+                .map(environment -> convertResource(environment, environment.context.getResource()))
+                .collect(Collectors.collectingAndThen(Collectors.toList(), ListUtils::copyOf));
     }
 
-    private Map<ShapeId, ResourceSchema> convertWithEnvironments(List<ConversionEnvironment> environments) {
-        Map<ShapeId, ResourceSchema> resourceSchemas = new HashMap<>();
-        for (ConversionEnvironment environment : environments) {
-            ResourceShape resourceShape = environment.context.getResource();
-            ResourceSchema resourceSchema = convertResource(environment, resourceShape);
-            resourceSchemas.put(resourceShape.getId(), resourceSchema);
-        }
-        return resourceSchemas;
+    private Stream<ConversionEnvironment> stream(List<ConversionEnvironment> environments) {
+        return config.getParallelConversion() ? environments.parallelStream() : environments.stream();
     }
 
     private List<ConversionEnvironment> createConversionEnvironments(Model model) {
@@ -167,30 +167,39 @@ public final class CfnConverter {
         // Find the service shape.
         ServiceShape serviceShape = model.expectShape(serviceShapeId, ServiceShape.class);
 
-        TopDownIndex topDownIndex = TopDownIndex.of(model);
-        Set<ResourceShape> resourceShapes = topDownIndex.getContainedResources(serviceShape);
-
-        // Create an environment for each of the resources to be converted with.
-        List<ConversionEnvironment> environments = new ArrayList<>();
-        for (ResourceShape resourceShape : resourceShapes) {
+        // Find the resources to convert, sorted to make the result deterministic.
+        CfnResourceIndex resourceIndex = CfnResourceIndex.of(model);
+        Map<ResourceShape, CfnResource> cfnResources = new TreeMap<>();
+        for (ResourceShape resourceShape : TopDownIndex.of(model).getContainedResources(serviceShape)) {
             if (resourceShape.getTrait(CfnResourceTrait.class).isPresent()) {
-                ConversionEnvironment environment = createConversionEnvironment(model, serviceShape, resourceShape);
-                environments.add(environment);
+                CfnResource cfnResource = resourceIndex.getResource(resourceShape)
+                        .orElseThrow(() -> new CfnException("Attempted to generate a CloudFormation resource schema "
+                                + "not found to have resource data."));
+                cfnResources.put(resourceShape, cfnResource);
             }
         }
 
-        return environments;
-    }
+        // Prepare a structure representing each CFN resource to be created and
+        // add them all to a single temporary model that's used for conversion.
+        // JSON Schema conversion requires that the shape being converted is
+        // present in the model. See the docs for getCfnResourceStructure for
+        // more information.
+        Map<ResourceShape, StructureShape> pseudoResources = new HashMap<>();
+        Model.Builder updatedModelBuilder = model.toBuilder();
+        cfnResources.forEach((resourceShape, cfnResource) -> {
+            StructureShape pseudoResource = getCfnResourceStructure(model, resourceShape, cfnResource);
+            pseudoResources.put(resourceShape, pseudoResource);
+            updatedModelBuilder.addShape(pseudoResource);
+        });
+        Model updatedModel = updatedModelBuilder.build();
 
-    private ConversionEnvironment createConversionEnvironment(
-            Model model,
-            ServiceShape serviceShape,
-            ResourceShape resourceShape
-    ) {
-        // Prepare the JSON Schema Converter.
+        // Prepare the JSON Schema Converter, which is shared by every resource.
         JsonSchemaConverter.Builder jsonSchemaConverterBuilder = JsonSchemaConverter.builder()
                 .config(config)
-                .propertyNamingStrategy(getPropertyNamingStrategy());
+                .propertyNamingStrategy(getPropertyNamingStrategy())
+                .model(updatedModel)
+                // Resources commonly share shapes, so reuse their converted schemas.
+                .cacheSchemas(true);
 
         List<CfnMapper> mappers = new ArrayList<>();
         for (Smithy2CfnExtension extension : extensions) {
@@ -201,25 +210,17 @@ public final class CfnConverter {
             }
         }
         mappers.sort(Comparator.comparingInt(CfnMapper::getOrder));
+        JsonSchemaConverter jsonSchemaConverter = jsonSchemaConverterBuilder.build();
 
-        CfnResourceIndex resourceIndex = CfnResourceIndex.of(model);
-        CfnResource cfnResource = resourceIndex.getResource(resourceShape)
-                .orElseThrow(() -> new CfnException("Attempted to generate a CloudFormation resource schema "
-                        + "not found to have resource data."));
-
-        // Prepare a structure representing the CFN resource to be created and
-        // add that structure to a temporary model that's used for conversion.
-        // JSON Schema conversion requires that the shape being converted is
-        // present in the model. See the docs for getCfnResourceStructure for
-        // more information.
-        StructureShape pseudoResource = getCfnResourceStructure(model, resourceShape, cfnResource);
-        Model updatedModel = model.toBuilder().addShape(pseudoResource).build();
-        jsonSchemaConverterBuilder.model(updatedModel);
-
-        Context context = new Context(updatedModel, serviceShape, resourceShape, cfnResource,
-                pseudoResource, config, jsonSchemaConverterBuilder.build());
+        // Create an environment for each of the resources to be converted with.
+        List<ConversionEnvironment> environments = new ArrayList<>();
+        cfnResources.forEach((resourceShape, cfnResource) -> {
+            Context context = new Context(updatedModel, serviceShape, resourceShape, cfnResource,
+                    pseudoResources.get(resourceShape), config, jsonSchemaConverter);
+            environments.add(new ConversionEnvironment(context, mappers));
+        });
 
-        return new ConversionEnvironment(context, mappers);
+        return environments;
     }
 
     private PropertyNamingStrategy getPropertyNamingStrategy() {
@@ -255,9 +256,8 @@ public final class CfnConverter {
 
     private ResourceSchema convertResource(ConversionEnvironment environment, ResourceShape resourceShape) {
         Context context = environment.context;
-        JsonSchemaConverter jsonSchemaConverter = context.getJsonSchemaConverter().toBuilder()
-                .rootShape(context.getResourceStructure())
-                .build();
+        JsonSchemaConverter jsonSchemaConverter = context.getJsonSchemaConverter()
+                .withRootShape(context.getResourceStructure());
         SchemaDocument document = jsonSchemaConverter.convert();
 
         // Prepare the initial contents
@@ -16,13 +16,17 @@
 package software.amazon.smithy.aws.cloudformation.schema.fromsmithy;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import software.amazon.smithy.aws.cloudformation.schema.CfnConfig;
+import software.amazon.smithy.aws.cloudformation.schema.model.ResourceSchema;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
@@ -72,6 +76,38 @@ public class CfnConverterTest {
         }
     }
 
+    @Test
+    public void convertsResourcesInParallel() {
+        CfnConfig config = new CfnConfig();
+        config.setOrganizationName("Smithy");
+        config.setService(ShapeId.from("smithy.example#TestService"));
+        Map<String, ObjectNode> sequential = CfnConverter.create().config(config)
+                .convertToNodes(testService);
+        config.setParallelConversion(true);
+        Map<String, ObjectNode> parallel = CfnConverter.create().config(config)
+                .convertToNodes(testService);
+
+        assertThat(parallel.keySet(), contains(
+                "Smithy::TestService::Bar",
+                "Smithy::TestService::Basil",
+                "Smithy::TestService::FooResource"));
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void convertsResourcesInShapeIdOrder() {
+        CfnConfig config = new CfnConfig();
+        config.setOrganizationName("Smithy");
+        config.setService(ShapeId.from("smithy.example#TestService"));
+        config.setParallelConversion(true);
+        List<ResourceSchema> result = CfnConverter.create().config(config).convert(testService);
+
+        assertThat(result.stream().map(ResourceSchema::getTypeName).collect(Collectors.toList()), contains(
+                "Smithy::TestService::Bar",
+                "Smithy::TestService::Basil",
+                "Smithy::TestService::FooResource"));
+    }
+
     @Test
     public void handlesAwsServiceTraitDefaulting() {
         Model model = Model.assembler()
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.smithy.build.jmh;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.build.MockManifest;
+import software.amazon.smithy.build.SmithyBuild;
+import software.amazon.smithy.build.SmithyBuildResult;
+import software.amazon.smithy.build.model.ProjectionConfig;
+import software.amazon.smithy.build.model.SmithyBuildConfig;
+import software.amazon.smithy.build.model.TransformConfig;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.jmh.SyntheticModelGenerator;
+import software.amazon.smithy.model.node.Node;
+
+/**
+ * Measures running smithy-build over projections that each apply a few
+ * common transforms and the built-in plugins. Files are written to an
+ * in-memory manifest so that disk I/O isn't measured.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class Projections {
+
+    @State(Scope.Benchmark)
+    public static class ProjectionState {
+
+        @Param({"1000", "10000"})
+        public int shapeCount;
+
+        @Param({"1", "8"})
+        public int projections;
+
+        public Model model;
+        public SmithyBuildConfig config;
+
+        @Setup
+        public void prepare() {
+            model = new SyntheticModelGenerator(shapeCount).generate();
+
+            Map<String, ProjectionConfig> projectionConfigs = new LinkedHashMap<>();
+            for (int i = 0; i < projections; i++) {
+                projectionConfigs.put("projection" + i, ProjectionConfig.builder()
+                        .transforms(createTransforms())
+                        .build());
+            }
+
+            config = SmithyBuildConfig.builder()
+                    .version(SmithyBuild.VERSION)
+                    .outputDirectory("build/jmh/smithy-build")
+                    .projections(projectionConfigs)
+                    .build();
+        }
+
+        private static List<TransformConfig> createTransforms() {
+            List<TransformConfig> transforms = new ArrayList<>();
+            transforms.add(TransformConfig.builder()
+                    .name("includeServices")
+                    .args(Node.objectNode().withMember("services", Node.fromStrings(
+                            SyntheticModelGenerator.SERVICE.toString())))
+                    .build());
+            transforms.add(TransformConfig.builder()
+                    .name("excludeTraits")
+                    .args(Node.objectNode().withMember("traits", Node.fromStrings("documentation")))
+                    .build());
+            transforms.add(TransformConfig.builder().name("removeUnusedShapes").build());
+            return transforms;
+        }
+    }
+
+    @Benchmark
+    public SmithyBuildResult build(ProjectionState state) {
+        return new SmithyBuild()
+                .config(state.config)
+                .model(state.model)
+                .fileManifestFactory(MockManifest::new)
+                .build();
+    }
+}
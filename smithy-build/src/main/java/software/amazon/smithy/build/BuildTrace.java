@@ -0,0 +1,232 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.build;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+
+/**
+ * Records the time spent in each phase of a build as nested spans.
+ *
+ * <p>Spans are recorded along with the thread that executed them, and
+ * can be exported in the Chrome trace-event format that can be loaded
+ * into tools like {@code chrome://tracing} or Perfetto.
+ *
+ * <pre>{@code
+ * BuildTrace trace = new BuildTrace();
+ * new SmithyBuild().config(config).model(model).trace(trace).build();
+ * trace.write(Paths.get("trace.json"));
+ * }</pre>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @see SmithyBuild#trace(BuildTrace)
+ */
+public final class BuildTrace {
+
+    private static final Span NO_OP = new Span(null, null, null);
+
+    private final long startNanos = System.nanoTime();
+    private final Queue<Span> spans = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Starts a span that ends when the returned span is closed.
+     *
+     * <p>Spans are meant to be used in a try-with-resources statement, or
+     * to wrap work using {@link Span#run} or {@link Span#call}. Spans
+     * started on the same thread while another span is open are nested
+     * inside of the open span.
+     *
+     * @param category Category of the span (e.g., "plugin").
+     * @param name Name of the span (e.g., "sources").
+     * @return Returns the started span.
+     */
+    public Span span(String category, String name) {
+        return new Span(this, category, name);
+    }
+
+    /**
+     * Starts a span using an optional trace.
+     *
+     * <p>A span that records nothing is returned if the trace is null.
+     *
+     * @param trace Trace to record the span into, or null to not record it.
+     * @param category Category of the span.
+     * @param name Name of the span.
+     * @return Returns the started span.
+     */
+    public static Span span(BuildTrace trace, String category, String name) {
+        return trace == null ? NO_OP : trace.span(category, name);
+    }
+
+    /**
+     * Converts the recorded spans to a Chrome trace-event JSON object.
+     *
+     * <p>Only spans that have been closed are included.
+     *
+     * @return Returns the trace-event object.
+     */
+    public ObjectNode toNode() {
+        List<Node> traceEvents = new ArrayList<>();
+        List<Span> closedSpans = new ArrayList<>(spans);
+
+        // Name each thread so that viewers show where spans were executed.
+        Map<Long, String> threadNames = new TreeMap<>();
+        for (Span span : closedSpans) {
+            threadNames.put(span.thread.getId(), span.thread.getName());
+        }
+        threadNames.forEach((threadId, threadName) -> traceEvents.add(Node.objectNodeBuilder()
+                .withMember("name", "thread_name")
+                .withMember("ph", "M")
+                .withMember("pid", 1)
+                .withMember("tid", threadId)
+                .withMember("args", Node.objectNode().withMember("name", threadName))
+                .build()));
+
+        // Spans are closed innermost first, so sort them by when they started
+        // and place enclosing spans before the spans they contain.
+        closedSpans.sort(Comparator.<Span>comparingLong(span -> span.startNanos)
+                .thenComparingLong(span -> span.startNanos - span.endNanos));
+        for (Span span : closedSpans) {
+            traceEvents.add(Node.objectNodeBuilder()
+                    .withMember("name", span.name)
+                    .withMember("cat", span.category)
+                    .withMember("ph", "X")
+                    .withMember("ts", micros(span.startNanos))
+                    .withMember("dur", (span.endNanos - span.startNanos) / 1000)
+                    .withMember("pid", 1)
+                    .withMember("tid", span.thread.getId())
+                    .withMember("args", span.args)
+                    .build());
+        }
+
+        return Node.objectNodeBuilder()
+                .withMember("traceEvents", Node.fromNodes(traceEvents))
+                .withMember("displayTimeUnit", "ms")
+                .build();
+    }
+
+    /**
+     * Writes the recorded spans to a Chrome trace-event JSON file.
+     *
+     * @param file File to write.
+     * @throws UncheckedIOException if the file can't be written.
+     */
+    public void write(Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(file, Node.printJson(toNode()).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long micros(long nanos) {
+        return (nanos - startNanos) / 1000;
+    }
+
+    /**
+     * A span of time that is recorded when it is closed.
+     */
+    public static final class Span implements AutoCloseable {
+        private final BuildTrace trace;
+        private final String category;
+        private final String name;
+        private final long startNanos = System.nanoTime();
+        private final Thread thread = Thread.currentThread();
+        private ObjectNode args = Node.objectNode();
+        private long endNanos;
+        private boolean closed;
+
+        private Span(BuildTrace trace, String category, String name) {
+            this.trace = trace;
+            this.category = category;
+            this.name = name;
+        }
+
+        /**
+         * Adds an argument to the span that is shown when it is selected.
+         *
+         * <p>Arguments are ignored by spans that record nothing.
+         *
+         * @param key Name of the argument.
+         * @param value Value of the argument.
+         * @return Returns the span.
+         */
+        public Span arg(String key, String value) {
+            if (trace != null) {
+                args = args.withMember(key, value);
+            }
+            return this;
+        }
+
+        /**
+         * Runs the given action and then closes the span.
+         *
+         * @param action Action to run.
+         */
+        public void run(Runnable action) {
+            try {
+                action.run();
+            } finally {
+                close();
+            }
+        }
+
+        /**
+         * Gets the result of the given action and then closes the span.
+         *
+         * @param action Action to call.
+         * @param <T> Type of value returned by the action.
+         * @return Returns the result of the action.
+         */
+        public <T> T call(Supplier<T> action) {
+            try {
+                return action.get();
+            } finally {
+                close();
+            }
+        }
+
+        /**
+         * Ends the span and records it in its trace.
+         */
+        @Override
+        public void close() {
+            if (trace != null && !closed) {
+                closed = true;
+                endNanos = System.nanoTime();
+                trace.spans.add(this);
+            }
+        }
+    }
+}
@@ -20,24 +20,37 @@ import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+import software.amazon.smithy.utils.IoUtils;
 
 /**
  * @see FileManifest#create
+ * @see FileManifest#createWriteIfChanged
  */
 final class DefaultFileManifest implements FileManifest {
     private final Set<Path> files = new ConcurrentSkipListSet<>(Comparator.comparing(Path::toString));
     private final Path baseDir;
+    private final boolean writeIfChanged;
 
     DefaultFileManifest(Path baseDir) {
+        this(baseDir, false);
+    }
+
+    DefaultFileManifest(Path baseDir, boolean writeIfChanged) {
         this.baseDir = baseDir;
+        this.writeIfChanged = writeIfChanged;
     }
 
     @Override
@@ -75,6 +88,20 @@ final class DefaultFileManifest implements FileManifest {
     public Path writeFile(Path path, Reader fileContentsReader) {
         path = addFile(path);
 
+        if (writeIfChanged) {
+            try (BufferedReader bufferedReader = new BufferedReader(fileContentsReader)) {
+                StringBuilder contents = new StringBuilder();
+                int len;
+                char[] buffer = new char[4096];
+                while ((len = bufferedReader.read(buffer)) != -1) {
+                    contents.append(buffer, 0, len);
+                }
+                return writeBytesIfChanged(path, contents.toString().getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new SmithyBuildException("Unable to write contents of file `" + path + "`: " + e.getMessage(), e);
+            }
+        }
+
         try (BufferedReader bufferedReader = new BufferedReader(fileContentsReader);
              BufferedWriter writer = Files.newBufferedWriter(path)) {
             int len;
@@ -93,10 +120,51 @@ final class DefaultFileManifest implements FileManifest {
         path = addFile(path);
 
         try {
+            if (writeIfChanged) {
+                return writeBytesIfChanged(path, IoUtils.toByteArray(fileContentsInputStream));
+            }
+
             Files.copy(fileContentsInputStream, path, StandardCopyOption.REPLACE_EXISTING);
             return path;
         } catch (IOException e) {
             throw new SmithyBuildException("Unable to write contents of file `" + path + "`: " + e.getMessage(), e);
         }
     }
+
+    @Override
+    public Path writeFile(Path path, String fileContentsText) {
+        path = addFile(path);
+        byte[] bytes = fileContentsText.getBytes(StandardCharsets.UTF_8);
+
+        try {
+            if (writeIfChanged) {
+                return writeBytesIfChanged(path, bytes);
+            }
+
+            Files.write(path, bytes);
+            return path;
+        } catch (IOException e) {
+            throw new SmithyBuildException("Unable to write contents of file `" + path + "`: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<Path> writeFiles(Map<Path, String> fileContents) {
+        return fileContents.entrySet().parallelStream()
+                .map(entry -> writeFile(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    // Files are only written when their contents differ so that the last
+    // modified time of unchanged files is preserved.
+    private Path writeBytesIfChanged(Path path, byte[] bytes) throws IOException {
+        if (Files.isRegularFile(path)
+                && Files.size(path) == bytes.length
+                && Arrays.equals(Files.readAllBytes(path), bytes)) {
+            return path;
+        }
+
+        Files.write(path, bytes);
+        return path;
+    }
 }
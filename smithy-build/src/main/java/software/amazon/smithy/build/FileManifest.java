@@ -21,7 +21,9 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import software.amazon.smithy.model.node.Node;
@@ -43,6 +45,21 @@ public interface FileManifest {
         return new DefaultFileManifest(basePath);
     }
 
+    /**
+     * Create a default file manifest for the given base path that only
+     * writes files when their contents have changed.
+     *
+     * <p>Files that already contain the exact contents being written are
+     * left untouched, which preserves their last modified time for tools
+     * that use it to detect changes.
+     *
+     * @param basePath Base path where files are written.
+     * @return Returns the created manifest.
+     */
+    static FileManifest createWriteIfChanged(Path basePath) {
+        return new DefaultFileManifest(basePath, true);
+    }
+
     /**
      * Gets the base directory of the manifest.
      *
@@ -212,6 +229,22 @@ public interface FileManifest {
         return writeFile(Paths.get(path), fileContentsInputStream);
     }
 
+    /**
+     * Adds a batch of UTF-8 encoded files to the result.
+     *
+     * <p>Implementations may write the files concurrently.
+     *
+     * @param fileContents Map of relative paths to the contents to write.
+     * @return Returns the resolved paths in the iteration order of the map.
+     */
+    default List<Path> writeFiles(Map<Path, String> fileContents) {
+        List<Path> result = new ArrayList<>(fileContents.size());
+        for (Map.Entry<Path, String> entry : fileContents.entrySet()) {
+            result.add(writeFile(entry.getKey(), entry.getValue()));
+        }
+        return result;
+    }
+
     /**
      * Adds a Node artifact, converting it automatically to JSON.
      *
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.build;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.loader.ModelAssembler;
+import software.amazon.smithy.model.validation.ValidatedResult;
+
+/**
+ * Validates each distinct model instance of a build at most once.
+ *
+ * <p>Projections often create the exact same model instance (for example,
+ * projections without transforms or projections that only share a common
+ * transform prefix). The first projection that needs the validation
+ * events of a model computes them, and every other projection waits for
+ * and reuses the result.
+ */
+final class ModelValidationCache {
+
+    private final Supplier<ModelAssembler> modelAssemblerSupplier;
+    private final Map<Model, CompletableFuture<ValidatedResult<Model>>> results = new IdentityHashMap<>();
+
+    ModelValidationCache(Supplier<ModelAssembler> modelAssemblerSupplier) {
+        this.modelAssemblerSupplier = modelAssemblerSupplier;
+    }
+
+    /**
+     * Records the result of an assembler that created a model so that the
+     * model isn't validated again.
+     *
+     * @param result Result to record.
+     */
+    void put(ValidatedResult<Model> result) {
+        result.getResult().ifPresent(model -> {
+            synchronized (results) {
+                results.putIfAbsent(model, CompletableFuture.completedFuture(result));
+            }
+        });
+    }
+
+    /**
+     * Validates a model, or returns the result of a previous validation of
+     * the same model instance.
+     *
+     * @param model Model to validate.
+     * @return Returns the validated result.
+     */
+    ValidatedResult<Model> validate(Model model) {
+        CompletableFuture<ValidatedResult<Model>> future = new CompletableFuture<>();
+        CompletableFuture<ValidatedResult<Model>> existing;
+        synchronized (results) {
+            existing = results.putIfAbsent(model, future);
+        }
+
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+
+        try {
+            ValidatedResult<Model> result = modelAssemblerSupplier.get().addModel(model).assemble();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            synchronized (results) {
+                results.remove(model);
+            }
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import software.amazon.smithy.build.model.ProjectionConfig;
 import software.amazon.smithy.model.FromSourceLocation;
 import software.amazon.smithy.model.Model;
@@ -31,6 +32,7 @@ import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.shapes.ToShapeId;
 import software.amazon.smithy.model.transform.ModelTransformer;
 import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.utils.ParallelUtils;
 import software.amazon.smithy.utils.SetUtils;
 import software.amazon.smithy.utils.SmithyBuilder;
 import software.amazon.smithy.utils.ToSmithyBuilder;
@@ -48,6 +50,7 @@ public final class PluginContext implements ToSmithyBuilder<PluginContext> {
     private final FileManifest fileManifest;
     private final ClassLoader pluginClassLoader;
     private final Set<Path> sources;
+    private final ExecutorService executor;
     private Model nonTraitsModel;
 
     private PluginContext(Builder builder) {
@@ -60,6 +63,7 @@ public final class PluginContext implements ToSmithyBuilder<PluginContext> {
         settings = builder.settings;
         pluginClassLoader = builder.pluginClassLoader;
         sources = SetUtils.copyOf(builder.sources);
+        executor = builder.executor;
     }
 
     /**
@@ -147,6 +151,21 @@ public final class PluginContext implements ToSmithyBuilder<PluginContext> {
         return Optional.ofNullable(pluginClassLoader);
     }
 
+    /**
+     * Gets the executor that plugins can use to perform work in parallel.
+     *
+     * <p>The executor is shared by every projection and plugin of the
+     * build, and it is often bounded. Plugins must not block the thread
+     * they are executed on while waiting for tasks that they submit to
+     * the executor to start; use {@link ParallelUtils#map} to process work
+     * in parallel while also processing work on the calling thread.
+     *
+     * @return Returns the optionally set executor.
+     */
+    public Optional<ExecutorService> getExecutor() {
+        return Optional.ofNullable(executor);
+    }
+
     /**
      * Creates a new Model where shapes that define traits or shapes
      * that are only used as part of a trait definition have been removed.
@@ -247,7 +266,8 @@ public final class PluginContext implements ToSmithyBuilder<PluginContext> {
                 .settings(settings)
                 .fileManifest(fileManifest)
                 .pluginClassLoader(pluginClassLoader)
-                .sources(sources);
+                .sources(sources)
+                .executor(executor);
     }
 
     /**
@@ -263,6 +283,7 @@ public final class PluginContext implements ToSmithyBuilder<PluginContext> {
         private FileManifest fileManifest;
         private ClassLoader pluginClassLoader;
         private Set<Path> sources = Collections.emptySet();
+        private ExecutorService executor;
 
         private Builder() {}
 
@@ -364,5 +385,16 @@ public final class PluginContext implements ToSmithyBuilder<PluginContext> {
             this.sources = new HashSet<>(sources);
             return this;
         }
+
+        /**
+         * Sets the executor that plugins can use to perform work in parallel.
+         *
+         * @param executor Executor to use in build plugins.
+         * @return Returns the builder.
+         */
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
     }
 }
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.build;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.NodeMapper;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.model.shapes.ModelSerializer;
+import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.utils.IoUtils;
+
+/**
+ * Fingerprint of the inputs of a plugin used to skip plugins that are
+ * up-to-date in incremental builds.
+ *
+ * <p>The fingerprint of each plugin is stored in a file in the
+ * ".fingerprints" directory of the projection along with the files the
+ * plugin created, relative to the plugin's directory.
+ *
+ * @see SmithyBuild#incremental
+ * @see SmithyBuildPlugin#isIncremental
+ */
+final class PluginFingerprint {
+    private static final Logger LOGGER = Logger.getLogger(PluginFingerprint.class.getName());
+    private static final String DIRECTORY = ".fingerprints";
+    private static final String FORMAT_VERSION = "1.0";
+
+    private final Path file;
+    private final String value;
+
+    private PluginFingerprint(Path file, String value) {
+        this.file = file;
+        this.value = value;
+    }
+
+    /**
+     * Creates the fingerprint of a plugin.
+     *
+     * <p>No fingerprint is created for plugins that don't provide an
+     * implementation version since changes to them can't be detected.
+     *
+     * @param plugin Plugin to create the fingerprint of.
+     * @param context Context the plugin is executed with.
+     * @param projectionDir Base directory of the projection.
+     * @param modelHash Supplies the hash of the projected model.
+     * @return Returns the optionally created fingerprint.
+     */
+    static Optional<PluginFingerprint> create(
+            SmithyBuildPlugin plugin,
+            PluginContext context,
+            Path projectionDir,
+            Supplier<String> modelHash
+    ) {
+        String pluginVersion = plugin.getImplementationVersion().orElse(null);
+
+        if (pluginVersion == null) {
+            LOGGER.fine(() -> String.format(
+                    "Not fingerprinting `%s` plugin because it has no implementation version", plugin.getName()));
+            return Optional.empty();
+        }
+
+        List<ValidationEvent> events = new ArrayList<>(context.getEvents());
+        events.sort(ValidationEvent::compareTo);
+
+        ObjectNode inputs = Node.objectNodeBuilder()
+                .withMember("version", FORMAT_VERSION)
+                .withMember("plugin", plugin.getName())
+                .withMember("pluginClass", plugin.getClass().getName())
+                .withMember("pluginVersion", pluginVersion)
+                .withOptionalMember("smithyVersion", Optional.ofNullable(Model.class.getPackage())
+                        .map(Package::getImplementationVersion)
+                        .map(Node::from))
+                .withMember("projection", context.getProjectionName())
+                .withOptionalMember("projectionConfig",
+                                    context.getProjection().map(config -> new NodeMapper().serialize(config)))
+                .withMember("settings", context.getSettings())
+                .withMember("events", events.stream().map(ValidationEvent::toNode).collect(ArrayNode.collect()))
+                .withMember("model", modelHash.get())
+                .build();
+
+        Path file = projectionDir.resolve(DIRECTORY).resolve(plugin.getName() + ".json");
+        return Optional.of(new PluginFingerprint(file, hash(Node.printJson(inputs))));
+    }
+
+    /**
+     * Creates a supplier that lazily computes and caches the hash of a model.
+     *
+     * <p>The hash is computed from the serialized content of each shape, so
+     * it doesn't change when only the order or location of shapes changes.
+     *
+     * @param model Model to hash.
+     * @return Returns the supplier of the hash.
+     */
+    static Supplier<String> modelHash(Model model) {
+        return new Supplier<String>() {
+            private String hash;
+
+            @Override
+            public synchronized String get() {
+                if (hash == null) {
+                    hash = hashModel(model);
+                }
+                return hash;
+            }
+        };
+    }
+
+    private static String hashModel(Model model) {
+        ObjectNode serialized = ModelSerializer.builder().build().serialize(model);
+        StringBuilder contents = new StringBuilder();
+        serialized.getObjectMember("metadata").ifPresent(metadata -> contents.append(Node.printJson(metadata)));
+
+        // Sort the shapes by ID since the serializer only sorts them by name.
+        Map<String, Node> shapes = new TreeMap<>();
+        for (Map.Entry<StringNode, Node> entry : serialized.expectObjectMember("shapes").getMembers().entrySet()) {
+            shapes.put(entry.getKey().getValue(), entry.getValue());
+        }
+
+        for (Map.Entry<String, Node> entry : shapes.entrySet()) {
+            contents.append('\n').append(entry.getKey()).append('=').append(hash(Node.printJson(entry.getValue())));
+        }
+
+        return hash(contents.toString());
+    }
+
+    private static String hash(String contents) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            StringBuilder result = new StringBuilder();
+            for (byte b : digest.digest(contents.getBytes(StandardCharsets.UTF_8))) {
+                result.append(String.format("%02x", b));
+            }
+            return result.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new SmithyBuildException(e);
+        }
+    }
+
+    /**
+     * Adds the files created by the plugin to a manifest if the plugin is
+     * up-to-date with this fingerprint.
+     *
+     * <p>A plugin is only up-to-date if its stored fingerprint matches and
+     * every file it created still exists.
+     *
+     * @param manifest Manifest to add the files of the plugin to.
+     * @return Returns true if the plugin is up-to-date.
+     */
+    boolean addCachedFiles(FileManifest manifest) {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+
+        List<Path> files = new ArrayList<>();
+
+        try {
+            ObjectNode stored = Node.parse(IoUtils.readUtf8File(file)).expectObjectNode();
+            if (!stored.getStringMember("fingerprint").map(StringNode::getValue).filter(value::equals).isPresent()) {
+                return false;
+            }
+            for (StringNode relative : stored.expectArrayMember("files").getElementsAs(StringNode.class)) {
+                Path path = manifest.resolvePath(manifest.getBaseDir().getFileSystem().getPath(relative.getValue()));
+                if (!Files.isRegularFile(path)) {
+                    return false;
+                }
+                files.add(path);
+            }
+        } catch (RuntimeException e) {
+            // Rebuild plugins whose fingerprint can't be read for any reason.
+            LOGGER.fine(() -> "Unable to read plugin fingerprint " + file + ": " + e.getMessage());
+            return false;
+        }
+
+        files.forEach(manifest::addFile);
+        return true;
+    }
+
+    /**
+     * Deletes the stored fingerprint so that the plugin is not considered
+     * up-to-date if it fails.
+     */
+    void delete() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new SmithyBuildException("Unable to delete plugin fingerprint " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Stores the fingerprint along with the files created by the plugin.
+     *
+     * @param manifest Manifest of the files created by the plugin.
+     */
+    void write(FileManifest manifest) {
+        ArrayNode files = manifest.getFiles().stream()
+                .map(path -> manifest.getBaseDir().relativize(path).toString().replace('\\', '/'))
+                .sorted()
+                .map(Node::from)
+                .collect(ArrayNode.collect());
+        ObjectNode stored = Node.objectNode()
+                .withMember("fingerprint", value)
+                .withMember("files", files);
+
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, Node.prettyPrintJson(stored).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // Failing to store a fingerprint only means the plugin runs again.
+            LOGGER.warning("Unable to write plugin fingerprint " + file + ": " + e.getMessage());
+        }
+    }
+}
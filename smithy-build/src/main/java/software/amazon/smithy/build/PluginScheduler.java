@@ -0,0 +1,236 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import software.amazon.smithy.utils.ParallelUtils;
+
+/**
+ * Executes the plugins of a single projection.
+ *
+ * <p>Plugins are executed in waves. Each wave contains plugins that do not
+ * depend on each other, and the plugins of a wave are executed concurrently
+ * on the given executor and the calling thread once every previous wave
+ * has completed. Serial plugins are executed alone in their own wave on
+ * the calling thread. Every plugin is executed on the calling thread if no
+ * executor is provided.
+ *
+ * <p>The calling thread never waits for a plugin that has not started, so
+ * plugins can be scheduled from a task that runs on the same bounded
+ * executor that they are executed on.
+ *
+ * <p>If a plugin fails, the plugins that depend on it are not executed,
+ * the remaining plugins are allowed to complete, and the failure of the
+ * first failed plugin in execution order is rethrown.
+ */
+final class PluginScheduler {
+
+    private final ExecutorService executor;
+    private final Function<String, Optional<SmithyBuildPlugin>> pluginFactory;
+
+    /**
+     * @param executor Executor used to execute plugins, or null to execute plugins on the calling thread.
+     * @param pluginFactory Factory used to find plugins by name.
+     */
+    PluginScheduler(ExecutorService executor, Function<String, Optional<SmithyBuildPlugin>> pluginFactory) {
+        this.executor = executor;
+        this.pluginFactory = pluginFactory;
+    }
+
+    /**
+     * Gets the executor used to execute plugins.
+     *
+     * @return Returns the executor, or null if plugins are executed on the calling thread.
+     */
+    ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Executes the given plugins and returns the created manifests.
+     *
+     * <p>The applier is invoked with the name of each plugin and returns
+     * the manifest created for the plugin or null if the plugin was not
+     * applied.
+     *
+     * @param projectionName Name of the projection being built.
+     * @param pluginNames Names of the plugins to execute, in their default execution order.
+     * @param applier Function that applies a plugin by name.
+     * @return Returns the manifests of the applied plugins in execution order.
+     * @throws SmithyBuildException if plugins have circular dependencies.
+     */
+    Map<String, FileManifest> execute(
+            String projectionName,
+            Collection<String> pluginNames,
+            Function<String, FileManifest> applier
+    ) {
+        Map<String, SmithyBuildPlugin> plugins = new LinkedHashMap<>();
+        for (String name : pluginNames) {
+            plugins.put(name, pluginFactory.apply(name).orElse(null));
+        }
+
+        List<String> order = sort(projectionName, plugins);
+        Map<String, Outcome> outcomes = new LinkedHashMap<>();
+
+        for (List<String> wave : createWaves(order, plugins)) {
+            List<Outcome> waveOutcomes;
+            if (executor == null || wave.size() == 1) {
+                waveOutcomes = new ArrayList<>(wave.size());
+                for (String name : wave) {
+                    waveOutcomes.add(apply(name, plugins, outcomes, applier));
+                }
+            } else {
+                waveOutcomes = ParallelUtils.map(executor, wave, name -> apply(name, plugins, outcomes, applier));
+            }
+            for (int i = 0; i < wave.size(); i++) {
+                outcomes.put(wave.get(i), waveOutcomes.get(i));
+            }
+        }
+
+        Map<String, FileManifest> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Outcome> entry : outcomes.entrySet()) {
+            Throwable failure = entry.getValue().failure;
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (entry.getValue().manifest != null) {
+                result.put(entry.getKey(), entry.getValue().manifest);
+            }
+        }
+
+        return result;
+    }
+
+    // Splits the sorted plugins into waves of plugins that can be executed
+    // concurrently, starting a new wave whenever a plugin depends on a plugin
+    // of the current wave. Serial plugins are placed in a wave of their own.
+    private List<List<String>> createWaves(List<String> order, Map<String, SmithyBuildPlugin> plugins) {
+        List<List<String>> waves = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+
+        for (String name : order) {
+            SmithyBuildPlugin plugin = plugins.get(name);
+            boolean serial = plugin != null && plugin.isSerial();
+            boolean dependsOnCurrent = getDependencies(plugin, plugins).stream().anyMatch(current::contains);
+
+            if (!current.isEmpty() && (serial || dependsOnCurrent)) {
+                waves.add(current);
+                current = new ArrayList<>();
+            }
+
+            current.add(name);
+
+            if (serial) {
+                waves.add(current);
+                current = new ArrayList<>();
+            }
+        }
+
+        if (!current.isEmpty()) {
+            waves.add(current);
+        }
+
+        return waves;
+    }
+
+    private Outcome apply(
+            String name,
+            Map<String, SmithyBuildPlugin> plugins,
+            Map<String, Outcome> outcomes,
+            Function<String, FileManifest> applier
+    ) {
+        // Plugins that depend on a failed plugin fail in the same way without being applied.
+        for (String dependency : getDependencies(plugins.get(name), plugins)) {
+            Outcome outcome = outcomes.get(dependency);
+            if (outcome.failure != null) {
+                return new Outcome(null, outcome.failure);
+            }
+        }
+
+        try {
+            return new Outcome(applier.apply(name), null);
+        } catch (RuntimeException | Error e) {
+            return new Outcome(null, e);
+        }
+    }
+
+    private Set<String> getDependencies(SmithyBuildPlugin plugin, Map<String, SmithyBuildPlugin> plugins) {
+        Set<String> result = new LinkedHashSet<>();
+        if (plugin != null) {
+            for (String dependency : plugin.getDependencies()) {
+                if (plugins.containsKey(dependency)) {
+                    result.add(dependency);
+                }
+            }
+        }
+        return result;
+    }
+
+    // Sorts plugins so that dependencies come before their dependents while
+    // otherwise preserving the given order.
+    private List<String> sort(String projectionName, Map<String, SmithyBuildPlugin> plugins) {
+        List<String> result = new ArrayList<>(plugins.size());
+        Set<String> visiting = new HashSet<>();
+        for (String name : plugins.keySet()) {
+            visit(projectionName, name, plugins, visiting, result);
+        }
+        return result;
+    }
+
+    private void visit(
+            String projectionName,
+            String name,
+            Map<String, SmithyBuildPlugin> plugins,
+            Set<String> visiting,
+            List<String> result
+    ) {
+        if (result.contains(name)) {
+            return;
+        } else if (!visiting.add(name)) {
+            throw new SmithyBuildException(String.format(
+                    "Circular plugin dependency found in the `%s` projection involving the `%s` plugin",
+                    projectionName, name));
+        }
+
+        for (String dependency : getDependencies(plugins.get(name), plugins)) {
+            visit(projectionName, dependency, plugins, visiting, result);
+        }
+
+        visiting.remove(name);
+        result.add(name);
+    }
+
+    private static final class Outcome {
+        private final FileManifest manifest;
+        private final Throwable failure;
+
+        Outcome(FileManifest manifest, Throwable failure) {
+            this.manifest = manifest;
+            this.failure = failure;
+        }
+    }
+}
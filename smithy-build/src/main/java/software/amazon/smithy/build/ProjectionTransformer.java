@@ -42,6 +42,32 @@ public interface ProjectionTransformer {
      */
     Model transform(TransformContext context);
 
+    /**
+     * Checks if the transformer preserves the validity of models.
+     *
+     * <p>A transformer preserves validity if it can't cause new validation
+     * events to be emitted for the shapes that remain in the transformed
+     * model. Transformers that remove traits, members, or shapes do not
+     * preserve validity. Even removing shapes that aren't connected to
+     * other shapes can break references that validators check, like shape
+     * IDs in traits marked with the {@code idRef} trait.
+     *
+     * <p>Projections that only use transformers that preserve validity
+     * reuse the validation events of the model they transform rather than
+     * validating the transformed model again. Events for shapes that were
+     * removed by the transformers are omitted. Projections are validated
+     * again if their transformers change the metadata that configures
+     * validators and suppressions, so transformers that only filter
+     * metadata, like {@code excludeMetadata}, preserve validity.
+     *
+     * <p>Transformers do not preserve validity by default.
+     *
+     * @return Returns true if the transformer preserves validity.
+     */
+    default boolean preservesValidity() {
+        return false;
+    }
+
     /**
      * Creates a {@code ProjectionTransformer} factory function using SPI
      * and the current thread's context class loader.
@@ -24,6 +24,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -54,6 +55,11 @@ public final class SmithyBuild {
     Set<Path> sources = new HashSet<>();
     Predicate<String> projectionFilter = name -> true;
     Predicate<String> pluginFilter = name -> true;
+    boolean incremental;
+    int parallelism = Runtime.getRuntime().availableProcessors();
+    boolean virtualThreads;
+    ExecutorService executor;
+    BuildTrace trace;
 
     public SmithyBuild() {}
 
@@ -243,8 +249,9 @@ public final class SmithyBuild {
      * Sets a factory function that's used to create {@link FileManifest}
      * objects when writing {@link SmithyBuildPlugin} artifacts.
      *
-     * <p>A default implementation of {@link FileManifest#create} will be
-     * used if a custom factory is not provided.
+     * <p>A default implementation of {@link FileManifest#create} (or
+     * {@link FileManifest#createWriteIfChanged} for {@link #incremental}
+     * builds) will be used if a custom factory is not provided.
      *
      * @param fileManifestFactory Factory that accepts a base path and
      *  returns a {@link FileManifest}.
@@ -392,4 +399,107 @@ public final class SmithyBuild {
         this.pluginFilter = Objects.requireNonNull(pluginFilter);
         return this;
     }
+
+    /**
+     * Sets whether to skip plugins that are up-to-date with a previous
+     * build that used the same output directory.
+     *
+     * <p>When enabled, a fingerprint of the inputs of each plugin that
+     * {@link SmithyBuildPlugin#isIncremental() is incremental} is stored in
+     * the output directory of its projection. Plugins are skipped if their
+     * fingerprint matches the stored fingerprint and every file they
+     * previously created still exists. The {@link ProjectionResult} of a
+     * skipped plugin contains a manifest of the files it previously created.
+     *
+     * <p>Unless a custom {@link #fileManifestFactory} is provided, plugins
+     * executed by an incremental build use
+     * {@link FileManifest#createWriteIfChanged} so that files whose contents
+     * did not change are not rewritten.
+     *
+     * <p>Incremental builds are disabled by default.
+     *
+     * @param incremental Set to true to skip up-to-date plugins.
+     * @return Returns the builder.
+     */
+    public SmithyBuild incremental(boolean incremental) {
+        this.incremental = incremental;
+        return this;
+    }
+
+    /**
+     * Sets the number of threads used to build projections and execute the
+     * plugins of each projection concurrently.
+     *
+     * <p>Unless an {@link #executor(ExecutorService) executor} is provided,
+     * a bounded pool of this many threads is created for each build and
+     * shared by model validation, projections, and plugins. Plugins that
+     * are {@link SmithyBuildPlugin#isSerial() serial} are never executed
+     * on the pool, and no other plugin of their projection is executed at
+     * the same time. Setting this value to 1 builds every projection and
+     * executes every plugin sequentially on the calling thread.
+     *
+     * <p>Defaults to the number of available processors.
+     *
+     * @param parallelism Number of threads used to perform the build.
+     * @return Returns the builder.
+     * @see SmithyBuildPlugin#getDependencies()
+     */
+    public SmithyBuild parallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be greater than 0: " + parallelism);
+        }
+
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Sets whether each task of the build is executed on a new virtual
+     * thread rather than on a bounded pool of platform threads.
+     *
+     * <p>Virtual threads are only used if the current runtime supports
+     * them. Otherwise, a pool of {@link #parallelism(int)} threads is used.
+     * This setting is ignored if an {@link #executor(ExecutorService)
+     * executor} is provided.
+     *
+     * @param virtualThreads Set to true to use virtual threads.
+     * @return Returns the builder.
+     */
+    public SmithyBuild virtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
+    /**
+     * Sets the executor used to validate models, build projections, and
+     * execute plugins concurrently.
+     *
+     * <p>The executor is made available to plugins through
+     * {@link PluginContext#getExecutor()}. Threads that wait on work
+     * submitted to the executor also perform that work, so a bounded
+     * executor cannot deadlock the build. The executor is not shut down
+     * when the build completes.
+     *
+     * @param executor Executor to use in the build.
+     * @return Returns the builder.
+     */
+    public SmithyBuild executor(ExecutorService executor) {
+        this.executor = Objects.requireNonNull(executor);
+        return this;
+    }
+
+    /**
+     * Sets a trace used to record the time spent in each phase of the build.
+     *
+     * <p>Spans are recorded for merging imports, and for each projection,
+     * transform, validation of a projected model, and plugin. No trace is
+     * recorded by default.
+     *
+     * @param trace Trace to record spans into.
+     * @return Returns the builder.
+     */
+    public SmithyBuild trace(BuildTrace trace) {
+        this.trace = trace;
+        return this;
+    }
 }
@@ -20,17 +20,17 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.Future;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -44,15 +44,24 @@ import software.amazon.smithy.build.model.TransformConfig;
 import software.amazon.smithy.build.transforms.Apply;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.loader.ModelAssembler;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.transform.ModelTransformer;
 import software.amazon.smithy.model.validation.ValidatedResult;
+import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.model.validation.validators.TraitValueValidator;
+import software.amazon.smithy.utils.ListUtils;
+import software.amazon.smithy.utils.OptionalUtils;
 import software.amazon.smithy.utils.Pair;
+import software.amazon.smithy.utils.ParallelUtils;
 import software.amazon.smithy.utils.SmithyBuilder;
 
 final class SmithyBuildImpl {
     private static final Logger LOGGER = Logger.getLogger(SmithyBuild.class.getName());
     private static final Pattern PATTERN = Pattern.compile("^[A-Za-z0-9\\-_.]+$");
+    private static final List<String> VALIDATION_METADATA = ListUtils.of(
+            "validators", "suppressions", TraitValueValidator.VALIDATE_PRELUDE);
 
     private final SmithyBuildConfig config;
     private final Function<Path, FileManifest> fileManifestFactory;
@@ -67,16 +76,27 @@ final class SmithyBuildImpl {
     private final Set<Path> sources;
     private final Predicate<String> projectionFilter;
     private final Predicate<String> pluginFilter;
+    private final boolean incremental;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final TransformPrefixCache transformPrefixCache;
+    private final ModelValidationCache validationCache;
+    private final BuildTrace trace;
 
     SmithyBuildImpl(SmithyBuild builder) {
         config = prepareConfig(SmithyBuilder.requiredState("config", builder.config));
         sources = builder.sources;
-        fileManifestFactory = builder.fileManifestFactory != null
-                ? builder.fileManifestFactory
-                : FileManifest::create;
-        modelAssemblerSupplier = builder.modelAssemblerSupplier != null
-                ? builder.modelAssemblerSupplier
-                : Model::assembler;
+        if (builder.fileManifestFactory != null) {
+            fileManifestFactory = builder.fileManifestFactory;
+        } else if (builder.incremental) {
+            // Unchanged files are left untouched so tools that check modification times see no changes.
+            fileManifestFactory = FileManifest::createWriteIfChanged;
+        } else {
+            fileManifestFactory = FileManifest::create;
+        }
+        executor = createExecutor(builder);
+        ownsExecutor = builder.executor == null;
+        modelAssemblerSupplier = createModelAssemblerSupplier(builder, executor);
         modelTransformer = builder.modelTransformer != null
                 ? builder.modelTransformer
                 : ModelTransformer.create();
@@ -107,6 +127,49 @@ final class SmithyBuildImpl {
         pluginClassLoader = builder.pluginClassLoader;
         projectionFilter = builder.projectionFilter;
         pluginFilter = builder.pluginFilter;
+        incremental = builder.incremental;
+        transformPrefixCache = new TransformPrefixCache(config.getProjections().values());
+        validationCache = new ModelValidationCache(modelAssemblerSupplier);
+        trace = builder.trace;
+    }
+
+    private static ExecutorService createExecutor(SmithyBuild builder) {
+        if (builder.executor != null) {
+            return builder.executor;
+        }
+
+        if (builder.virtualThreads) {
+            Optional<ExecutorService> virtualThreadExecutor = ParallelUtils.newVirtualThreadExecutor();
+            if (virtualThreadExecutor.isPresent()) {
+                return virtualThreadExecutor.get();
+            }
+            LOGGER.warning(() -> String.format(
+                    "Virtual threads are not supported by this runtime; using %d threads", builder.parallelism));
+        }
+
+        // Daemon threads are used so that an abandoned build never prevents the JVM from exiting.
+        return builder.parallelism > 1
+                ? Executors.newFixedThreadPool(builder.parallelism, createThreadFactory())
+                : null;
+    }
+
+    private static ThreadFactory createThreadFactory() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "smithy-build-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static Supplier<ModelAssembler> createModelAssemblerSupplier(
+            SmithyBuild builder,
+            ExecutorService executor
+    ) {
+        Supplier<ModelAssembler> supplier = builder.modelAssemblerSupplier != null
+                ? builder.modelAssemblerSupplier
+                : Model::assembler;
+        return executor == null ? supplier : () -> supplier.get().executor(executor);
     }
 
     private static SmithyBuildConfig prepareConfig(SmithyBuildConfig config) {
@@ -157,13 +220,28 @@ final class SmithyBuildImpl {
             Consumer<ProjectionResult> projectionResultConsumer,
             BiConsumer<String, Throwable> projectionExceptionConsumer
     ) {
-        Model resolvedModel = createBaseModel();
+        try {
+            Model resolvedModel = createBaseModel();
+            PluginScheduler scheduler = new PluginScheduler(executor, pluginFactory);
+            applyAllProjections(resolvedModel, scheduler, projectionResultConsumer, projectionExceptionConsumer);
+        } finally {
+            if (ownsExecutor && executor != null) {
+                executor.shutdown();
+            }
+        }
+    }
 
+    private void applyAllProjections(
+            Model resolvedModel,
+            PluginScheduler scheduler,
+            Consumer<ProjectionResult> projectionResultConsumer,
+            BiConsumer<String, Throwable> projectionExceptionConsumer
+    ) {
         // The projections are being split up here because we need to be able
-        // to break out non-parallelizeable plugins. Right now the only
-        // parallelization that occurs is at the projection level.
-        List<Callable<Void>> parallelProjections = new ArrayList<>();
-        List<String> parallelProjectionNameOrder = new ArrayList<>();
+        // to break out non-parallelizeable plugins. Projections are built in
+        // parallel, and the plugins of each projection are executed by the
+        // plugin scheduler.
+        List<String> parallelProjections = new ArrayList<>();
 
         for (Map.Entry<String, ProjectionConfig> entry : config.getProjections().entrySet()) {
             String name = entry.getKey();
@@ -180,36 +258,31 @@ final class SmithyBuildImpl {
             });
 
             if (isSerial) {
-                executeSerialProjection(resolvedModel, name, config,
+                executeSerialProjection(resolvedModel, scheduler, name, config,
                                         projectionResultConsumer, projectionExceptionConsumer);
             } else {
-                parallelProjectionNameOrder.add(name);
-                parallelProjections.add(() -> {
-                    executeSerialProjection(resolvedModel, name, config,
-                                            projectionResultConsumer, projectionExceptionConsumer);
-                    return null;
-                });
+                parallelProjections.add(name);
             }
         }
 
-        // Common case of only executing a single plugin per/projection.
-        if (parallelProjections.size() == 1) {
-            try {
-                parallelProjections.get(0).call();
-            } catch (Throwable e) {
-                if (e instanceof RuntimeException) {
-                    throw (RuntimeException) e;
-                } else {
-                    throw new RuntimeException(e);
-                }
-            }
-        } else if (!parallelProjections.isEmpty()) {
-            executeParallelProjections(parallelProjections, parallelProjectionNameOrder, projectionExceptionConsumer);
+        Function<String, Void> projectionExecutor = name -> {
+            executeSerialProjection(resolvedModel, scheduler, name, config.getProjections().get(name),
+                                    projectionResultConsumer, projectionExceptionConsumer);
+            return null;
+        };
+
+        if (executor == null) {
+            parallelProjections.forEach(projectionExecutor::apply);
+        } else {
+            // The calling thread builds projections too, and only waits on
+            // projections that have started, so the executor can be bounded.
+            ParallelUtils.map(executor, parallelProjections, projectionExecutor);
         }
     }
 
     private void executeSerialProjection(
             Model resolvedModel,
+            PluginScheduler scheduler,
             String name,
             ProjectionConfig config,
             Consumer<ProjectionResult> projectionResultConsumer,
@@ -220,7 +293,8 @@ final class SmithyBuildImpl {
         ProjectionResult result = null;
 
         try {
-            result = applyProjection(name, config, resolvedModel);
+            result = BuildTrace.span(trace, "projection", name)
+                    .call(() -> applyProjection(name, config, resolvedModel, scheduler));
         } catch (Throwable e) {
             projectionExceptionConsumer.accept(name, e);
         }
@@ -230,45 +304,29 @@ final class SmithyBuildImpl {
         }
     }
 
-    private void executeParallelProjections(
-            List<Callable<Void>> parallelProjections,
-            List<String> parallelProjectionNameOrder,
-            BiConsumer<String, Throwable> projectionExceptionConsumer
-    ) {
-        ExecutorService executor = ForkJoinPool.commonPool();
-
-        try {
-            List<Future<Void>> futures = executor.invokeAll(parallelProjections);
-            // Futures are returned in the same order they were added, so
-            // use the list of ordered names to know which projections failed.
-            for (int i = 0; i < futures.size(); i++) {
-                try {
-                    futures.get(i).get();
-                } catch (ExecutionException e) {
-                    Throwable cause = e.getCause() != null ? e.getCause() : e;
-                    String failedProjectionName = parallelProjectionNameOrder.get(i);
-                    projectionExceptionConsumer.accept(failedProjectionName, cause);
-                }
-            }
-        } catch (InterruptedException e) {
-            throw new SmithyBuildException(e.getMessage(), e);
-        }
-    }
-
     private Model createBaseModel() {
         Model resolvedModel = model;
 
         if (!config.getImports().isEmpty()) {
             LOGGER.fine(() -> "Merging the following imports into the loaded model: " + config.getImports());
-            ModelAssembler assembler = modelAssemblerSupplier.get().addModel(model);
-            config.getImports().forEach(assembler::addImport);
-            resolvedModel = assembler.assemble().unwrap();
+            ValidatedResult<Model> resolvedResult = BuildTrace.span(trace, "build", "imports").call(() -> {
+                ModelAssembler assembler = modelAssemblerSupplier.get().addModel(model);
+                config.getImports().forEach(assembler::addImport);
+                return assembler.assemble();
+            });
+            resolvedModel = resolvedResult.unwrap();
+            validationCache.put(resolvedResult);
         }
 
         return resolvedModel;
     }
 
-    private ProjectionResult applyProjection(String projectionName, ProjectionConfig projection, Model resolvedModel) {
+    private ProjectionResult applyProjection(
+            String projectionName,
+            ProjectionConfig projection,
+            Model resolvedModel,
+            PluginScheduler scheduler
+    ) {
         LOGGER.fine(() -> String.format("Creating the `%s` projection", projectionName));
 
         // Resolve imports.
@@ -276,9 +334,14 @@ final class SmithyBuildImpl {
             LOGGER.fine(() -> String.format(
                     "Merging the following `%s` projection imports into the loaded model: %s",
                     projectionName, projection.getImports()));
-            ModelAssembler assembler = modelAssemblerSupplier.get().addModel(resolvedModel);
-            projection.getImports().forEach(assembler::addImport);
-            ValidatedResult<Model> resolvedResult = assembler.assemble();
+            Model baseModel = resolvedModel;
+            ValidatedResult<Model> resolvedResult = BuildTrace.span(trace, "build", "imports")
+                    .arg("projection", projectionName)
+                    .call(() -> {
+                        ModelAssembler assembler = modelAssemblerSupplier.get().addModel(baseModel);
+                        projection.getImports().forEach(assembler::addImport);
+                        return assembler.assemble();
+                    });
 
             // Fail if the model can't be merged with the imports.
             if (!resolvedResult.getResult().isPresent()) {
@@ -292,6 +355,7 @@ final class SmithyBuildImpl {
             }
 
             resolvedModel = resolvedResult.unwrap();
+            validationCache.put(resolvedResult);
         }
 
         // Create the base directory where all projection artifacts are stored.
@@ -301,33 +365,132 @@ final class SmithyBuildImpl {
         Model projectedModel = applyProjectionTransforms(
                 resolvedModel, resolvedModel, projectionName, Collections.emptySet());
 
-        ValidatedResult<Model> modelResult = modelAssemblerSupplier.get().addModel(projectedModel).assemble();
+        Model validatedModel = resolvedModel;
+        ValidatedResult<Model> modelResult = BuildTrace.span(trace, "validation", projectionName)
+                .call(() -> validateProjection(projectionName, validatedModel, projectedModel));
 
         ProjectionResult.Builder resultBuilder = ProjectionResult.builder()
                 .projectionName(projectionName)
                 .model(projectedModel)
                 .events(modelResult.getValidationEvents());
 
+        // The model is only hashed if an incremental plugin is applied.
+        Supplier<String> modelHash = PluginFingerprint.modelHash(projectedModel);
+
+        Map<String, ObjectNode> plugins = new TreeMap<>();
         for (Map.Entry<String, ObjectNode> entry : resolvePlugins(projection).entrySet()) {
             if (pluginFilter.test(entry.getKey())) {
-                applyPlugin(projectionName, projection, baseProjectionDir, entry.getKey(), entry.getValue(),
-                            projectedModel, resolvedModel, modelResult, resultBuilder);
+                plugins.put(entry.getKey(), entry.getValue());
             }
         }
 
+        Model originalModel = resolvedModel;
+        Map<String, FileManifest> manifests = scheduler.execute(projectionName, plugins.keySet(), pluginName -> {
+            return applyPlugin(projectionName, projection, baseProjectionDir, pluginName, plugins.get(pluginName),
+                               projectedModel, originalModel, modelResult, modelHash);
+        });
+        manifests.forEach(resultBuilder::addPluginManifest);
+
         return resultBuilder.build();
     }
 
+    private ValidatedResult<Model> validateProjection(
+            String projectionName,
+            Model resolvedModel,
+            Model projectedModel
+    ) {
+        if (projectedModel == resolvedModel
+                || !transformsPreserveValidity(projectionName, new HashSet<>())
+                || !hasSameValidationMetadata(resolvedModel, projectedModel)) {
+            return validationCache.validate(projectedModel);
+        }
+
+        // Reuse the events of the resolved model, omitting events for shapes that were removed.
+        LOGGER.fine(() -> String.format(
+                "Reusing the validation events of the resolved model for the `%s` projection", projectionName));
+        List<ValidationEvent> events = new ArrayList<>();
+        for (ValidationEvent event : validationCache.validate(resolvedModel).getValidationEvents()) {
+            if (!event.getShapeId().isPresent() || projectedModel.getShape(event.getShapeId().get()).isPresent()) {
+                events.add(event);
+            }
+        }
+
+        return new ValidatedResult<>(projectedModel, events);
+    }
+
+    // Metadata that configures validators and suppressions has to be unchanged to reuse events.
+    private static boolean hasSameValidationMetadata(Model resolvedModel, Model projectedModel) {
+        for (String key : VALIDATION_METADATA) {
+            if (!resolvedModel.getMetadataProperty(key).equals(projectedModel.getMetadataProperty(key))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean transformsPreserveValidity(String projectionName, Set<String> visiting) {
+        // Cycles are reported when the transforms are applied.
+        if (!visiting.add(projectionName) || !transformers.containsKey(projectionName)) {
+            return false;
+        }
+
+        for (Pair<ObjectNode, ProjectionTransformer> binding : transformers.get(projectionName)) {
+            if (binding.right instanceof Apply) {
+                List<String> applied = getAppliedProjections(binding.left);
+                if (applied == null) {
+                    return false;
+                }
+                for (String appliedProjection : applied) {
+                    if (!transformsPreserveValidity(appliedProjection, visiting)) {
+                        return false;
+                    }
+                }
+            } else if (!binding.right.preservesValidity()) {
+                return false;
+            }
+        }
+
+        visiting.remove(projectionName);
+        return true;
+    }
+
+    // Gets the projections referenced by the settings of an apply transform,
+    // or null if the settings are invalid.
+    private static List<String> getAppliedProjections(ObjectNode settings) {
+        // The deprecated "__args" format is also supported by the apply transform.
+        Optional<ArrayNode> projections = OptionalUtils.or(
+                settings.getMember("__args"), () -> settings.getMember("projections"))
+                .flatMap(Node::asArrayNode);
+
+        if (!projections.isPresent()) {
+            return null;
+        }
+
+        List<String> result = new ArrayList<>();
+        for (Node element : projections.get().getElements()) {
+            if (!element.isStringNode()) {
+                return null;
+            }
+            result.add(element.expectStringNode().getValue());
+        }
+
+        return result;
+    }
+
     private Model applyProjectionTransforms(
             Model inputModel,
             Model originalModel,
             String projectionName,
             Set<String> visited
     ) {
-        // Transform the model and collect the results.
+        // Transform the model and collect the results. Models created by
+        // transforms shared with other projections are only computed once.
+        List<TransformConfig> transformConfigs = config.getProjections().get(projectionName).getTransforms();
+        List<Pair<ObjectNode, ProjectionTransformer>> bindings = transformers.get(projectionName);
         Model projectedModel = inputModel;
 
-        for (Pair<ObjectNode, ProjectionTransformer> transformerBinding : transformers.get(projectionName)) {
+        for (int i = 0; i < bindings.size(); i++) {
+            Pair<ObjectNode, ProjectionTransformer> transformerBinding = bindings.get(i);
             TransformContext context = TransformContext.builder()
                     .model(projectedModel)
                     .originalModel(originalModel)
@@ -337,13 +500,18 @@ final class SmithyBuildImpl {
                     .settings(transformerBinding.left)
                     .visited(visited)
                     .build();
-            projectedModel = transformerBinding.right.transform(context);
+            String transformName = transformConfigs.get(i).getName();
+            projectedModel = transformPrefixCache.get(inputModel, transformConfigs.subList(0, i + 1), visited, () -> {
+                BuildTrace.Span span = BuildTrace.span(trace, "transform", transformName);
+                return span.arg("projection", projectionName).call(() -> transformerBinding.right.transform(context));
+            });
         }
 
         return projectedModel;
     }
 
-    private void applyPlugin(
+    // Returns the manifest of the plugin, or null if the plugin was not applied.
+    private FileManifest applyPlugin(
             String projectionName,
             ProjectionConfig projection,
             Path baseProjectionDir,
@@ -352,7 +520,7 @@ final class SmithyBuildImpl {
             Model projectedModel,
             Model resolvedModel,
             ValidatedResult<Model> modelResult,
-            ProjectionResult.Builder resultBuilder
+            Supplier<String> modelHash
     ) {
         // Create the manifest where plugin artifacts are stored.
         Path pluginBaseDir = baseProjectionDir.resolve(pluginName);
@@ -365,26 +533,49 @@ final class SmithyBuildImpl {
             LOGGER.info(() -> String.format(
                     "Unable to find a plugin for `%s` in the `%s` projection",
                     pluginName, projectionName));
+            return null;
         } else if (resolved.requiresValidModel() && modelResult.isBroken()) {
             LOGGER.fine(() -> String.format(
                     "Skipping `%s` plugin for `%s` projection because the model is broken",
                     pluginName, projectionName));
+            return null;
+        }
+
+        PluginContext context = PluginContext.builder()
+                .model(projectedModel)
+                .originalModel(resolvedModel)
+                .projection(projectionName, projection)
+                .events(modelResult.getValidationEvents())
+                .settings(pluginSettings)
+                .fileManifest(manifest)
+                .pluginClassLoader(pluginClassLoader)
+                .sources(sources)
+                .executor(executor)
+                .build();
+        PluginFingerprint fingerprint = incremental && resolved.isIncremental()
+                ? PluginFingerprint.create(resolved, context, baseProjectionDir, modelHash).orElse(null)
+                : null;
+
+        if (fingerprint != null && fingerprint.addCachedFiles(manifest)) {
+            LOGGER.info(() -> String.format(
+                    "Skipping `%s` plugin for `%s` projection because it is up-to-date",
+                    pluginName, projectionName));
         } else {
             LOGGER.info(() -> String.format(
                     "Applying `%s` plugin to `%s` projection",
                     pluginName, projectionName));
-            resolved.execute(PluginContext.builder()
-                    .model(projectedModel)
-                    .originalModel(resolvedModel)
-                    .projection(projectionName, projection)
-                    .events(modelResult.getValidationEvents())
-                    .settings(pluginSettings)
-                    .fileManifest(manifest)
-                    .pluginClassLoader(pluginClassLoader)
-                    .sources(sources)
-                    .build());
-            resultBuilder.addPluginManifest(pluginName, manifest);
+            if (fingerprint != null) {
+                fingerprint.delete();
+            }
+            BuildTrace.span(trace, "plugin", pluginName)
+                    .arg("projection", projectionName)
+                    .run(() -> resolved.execute(context));
+            if (fingerprint != null) {
+                fingerprint.write(manifest);
+            }
         }
+
+        return manifest;
     }
 
     private Map<String, ObjectNode> resolvePlugins(ProjectionConfig projection) {
@@ -16,9 +16,11 @@
 package software.amazon.smithy.build;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -63,6 +65,58 @@ public interface SmithyBuildPlugin {
         return false;
     }
 
+    /**
+     * Gets the names of the plugins that must complete before this plugin
+     * is executed when they are applied to the same projection.
+     *
+     * <p>Plugins of a projection are executed concurrently unless they are
+     * serial or depend on one another. Dependencies that aren't applied to
+     * the projection are ignored, and this plugin is still executed if a
+     * dependency isn't found.
+     *
+     * <p>By default plugins have no dependencies.
+     *
+     * @return Returns the names of the plugins this plugin depends on.
+     */
+    default Set<String> getDependencies() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Plugins can choose whether or not they can be skipped by incremental
+     * builds when their inputs haven't changed since they were last executed.
+     *
+     * <p>The inputs of a plugin are the projected model, the validation
+     * events and configuration of the projection, the settings of the plugin,
+     * and the {@link #getImplementationVersion() implementation version} of
+     * the plugin. Plugins without an implementation version are always
+     * executed. Plugins that create artifacts based on anything else, like
+     * source files or services discovered using the plugin ClassLoader,
+     * must not be incremental.
+     *
+     * <p>By default plugins are always executed.
+     *
+     * @return Returns true if the plugin can be skipped when its inputs
+     *  haven't changed.
+     * @see SmithyBuild#incremental
+     */
+    default boolean isIncremental() {
+        return false;
+    }
+
+    /**
+     * Gets the version of the plugin's implementation.
+     *
+     * <p>Incremental builds execute the plugin again when this version
+     * changes. By default, this is the Implementation-Version attribute of
+     * the manifest of the JAR that contains the plugin.
+     *
+     * @return Returns the optional implementation version.
+     */
+    default Optional<String> getImplementationVersion() {
+        return Optional.ofNullable(getClass().getPackage()).map(Package::getImplementationVersion);
+    }
+
     /**
      * Executes the plugin, creating any number of artifacts.
      *
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import software.amazon.smithy.build.model.ProjectionConfig;
+import software.amazon.smithy.build.model.TransformConfig;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.utils.Pair;
+
+/**
+ * Shares the models created by transform prefixes that are used by more
+ * than one projection.
+ *
+ * <p>A transform prefix is the ordered list of the names and settings of
+ * the leading transforms of a projection. The model created by a prefix
+ * is computed once for each input model and set of visited projections,
+ * and is reused by every other projection that starts with the same
+ * prefix. Prefixes that are only used by a single projection are not
+ * cached.
+ *
+ * <p>Only a single thread computes each model. Other threads that need
+ * the same model wait for it to be computed. Computing a model only ever
+ * waits on models that are computed with a larger set of visited
+ * projections, so threads can't wait on each other in a cycle.
+ */
+final class TransformPrefixCache {
+
+    private final Set<List<Pair<String, ObjectNode>>> sharedPrefixes;
+    private final Map<Key, CompletableFuture<Model>> models = new ConcurrentHashMap<>();
+
+    TransformPrefixCache(Collection<ProjectionConfig> projections) {
+        Set<List<Pair<String, ObjectNode>>> seen = new HashSet<>();
+        Set<List<Pair<String, ObjectNode>>> shared = new HashSet<>();
+
+        for (ProjectionConfig projection : projections) {
+            List<Pair<String, ObjectNode>> prefix = new ArrayList<>();
+            for (TransformConfig transform : projection.getTransforms()) {
+                prefix.add(Pair.of(transform.getName(), transform.getArgs()));
+                if (!seen.add(new ArrayList<>(prefix))) {
+                    shared.add(new ArrayList<>(prefix));
+                }
+            }
+        }
+
+        sharedPrefixes = shared;
+    }
+
+    /**
+     * Gets the model created by applying the given transforms to a model.
+     *
+     * @param inputModel Model the transforms are applied to.
+     * @param prefix Transforms that create the model.
+     * @param visited Projections visited by the apply transform.
+     * @param transform Computes the model if it isn't cached.
+     * @return Returns the transformed model.
+     */
+    Model get(Model inputModel, List<TransformConfig> prefix, Set<String> visited, Supplier<Model> transform) {
+        List<Pair<String, ObjectNode>> prefixKey = new ArrayList<>(prefix.size());
+        for (TransformConfig transformConfig : prefix) {
+            prefixKey.add(Pair.of(transformConfig.getName(), transformConfig.getArgs()));
+        }
+
+        if (!sharedPrefixes.contains(prefixKey)) {
+            return transform.get();
+        }
+
+        Key key = new Key(inputModel, prefixKey, visited);
+        CompletableFuture<Model> future = new CompletableFuture<>();
+        CompletableFuture<Model> existing = models.putIfAbsent(key, future);
+
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            Model result = transform.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            // Failures aren't cached so that they're reported by each projection.
+            models.remove(key);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static final class Key {
+        private final Model inputModel;
+        private final List<Pair<String, ObjectNode>> prefix;
+        private final Set<String> visited;
+        private final int hash;
+
+        Key(Model inputModel, List<Pair<String, ObjectNode>> prefix, Set<String> visited) {
+            this.inputModel = inputModel;
+            this.prefix = prefix;
+            this.visited = new HashSet<>(visited);
+            hash = Objects.hash(System.identityHashCode(inputModel), prefix, this.visited);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            } else if (!(o instanceof Key)) {
+                return false;
+            }
+
+            // Models are compared by identity since comparing them by value
+            // would cost more than applying most transforms.
+            Key other = (Key) o;
+            return inputModel == other.inputModel && prefix.equals(other.prefix) && visited.equals(other.visited);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
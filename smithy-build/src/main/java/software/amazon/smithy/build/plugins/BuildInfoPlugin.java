@@ -53,6 +53,11 @@ public final class BuildInfoPlugin implements SmithyBuildPlugin {
         return false;
     }
 
+    @Override
+    public boolean isIncremental() {
+        return true;
+    }
+
     @Override
     public void execute(PluginContext context) {
         if (context.getOriginalModel().isPresent() && context.getProjection().isPresent()) {
@@ -32,6 +32,11 @@ public final class ModelPlugin implements SmithyBuildPlugin {
         return NAME;
     }
 
+    @Override
+    public boolean isIncremental() {
+        return true;
+    }
+
     @Override
     public void execute(PluginContext context) {
         context.getFileManifest().writeJson("model.json", serializeModel(context.getModel()));
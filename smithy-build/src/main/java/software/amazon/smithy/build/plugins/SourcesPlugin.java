@@ -35,7 +35,6 @@ import software.amazon.smithy.model.loader.ModelDiscovery;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.shapes.ModelSerializer;
 import software.amazon.smithy.model.validation.ValidationUtils;
-import software.amazon.smithy.utils.IoUtils;
 import software.amazon.smithy.utils.ListUtils;
 
 /**
@@ -122,7 +121,9 @@ public final class SourcesPlugin implements SmithyBuildPlugin {
                 } else {
                     // Account for just a simple file vs recursing into directories.
                     Path target = root.equals(current) ? current.getFileName() : root.relativize(current);
-                    copyFile(names, manifest, target, IoUtils.readUtf8File(current));
+                    try (InputStream is = Files.newInputStream(current)) {
+                        copyFile(names, manifest, target, is);
+                    }
                 }
             }
         } catch (IOException e) {
@@ -130,7 +131,8 @@ public final class SourcesPlugin implements SmithyBuildPlugin {
         }
     }
 
-    private static void copyFile(List<String> names, FileManifest manifest, Path target, String contents) {
+    // Sources are copied as bytes rather than decoded and re-encoded as strings.
+    private static void copyFile(List<String> names, FileManifest manifest, Path target, InputStream contents) {
         // Path#getFileName might return null.
         if (target == null) {
             return;
@@ -174,7 +176,7 @@ public final class SourcesPlugin implements SmithyBuildPlugin {
             Path target = Paths.get(prefix + name);
             LOGGER.finer(() -> "Copying " + name + " from JAR to " + target);
             try (InputStream is = model.openStream()) {
-                copyFile(names, manifest, target, IoUtils.toUtf8String(is));
+                copyFile(names, manifest, target, is);
             }
         }
     }
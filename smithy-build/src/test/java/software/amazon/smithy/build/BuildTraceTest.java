@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.build;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.build.model.SmithyBuildConfig;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.utils.IoUtils;
+
+public class BuildTraceTest {
+    @Test
+    public void recordsNestedSpans() {
+        BuildTrace trace = new BuildTrace();
+
+        trace.span("test", "outer").run(() -> trace.span("test", "inner").arg("foo", "bar").run(Thread::yield));
+
+        List<ObjectNode> spans = getSpans(trace.toNode());
+        ObjectNode outer = spans.get(0);
+        ObjectNode inner = spans.get(1);
+        long outerStart = outer.expectNumberMember("ts").getValue().longValue();
+        long outerEnd = outerStart + outer.expectNumberMember("dur").getValue().longValue();
+        long innerStart = inner.expectNumberMember("ts").getValue().longValue();
+        long innerEnd = innerStart + inner.expectNumberMember("dur").getValue().longValue();
+
+        assertThat(spans.stream().map(span -> span.expectStringMember("name").getValue()).collect(Collectors.toList()),
+                   contains("outer", "inner"));
+        assertThat(inner.expectStringMember("ph").getValue(), equalTo("X"));
+        assertThat(inner.expectObjectMember("args").expectStringMember("foo").getValue(), equalTo("bar"));
+        assertThat(inner.expectNumberMember("tid"), equalTo(outer.expectNumberMember("tid")));
+        assertThat(innerStart, greaterThanOrEqualTo(outerStart));
+        assertThat(innerEnd, lessThanOrEqualTo(outerEnd));
+    }
+
+    @Test
+    public void closesSpansWhenActionsFail() {
+        BuildTrace trace = new BuildTrace();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> trace.span("test", "a").call(() -> {
+            throw new IllegalStateException();
+        }));
+
+        assertThat(getSpans(trace.toNode()).size(), equalTo(1));
+    }
+
+    @Test
+    public void spansWithoutTraceRecordNothing() {
+        BuildTrace.Span span = BuildTrace.span(null, "test", "a");
+
+        assertThat(span.arg("foo", "bar"), sameInstance(span));
+        assertThat(span.call(() -> "result"), equalTo("result"));
+        assertThat(BuildTrace.span(null, "test", "b"), sameInstance(span));
+    }
+
+    @Test
+    public void recordsBuildSpans() throws IOException {
+        Path outputDirectory = Files.createTempDirectory(getClass().getName());
+        try {
+            BuildTrace trace = new BuildTrace();
+            new SmithyBuild()
+                    .config(SmithyBuildConfig.builder().version(SmithyBuild.VERSION).build())
+                    .model(Model.builder().build())
+                    .outputDirectory(outputDirectory)
+                    .trace(trace)
+                    .build();
+            Path traceFile = outputDirectory.resolve("trace.json");
+            trace.write(traceFile);
+
+            List<String> names = getSpans(Node.parse(IoUtils.readUtf8File(traceFile)).expectObjectNode()).stream()
+                    .map(span -> span.expectStringMember("cat").getValue() + ":"
+                                 + span.expectStringMember("name").getValue())
+                    .collect(Collectors.toList());
+
+            assertThat(names, hasItem("projection:source"));
+            assertThat(names, hasItem("validation:source"));
+            assertThat(names, hasItem("plugin:model"));
+        } finally {
+            Files.walk(outputDirectory).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    private static List<ObjectNode> getSpans(ObjectNode trace) {
+        return trace.expectArrayMember("traceEvents").getElementsAs(ObjectNode.class).stream()
+                .filter(event -> event.expectStringMember("ph").getValue().equals("X"))
+                .collect(Collectors.toList());
+    }
+}
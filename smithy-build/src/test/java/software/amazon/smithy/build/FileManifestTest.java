@@ -19,16 +19,23 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -118,4 +125,42 @@ public class FileManifestTest {
 
         assertThat(Files.isRegularFile(outputDirectory.resolve("test.txt")), is(true));
     }
+
+    @Test
+    public void skipsWritingUnchangedFiles() throws IOException {
+        FileManifest a = FileManifest.createWriteIfChanged(outputDirectory);
+        Path file = a.writeFile("foo/file.txt", "The contents");
+        FileTime modified = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(file, modified);
+
+        a.writeFile("foo/file.txt", "The contents");
+        a.writeFile("foo/file.txt", new StringReader("The contents"));
+        a.writeFile("foo/file.txt", new ByteArrayInputStream("The contents".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(Files.getLastModifiedTime(file), equalTo(modified));
+
+        a.writeFile("foo/file.txt", "New contents");
+
+        assertThat(Files.getLastModifiedTime(file), not(equalTo(modified)));
+        assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), equalTo("New contents"));
+    }
+
+    @Test
+    public void writesBatchesOfFiles() throws IOException {
+        FileManifest a = FileManifest.create(outputDirectory);
+        Map<Path, String> files = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            files.put(Paths.get("dir" + (i % 3), "file" + i + ".txt"), "contents " + i);
+        }
+
+        List<Path> written = a.writeFiles(files);
+
+        assertThat(written, hasSize(20));
+        for (int i = 0; i < 20; i++) {
+            Path file = outputDirectory.resolve(Paths.get("dir" + (i % 3), "file" + i + ".txt"));
+            assertThat(written.get(i), equalTo(file));
+            assertThat(a.hasFile(file), is(true));
+            assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), equalTo("contents " + i));
+        }
+    }
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.build;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.utils.ListUtils;
+import software.amazon.smithy.utils.SetUtils;
+
+public class PluginSchedulerTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void before() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void after() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void executesPluginsConcurrently() {
+        PluginScheduler scheduler = new PluginScheduler(executor, factory(
+                new TestPlugin("a", false), new TestPlugin("b", false)));
+        CyclicBarrier barrier = new CyclicBarrier(2);
+
+        // Each plugin waits for the other to start, so this only completes if they run concurrently.
+        Map<String, FileManifest> result = scheduler.execute("source", ListUtils.of("a", "b"), name -> {
+            try {
+                barrier.await(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+            return new MockManifest();
+        });
+
+        assertThat(result.keySet(), contains("a", "b"));
+    }
+
+    @Test
+    public void executesDependenciesFirst() {
+        PluginScheduler scheduler = new PluginScheduler(executor, factory(
+                new TestPlugin("a", false, "b"), new TestPlugin("b", false, "c", "missing"),
+                new TestPlugin("c", false)));
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+
+        Map<String, FileManifest> result = scheduler.execute("source", ListUtils.of("a", "b", "c"), name -> {
+            order.add(name);
+            return new MockManifest();
+        });
+
+        assertThat(order, contains("c", "b", "a"));
+        assertThat(result.keySet(), contains("c", "b", "a"));
+    }
+
+    @Test
+    public void isolatesSerialPlugins() {
+        PluginScheduler scheduler = new PluginScheduler(executor, factory(
+                new TestPlugin("a", false), new TestPlugin("b", true), new TestPlugin("c", false)));
+        Thread callingThread = Thread.currentThread();
+        AtomicInteger running = new AtomicInteger();
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+
+        scheduler.execute("source", ListUtils.of("a", "b", "c"), name -> {
+            if (name.equals("b")) {
+                assertThat(Thread.currentThread(), equalTo(callingThread));
+                assertThat(running.get(), equalTo(0));
+            }
+            running.incrementAndGet();
+            order.add(name);
+            running.decrementAndGet();
+            return new MockManifest();
+        });
+
+        assertThat(order, contains("a", "b", "c"));
+    }
+
+    @Test
+    public void doesNotDeadlockWhenScheduledOnBoundedExecutor() throws Exception {
+        ExecutorService singleThread = Executors.newSingleThreadExecutor();
+        PluginScheduler scheduler = new PluginScheduler(singleThread, factory(
+                new TestPlugin("a", false), new TestPlugin("b", false), new TestPlugin("c", false, "a")));
+
+        try {
+            Future<Map<String, FileManifest>> future = singleThread.submit(() -> {
+                return scheduler.execute("source", ListUtils.of("a", "b", "c"), name -> new MockManifest());
+            });
+
+            assertThat(future.get(5, TimeUnit.SECONDS).keySet(), contains("a", "b", "c"));
+        } finally {
+            singleThread.shutdownNow();
+        }
+    }
+
+    @Test
+    public void executesOnCallingThreadWithoutExecutor() {
+        PluginScheduler scheduler = new PluginScheduler(null, factory(
+                new TestPlugin("a", false), new TestPlugin("b", false)));
+        Thread callingThread = Thread.currentThread();
+        List<String> order = new ArrayList<>();
+
+        scheduler.execute("source", ListUtils.of("a", "b"), name -> {
+            assertThat(Thread.currentThread(), equalTo(callingThread));
+            order.add(name);
+            return new MockManifest();
+        });
+
+        assertThat(order, contains("a", "b"));
+    }
+
+    @Test
+    public void omitsPluginsThatWereNotApplied() {
+        PluginScheduler scheduler = new PluginScheduler(executor, factory(new TestPlugin("a", false)));
+
+        Map<String, FileManifest> result = scheduler.execute("source", ListUtils.of("a", "unknown"), name -> {
+            return name.equals("a") ? new MockManifest() : null;
+        });
+
+        assertThat(result.keySet(), contains("a"));
+    }
+
+    @Test
+    public void skipsDependentsOfFailedPlugins() {
+        PluginScheduler scheduler = new PluginScheduler(executor, factory(
+                new TestPlugin("a", false, "b"), new TestPlugin("b", false), new TestPlugin("c", false)));
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+        SmithyBuildException e = assertThrows(SmithyBuildException.class, () -> {
+            scheduler.execute("source", ListUtils.of("a", "b", "c"), name -> {
+                executed.add(name);
+                if (name.equals("b")) {
+                    throw new SmithyBuildException("Failed");
+                }
+                return new MockManifest();
+            });
+        });
+
+        assertThat(e.getMessage(), equalTo("Failed"));
+        assertThat(executed, containsInAnyOrder("b", "c"));
+    }
+
+    @Test
+    public void detectsCircularDependencies() {
+        PluginScheduler scheduler = new PluginScheduler(executor, factory(
+                new TestPlugin("a", false, "b"), new TestPlugin("b", false, "a")));
+
+        assertThrows(SmithyBuildException.class, () -> {
+            scheduler.execute("source", ListUtils.of("a", "b"), name -> new MockManifest());
+        });
+    }
+
+    private static Function<String, Optional<SmithyBuildPlugin>> factory(TestPlugin... plugins) {
+        Map<String, SmithyBuildPlugin> pluginMap = new HashMap<>();
+        for (TestPlugin plugin : plugins) {
+            pluginMap.put(plugin.getName(), plugin);
+        }
+        return name -> Optional.ofNullable(pluginMap.get(name));
+    }
+
+    private static final class TestPlugin implements SmithyBuildPlugin {
+        private final String name;
+        private final boolean serial;
+        private final Set<String> dependencies;
+
+        TestPlugin(String name, boolean serial, String... dependencies) {
+            this.name = name;
+            this.serial = serial;
+            this.dependencies = SetUtils.of(dependencies);
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean isSerial() {
+            return serial;
+        }
+
+        @Override
+        public Set<String> getDependencies() {
+            return dependencies;
+        }
+
+        @Override
+        public void execute(PluginContext context) {
+        }
+    }
+}
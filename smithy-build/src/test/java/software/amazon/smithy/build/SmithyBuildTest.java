@@ -16,6 +16,7 @@
 package software.amazon.smithy.build;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
@@ -31,11 +32,16 @@ import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.AfterEach;
@@ -49,9 +55,12 @@ import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StringShape;
 import software.amazon.smithy.model.traits.DocumentationTrait;
 import software.amazon.smithy.model.traits.SensitiveTrait;
 import software.amazon.smithy.model.traits.TagsTrait;
+import software.amazon.smithy.model.validation.Severity;
+import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.utils.IoUtils;
 import software.amazon.smithy.utils.ListUtils;
 import software.amazon.smithy.utils.MapUtils;
@@ -297,6 +306,322 @@ public class SmithyBuildTest {
         assertTrue(b.getPluginManifest("test2").get().hasFile("hello2"));
     }
 
+    @Test
+    public void skipsUpToDateIncrementalPlugins() throws Exception {
+        TestIncrementalPlugin plugin = new TestIncrementalPlugin();
+        SmithyBuildConfig config = SmithyBuildConfig.builder()
+                .version(SmithyBuild.VERSION)
+                .outputDirectory(outputDirectory.toString())
+                .plugins(MapUtils.of("incremental", Node.objectNode()))
+                .build();
+        Function<Model, SmithyBuildResult> build = model -> new SmithyBuild()
+                .config(config)
+                .model(model)
+                .pluginFactory(name -> name.equals(plugin.getName()) ? Optional.of(plugin) : Optional.empty())
+                .incremental(true)
+                .build();
+        Path artifact = outputDirectory.resolve("source/incremental/nested/hello");
+        Model model = Model.builder().build();
+
+        build.apply(model);
+        SmithyBuildResult result = build.apply(model);
+
+        assertThat(plugin.executions.get(), equalTo(1));
+        assertThat(result.getProjectionResult("source").get().getPluginManifest("incremental").get().getFiles(),
+                   contains(artifact));
+
+        // Plugins whose artifacts were deleted are executed again.
+        Files.delete(artifact);
+        build.apply(model);
+
+        assertThat(plugin.executions.get(), equalTo(2));
+        assertTrue(Files.isRegularFile(artifact));
+
+        // Plugins are executed again when the model changes.
+        build.apply(Model.builder().addShape(StringShape.builder().id("smithy.example#Foo").build()).build());
+
+        assertThat(plugin.executions.get(), equalTo(3));
+        assertThat(IoUtils.readUtf8File(artifact), equalTo("shapes: 1"));
+    }
+
+    @Test
+    public void executesIncrementalPluginsWhenNotIncremental() throws Exception {
+        TestIncrementalPlugin plugin = new TestIncrementalPlugin();
+        SmithyBuild builder = new SmithyBuild()
+                .config(SmithyBuildConfig.builder()
+                        .version(SmithyBuild.VERSION)
+                        .outputDirectory(outputDirectory.toString())
+                        .plugins(MapUtils.of("incremental", Node.objectNode()))
+                        .build())
+                .pluginFactory(name -> name.equals(plugin.getName()) ? Optional.of(plugin) : Optional.empty());
+
+        builder.build();
+        builder.build();
+
+        assertThat(plugin.executions.get(), equalTo(2));
+        assertFalse(Files.exists(outputDirectory.resolve("source/.fingerprints")));
+    }
+
+    @Test
+    public void buildsProjectionsOnProvidedExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        List<ExecutorService> pluginExecutors = Collections.synchronizedList(new ArrayList<>());
+        SmithyBuildPlugin plugin = new SmithyBuildPlugin() {
+            @Override
+            public String getName() {
+                return "executor";
+            }
+
+            @Override
+            public void execute(PluginContext context) {
+                pluginExecutors.add(context.getExecutor().orElse(null));
+            }
+        };
+        SmithyBuildConfig config = SmithyBuildConfig.builder()
+                .version(SmithyBuild.VERSION)
+                .projections(MapUtils.of("a", ProjectionConfig.builder().build(),
+                                         "b", ProjectionConfig.builder().build()))
+                .plugins(MapUtils.of("executor", Node.objectNode()))
+                .build();
+
+        try {
+            SmithyBuildResult result = new SmithyBuild()
+                    .config(config)
+                    .fileManifestFactory(MockManifest::new)
+                    .pluginFactory(name -> name.equals(plugin.getName()) ? Optional.of(plugin) : Optional.empty())
+                    .executor(executor)
+                    .build();
+
+            assertThat(result.getProjectionResultsMap().keySet(), containsInAnyOrder("source", "a", "b"));
+            assertThat(pluginExecutors, contains(executor, executor, executor));
+            assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void sharesTransformPrefixesBetweenProjections() {
+        AtomicInteger transforms = new AtomicInteger();
+        ProjectionTransformer counter = new ProjectionTransformer() {
+            @Override
+            public String getName() {
+                return "counter";
+            }
+
+            @Override
+            public Model transform(TransformContext context) {
+                transforms.incrementAndGet();
+                return context.getModel();
+            }
+        };
+        TransformConfig count = TransformConfig.builder().name("counter").build();
+        TransformConfig applyCommon = TransformConfig.builder()
+                .name("apply")
+                .args(Node.objectNode().withMember("projections", Node.fromStrings("common")))
+                .build();
+        SmithyBuildConfig config = SmithyBuildConfig.builder()
+                .version(SmithyBuild.VERSION)
+                .projections(MapUtils.of(
+                        "common", ProjectionConfig.builder().setAbstract(true).transforms(ListUtils.of(count)).build(),
+                        "a", ProjectionConfig.builder().transforms(ListUtils.of(applyCommon, count)).build(),
+                        "b", ProjectionConfig.builder().transforms(ListUtils.of(applyCommon)).build()))
+                .build();
+        SmithyBuildResult results = new SmithyBuild()
+                .config(config)
+                .model(Model.builder().build())
+                .fileManifestFactory(MockManifest::new)
+                .transformFactory(name -> name.equals("counter") ? Optional.of(counter) : Optional.empty())
+                .build();
+
+        // The "common" transforms are only applied once for both projections.
+        assertThat(transforms.get(), equalTo(2));
+        assertThat(results.getProjectionResult("a").get().getModel(),
+                   equalTo(results.getProjectionResult("b").get().getModel()));
+    }
+
+    @Test
+    public void reusesValidationEventsOfProjectionsThatPreserveValidity() {
+        Model model = Model.assembler()
+                .addUnparsedModel("test.smithy", "metadata validators = [{\n"
+                                                 + "name: \"EmitEachSelector\",\n"
+                                                 + "id: \"Foo\",\n"
+                                                 + "severity: \"WARNING\",\n"
+                                                 + "configuration: {selector: \"string\"}}]\n"
+                                                 + "namespace smithy.example\n"
+                                                 + "string Unused\n")
+                .assemble()
+                .unwrap();
+        ProjectionTransformer removeUnused = new ProjectionTransformer() {
+            @Override
+            public String getName() {
+                return "removeUnused";
+            }
+
+            @Override
+            public boolean preservesValidity() {
+                return true;
+            }
+
+            @Override
+            public Model transform(TransformContext context) {
+                return context.getTransformer().filterShapes(context.getModel(),
+                        shape -> !shape.getId().equals(ShapeId.from("smithy.example#Unused")));
+            }
+        };
+        SmithyBuildConfig config = SmithyBuildConfig.builder()
+                .version(SmithyBuild.VERSION)
+                .projections(MapUtils.of(
+                        "a", ProjectionConfig.builder()
+                                .transforms(ListUtils.of(TransformConfig.builder().name("removeUnused").build()))
+                                .build(),
+                        "b", ProjectionConfig.builder().build()))
+                .build();
+        AtomicInteger assemblies = new AtomicInteger();
+        SmithyBuildResult results = new SmithyBuild()
+                .config(config)
+                .model(model)
+                .fileManifestFactory(MockManifest::new)
+                .transformFactory(name -> name.equals("removeUnused") ? Optional.of(removeUnused) : Optional.empty())
+                .modelAssemblerSupplier(() -> {
+                    assemblies.incrementAndGet();
+                    return Model.assembler();
+                })
+                .build();
+        Function<String, List<String>> eventIds = name -> results.getProjectionResult(name).get().getEvents().stream()
+                .map(ValidationEvent::getId)
+                .collect(Collectors.toList());
+
+        // The model is only validated once, and events of removed shapes are omitted.
+        assertThat(assemblies.get(), equalTo(1));
+        assertThat(eventIds.apply("source"), hasItem("Foo"));
+        assertThat(eventIds.apply("b"), equalTo(eventIds.apply("source")));
+        assertThat(eventIds.apply("a"), not(hasItem("Foo")));
+    }
+
+    @Test
+    public void reusesValidationEventsOfProjectionsThatFilterMetadata() {
+        SmithyBuildConfig config = SmithyBuildConfig.builder()
+                .version(SmithyBuild.VERSION)
+                .projections(MapUtils.of(
+                        "a", ProjectionConfig.builder()
+                                .transforms(ListUtils.of(TransformConfig.builder()
+                                        .name("excludeMetadata")
+                                        .args(Node.objectNode().withMember("keys", Node.fromStrings("foo")))
+                                        .build()))
+                                .build(),
+                        "b", ProjectionConfig.builder()
+                                .transforms(ListUtils.of(TransformConfig.builder()
+                                        .name("includeMetadata")
+                                        .args(Node.objectNode().withMember("keys", Node.fromStrings("validators")))
+                                        .build()))
+                                .build()))
+                .build();
+        AtomicInteger assemblies = new AtomicInteger();
+        SmithyBuildResult results = new SmithyBuild()
+                .config(config)
+                .model(createModelWithMetadataValidator())
+                .fileManifestFactory(MockManifest::new)
+                .modelAssemblerSupplier(() -> {
+                    assemblies.incrementAndGet();
+                    return Model.assembler();
+                })
+                .build();
+
+        // Only the source model is validated.
+        assertThat(assemblies.get(), equalTo(1));
+        assertThat(results.getProjectionResult("a").get().getModel().getMetadataProperty("foo").isPresent(),
+                   is(false));
+        assertThat(results.getProjectionResult("a").get().getEvents(),
+                   equalTo(results.getProjectionResult("source").get().getEvents()));
+        assertThat(results.getProjectionResult("b").get().getEvents(),
+                   equalTo(results.getProjectionResult("source").get().getEvents()));
+    }
+
+    @Test
+    public void revalidatesProjectionsThatRemoveValidationMetadata() {
+        SmithyBuildConfig config = SmithyBuildConfig.builder()
+                .version(SmithyBuild.VERSION)
+                .projections(MapUtils.of("a", ProjectionConfig.builder()
+                        .transforms(ListUtils.of(TransformConfig.builder()
+                                .name("excludeMetadata")
+                                .args(Node.objectNode().withMember("keys", Node.fromStrings("validators")))
+                                .build()))
+                        .build()))
+                .build();
+        AtomicInteger assemblies = new AtomicInteger();
+        SmithyBuildResult results = new SmithyBuild()
+                .config(config)
+                .model(createModelWithMetadataValidator())
+                .fileManifestFactory(MockManifest::new)
+                .modelAssemblerSupplier(() -> {
+                    assemblies.incrementAndGet();
+                    return Model.assembler();
+                })
+                .build();
+
+        assertThat(assemblies.get(), equalTo(2));
+        assertThat(results.getProjectionResult("source").get().getEvents().stream()
+                           .map(ValidationEvent::getId)
+                           .collect(Collectors.toList()),
+                   hasItem("Foo"));
+        assertThat(results.getProjectionResult("a").get().getEvents().stream()
+                           .map(ValidationEvent::getId)
+                           .collect(Collectors.toList()),
+                   not(hasItem("Foo")));
+    }
+
+    private static Model createModelWithMetadataValidator() {
+        return Model.assembler()
+                .addUnparsedModel("test.smithy", "metadata validators = [{\n"
+                                                 + "name: \"EmitEachSelector\",\n"
+                                                 + "id: \"Foo\",\n"
+                                                 + "severity: \"WARNING\",\n"
+                                                 + "configuration: {selector: \"string\"}}]\n"
+                                                 + "metadata foo = \"bar\"\n"
+                                                 + "namespace smithy.example\n"
+                                                 + "string Example\n")
+                .assemble()
+                .unwrap();
+    }
+
+    @Test
+    public void revalidatesProjectionsThatRemoveUnusedShapes() {
+        Model model = Model.assembler()
+                .addUnparsedModel("test.smithy", "namespace smithy.example\n"
+                                                 + "@trait\n"
+                                                 + "@idRef(failWhenMissing: true)\n"
+                                                 + "string ref\n"
+                                                 + "@ref(\"smithy.example#Target\")\n"
+                                                 + "service Service { version: \"1\" }\n"
+                                                 + "string Target\n")
+                .assemble()
+                .unwrap();
+        SmithyBuildConfig config = SmithyBuildConfig.builder()
+                .version(SmithyBuild.VERSION)
+                .projections(MapUtils.of("a", ProjectionConfig.builder()
+                        .transforms(ListUtils.of(TransformConfig.builder().name("removeUnusedShapes").build()))
+                        .build()))
+                .build();
+        SmithyBuildResult results = new SmithyBuild()
+                .config(config)
+                .model(model)
+                .fileManifestFactory(MockManifest::new)
+                .build();
+        ProjectionResult result = results.getProjectionResult("a").get();
+        Optional<ShapeId> service = Optional.of(ShapeId.from("smithy.example#Service"));
+
+        // The Walker doesn't follow idRef values, so the target is removed
+        // and the projected model has to be validated again.
+        assertThat(result.getModel().getShape(ShapeId.from("smithy.example#Target")).isPresent(), is(false));
+        assertThat(result.isBroken(), is(true));
+        assertThat(result.getEvents().stream()
+                           .filter(event -> event.getShapeId().equals(service))
+                           .map(ValidationEvent::getSeverity)
+                           .collect(Collectors.toList()),
+                   hasItem(Severity.ERROR));
+    }
+
     @Test
     public void appliesSerialPlugins() throws Exception {
         Map<String, SmithyBuildPlugin> plugins = MapUtils.of(
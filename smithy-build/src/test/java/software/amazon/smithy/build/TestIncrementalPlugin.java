@@ -0,0 +1,44 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.build;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class TestIncrementalPlugin implements SmithyBuildPlugin {
+    final AtomicInteger executions = new AtomicInteger();
+
+    @Override
+    public String getName() {
+        return "incremental";
+    }
+
+    @Override
+    public boolean isIncremental() {
+        return true;
+    }
+
+    @Override
+    public Optional<String> getImplementationVersion() {
+        return Optional.of("1.0");
+    }
+
+    @Override
+    public void execute(PluginContext context) {
+        executions.incrementAndGet();
+        context.getFileManifest().writeFile("nested/hello", "shapes: " + context.getModel().toSet().size());
+    }
+}
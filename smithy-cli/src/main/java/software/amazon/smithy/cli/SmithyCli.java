@@ -28,7 +28,9 @@ import software.amazon.smithy.cli.commands.ValidateCommand;
 public final class SmithyCli {
     public static final String DISCOVER = "--discover";
     public static final String DISCOVER_CLASSPATH = "--discover-classpath";
+    public static final String DISCOVER_INDEX = "--discover-index";
     public static final String ALLOW_UNKNOWN_TRAITS = "--allow-unknown-traits";
+    public static final String MAX_ERRORS = "--max-errors";
 
     private ClassLoader classLoader = getClass().getClassLoader();
 
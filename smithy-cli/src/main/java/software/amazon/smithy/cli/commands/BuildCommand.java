@@ -27,6 +27,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
+import software.amazon.smithy.build.BuildTrace;
 import software.amazon.smithy.build.FileManifest;
 import software.amazon.smithy.build.ProjectionResult;
 import software.amazon.smithy.build.SmithyBuild;
@@ -67,7 +68,12 @@ public final class BuildCommand implements Command {
                 .parameter("--plugin", "Smithy will only generate artifacts for the given plugin name.")
                 .option(SmithyCli.DISCOVER, "-d", "Enables model discovery, merging in models found inside of jars")
                 .parameter(SmithyCli.DISCOVER_CLASSPATH, "Enables model discovery using a custom classpath for models")
+                .parameter(SmithyCli.DISCOVER_INDEX, "Caches the models found in each JAR of the discovery "
+                                                     + "classpath in the given file so unchanged JARs aren't reopened")
                 .option(SmithyCli.ALLOW_UNKNOWN_TRAITS, "Ignores unknown traits when building models")
+                .parameter(SmithyCli.MAX_ERRORS, "Stops validating models after the given number of ERROR events")
+                .parameter("--trace", "Writes a Chrome trace-event JSON file to the given path that records the "
+                                      + "time spent building the model and each projection, transform, and plugin.")
                 .positional("<MODELS>", "Path to Smithy models or directories")
                 .build();
     }
@@ -104,13 +110,33 @@ public final class BuildCommand implements Command {
         }
 
         SmithyBuildConfig smithyBuildConfig = configBuilder.build();
+        BuildTrace trace = arguments.has("--trace") ? new BuildTrace() : null;
+
+        try {
+            build(arguments, classLoader, smithyBuildConfig, models, trace);
+        } finally {
+            if (trace != null) {
+                Path traceFile = Paths.get(arguments.parameter("--trace"));
+                trace.write(traceFile);
+                Cli.stdout(String.format("Wrote build trace to %s", traceFile));
+            }
+        }
+    }
 
+    private void build(
+            Arguments arguments,
+            ClassLoader classLoader,
+            SmithyBuildConfig smithyBuildConfig,
+            List<String> models,
+            BuildTrace trace
+    ) {
         // Build the model and fail if there are errors. Prints errors to stdout.
-        Model model = CommandUtils.buildModel(arguments, classLoader, SetUtils.of(Validator.Feature.STDOUT));
+        Model model = CommandUtils.buildModel(arguments, classLoader, SetUtils.of(Validator.Feature.STDOUT), trace);
 
         SmithyBuild smithyBuild = SmithyBuild.create(classLoader)
                 .config(smithyBuildConfig)
-                .model(model);
+                .model(model)
+                .trace(trace);
 
         if (arguments.has("--plugin")) {
             smithyBuild.pluginFilter(name -> name.equals(arguments.parameter("--plugin")));
@@ -15,20 +15,23 @@
 
 package software.amazon.smithy.cli.commands;
 
-import java.net.MalformedURLException;
 import java.net.URL;
-import java.net.URLClassLoader;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.security.AccessController;
-import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
+import software.amazon.smithy.build.BuildTrace;
 import software.amazon.smithy.cli.Arguments;
 import software.amazon.smithy.cli.CliError;
 import software.amazon.smithy.cli.SmithyCli;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.loader.ModelAssembler;
+import software.amazon.smithy.model.loader.ModelDiscovery;
 import software.amazon.smithy.model.validation.ValidatedResult;
 
 final class CommandUtils {
@@ -38,13 +41,27 @@ final class CommandUtils {
     private CommandUtils() {}
 
     static Model buildModel(Arguments arguments, ClassLoader classLoader, Set<Validator.Feature> features) {
+        return buildModel(arguments, classLoader, features, null);
+    }
+
+    static Model buildModel(
+            Arguments arguments,
+            ClassLoader classLoader,
+            Set<Validator.Feature> features,
+            BuildTrace trace
+    ) {
         List<String> models = arguments.positionalArguments();
         ModelAssembler assembler = CommandUtils.createModelAssembler(classLoader);
-        CommandUtils.handleModelDiscovery(arguments, assembler, classLoader);
+        BuildTrace.span(trace, "model", "discovery")
+                .run(() -> CommandUtils.handleModelDiscovery(arguments, assembler, classLoader));
         CommandUtils.handleUnknownTraitsOption(arguments, assembler);
+        CommandUtils.handleMaxErrorsOption(arguments, assembler);
         models.forEach(assembler::addImport);
-        ValidatedResult<Model> result = assembler.assemble();
-        Validator.validate(result, features);
+        // Events are counted as they're printed, so they don't need to be kept in the result.
+        Validator.EventPrinter printer = Validator.createEventPrinter(features);
+        assembler.validationEventListener(printer).discardValidationEvents();
+        ValidatedResult<Model> result = BuildTrace.span(trace, "model", "assembly").call(assembler::assemble);
+        Validator.validate(result, printer, features);
         return result.getResult().orElseThrow(() -> new RuntimeException("Expected Validator to throw"));
     }
 
@@ -59,6 +76,17 @@ final class CommandUtils {
         }
     }
 
+    private static void handleMaxErrorsOption(Arguments arguments, ModelAssembler assembler) {
+        if (arguments.has(SmithyCli.MAX_ERRORS)) {
+            String value = arguments.parameter(SmithyCli.MAX_ERRORS);
+            try {
+                assembler.maxValidationErrors(Integer.parseInt(value));
+            } catch (IllegalArgumentException e) {
+                throw new CliError("Invalid " + SmithyCli.MAX_ERRORS + " value, expected a positive number: " + value);
+            }
+        }
+    }
+
     private static void handleModelDiscovery(Arguments arguments, ModelAssembler assembler, ClassLoader baseLoader) {
         if (arguments.has(SmithyCli.DISCOVER_CLASSPATH)) {
             discoverModelsWithClasspath(arguments, assembler);
@@ -73,21 +101,31 @@ final class CommandUtils {
 
         // Use System.getProperty here each time since it allows the value to be changed.
         String[] classpath = rawClasspath.split(System.getProperty("path.separator"));
-        URL[] urls = new URL[classpath.length];
+        List<Path> paths = new ArrayList<>(classpath.length);
 
-        for (int i = 0; i < classpath.length; i++) {
+        for (String entry : classpath) {
             try {
-                urls[i] = Paths.get(classpath[i]).toUri().toURL();
-            } catch (MalformedURLException e) {
-                throw new CliError("Error parsing model discovery URL: " + classpath[i]);
+                paths.add(Paths.get(entry));
+            } catch (InvalidPathException e) {
+                throw new CliError("Error parsing model discovery path: " + entry);
             }
         }
 
-        // See http://findbugs.sourceforge.net/bugDescriptions.html#DP_CREATE_CLASSLOADER_INSIDE_DO_PRIVILEGED
-        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
-            URLClassLoader urlClassLoader = new URLClassLoader(urls);
-            assembler.discoverModels(urlClassLoader);
-            return null;
-        });
+        // Discovery previously used a class loader that delegated to the system class loader, so
+        // models found there are still discovered, and each model is only imported once.
+        Map<String, URL> models = new LinkedHashMap<>();
+        ModelDiscovery.findModels(ClassLoader.getSystemClassLoader()).forEach(url -> models.put(url.toString(), url));
+
+        if (arguments.has(SmithyCli.DISCOVER_INDEX)) {
+            Path index = Paths.get(arguments.parameter(SmithyCli.DISCOVER_INDEX));
+            ModelDiscovery.findModels(paths, index).forEach(url -> models.putIfAbsent(url.toString(), url));
+        } else {
+            ModelDiscovery.findModels(paths).forEach(url -> models.putIfAbsent(url.toString(), url));
+        }
+
+        for (URL model : models.values()) {
+            LOGGER.fine(() -> "Discovered Smithy model: " + model);
+            assembler.addImport(model);
+        }
     }
 }
@@ -66,8 +66,11 @@ public final class SelectCommand implements Command {
                 .parameter("--selector", "The Smithy selector to execute. Reads from STDIN when not provided.")
                 .option("--vars", "Include the variables that were captured when the shape was matched. Uses JSON.")
                 .option(SmithyCli.ALLOW_UNKNOWN_TRAITS, "Ignores unknown traits when validating models")
+                .parameter(SmithyCli.MAX_ERRORS, "Stops validating models after the given number of ERROR events")
                 .option(SmithyCli.DISCOVER, "-d", "Enables model discovery, merging in models found inside of jars")
                 .parameter(SmithyCli.DISCOVER_CLASSPATH, "Enables model discovery using a custom classpath for models")
+                .parameter(SmithyCli.DISCOVER_INDEX, "Caches the models found in each JAR of the discovery "
+                                                     + "classpath in the given file so unchanged JARs aren't reopened")
                 .positional("<MODELS>", "Path to Smithy models or directories")
                 .build();
     }
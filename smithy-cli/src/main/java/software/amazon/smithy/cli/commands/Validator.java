@@ -17,6 +17,8 @@ package software.amazon.smithy.cli.commands;
 
 import static java.lang.String.format;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import software.amazon.smithy.cli.Cli;
@@ -26,6 +28,7 @@ import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.validation.ContextualValidationEventFormatter;
 import software.amazon.smithy.model.validation.Severity;
 import software.amazon.smithy.model.validation.ValidatedResult;
+import software.amazon.smithy.model.validation.ValidationEvent;
 
 /**
  * Shares logic for validating a model and printing out events.
@@ -45,35 +48,46 @@ final class Validator {
         STDOUT
     }
 
-    static void validate(ValidatedResult<Model> result, Set<Feature> features) {
-        ContextualValidationEventFormatter formatter = new ContextualValidationEventFormatter();
+    /**
+     * Creates a listener that prints validation events as they are encountered.
+     *
+     * <p>Events are printed as the model is assembled rather than sorted
+     * after the model is validated, so the output of large models starts
+     * immediately and doesn't require a copy of every event. Events are
+     * printed in the same order each time a model is validated: events
+     * encountered while loading the model come first, followed by the
+     * events of each validator.
+     *
+     * @param features Validation features.
+     * @return Returns the created listener.
+     */
+    static EventPrinter createEventPrinter(Set<Feature> features) {
+        return new EventPrinter(getWriter(features));
+    }
 
-        boolean stdout = features.contains(Feature.STDOUT);
+    /**
+     * Prints a summary of the validation result and fails if the model is invalid.
+     *
+     * <p>Validation events are expected to have already been printed using
+     * a listener created by {@link #createEventPrinter}, which also counts
+     * the events. Events are not read from the result, so the result can
+     * omit the events that were printed.
+     *
+     * @param result Validation result.
+     * @param printer Printer that printed the validation events.
+     * @param features Validation features.
+     */
+    static void validate(ValidatedResult<Model> result, EventPrinter printer, Set<Feature> features) {
         boolean quiet = features.contains(Feature.QUIET);
-        Consumer<String> writer = stdout ? Cli.getStdout() : Cli.getStderr();
-
-        result.getValidationEvents().stream()
-                .filter(event -> event.getSeverity() != Severity.SUPPRESSED)
-                .sorted()
-                .forEach(event -> {
-                    if (event.getSeverity() == Severity.WARNING) {
-                        Colors.YELLOW.write(writer, formatter.format(event));
-                    } else if (event.getSeverity() == Severity.DANGER || event.getSeverity() == Severity.ERROR) {
-                        Colors.RED.write(writer, formatter.format(event));
-                    } else {
-                        writer.accept(event.toString());
-                    }
-                    writer.accept("");
-                });
-
-        long errors = result.getValidationEvents(Severity.ERROR).size();
-        long dangers = result.getValidationEvents(Severity.DANGER).size();
+        Consumer<String> writer = getWriter(features);
+
+        long errors = printer.count(Severity.ERROR);
+        long dangers = printer.count(Severity.DANGER);
 
         if (!quiet) {
             String line = format(
                     "Validation result: %s ERROR(s), %d DANGER(s), %d WARNING(s), %d NOTE(s)",
-                    errors, dangers, result.getValidationEvents(Severity.WARNING).size(),
-                    result.getValidationEvents(Severity.NOTE).size());
+                    errors, dangers, printer.count(Severity.WARNING), printer.count(Severity.NOTE));
             writer.accept(line);
 
             result.getResult().ifPresent(model -> {
@@ -86,4 +100,41 @@ final class Validator {
             throw new CliError(format("The model is invalid: %s ERROR(s), %d DANGER(s)", errors, dangers));
         }
     }
+
+    private static Consumer<String> getWriter(Set<Feature> features) {
+        return features.contains(Feature.STDOUT) ? Cli.getStdout() : Cli.getStderr();
+    }
+
+    /**
+     * Prints validation events and counts them by severity.
+     */
+    static final class EventPrinter implements Consumer<ValidationEvent> {
+        private final ContextualValidationEventFormatter formatter = new ContextualValidationEventFormatter();
+        private final Consumer<String> writer;
+        private final Map<Severity, Long> counts = new EnumMap<>(Severity.class);
+
+        private EventPrinter(Consumer<String> writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void accept(ValidationEvent event) {
+            counts.merge(event.getSeverity(), 1L, Long::sum);
+
+            if (event.getSeverity() == Severity.SUPPRESSED) {
+                return;
+            } else if (event.getSeverity() == Severity.WARNING) {
+                Colors.YELLOW.write(writer, formatter.format(event));
+            } else if (event.getSeverity() == Severity.DANGER || event.getSeverity() == Severity.ERROR) {
+                Colors.RED.write(writer, formatter.format(event));
+            } else {
+                writer.accept(event.toString());
+            }
+            writer.accept("");
+        }
+
+        long count(Severity severity) {
+            return counts.getOrDefault(severity, 0L);
+        }
+    }
 }
@@ -19,12 +19,17 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Comparator;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import software.amazon.smithy.cli.CliError;
 import software.amazon.smithy.cli.SmithyCli;
+import software.amazon.smithy.utils.IoUtils;
 
 public class BuildCommandTest {
     @Test
@@ -97,6 +102,25 @@ public class BuildCommandTest {
                    containsString("The following 1 Smithy build projection(s) failed: [exampleProjection]"));
     }
 
+    @Test
+    public void writesTraceFile() throws Exception {
+        String model = Paths.get(getClass().getResource("valid-model.smithy").toURI()).toString();
+        Path outputDirectory = Files.createTempDirectory(getClass().getName());
+        Path traceFile = outputDirectory.resolve("trace.json");
+
+        try {
+            SmithyCli.create().run("build", "--output", outputDirectory.toString(),
+                                   "--trace", traceFile.toString(), model);
+            String trace = IoUtils.readUtf8File(traceFile);
+
+            assertThat(trace, containsString("\"traceEvents\""));
+            assertThat(trace, containsString("\"assembly\""));
+            assertThat(trace, containsString("\"cat\":\"plugin\""));
+        } finally {
+            Files.walk(outputDirectory).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
     @Test
     public void exceptionsThrownByProjectionsAreDetected() {
         // TODO: need to make a plugin throw an exception
@@ -72,4 +72,24 @@ public class ValidateCommandTest {
         String model = Paths.get(getClass().getResource("unknown-trait.smithy").toURI()).toString();
         SmithyCli.create().run("validate", "--allow-unknown-traits", model);
     }
+
+    @Test
+    public void stopsAfterMaxErrors() {
+        CliError e = Assertions.assertThrows(CliError.class, () -> {
+            String model = Paths.get(getClass().getResource("unknown-traits.smithy").toURI()).toString();
+            SmithyCli.create().run("validate", "--max-errors", "2", model);
+        });
+
+        assertThat(e.getMessage(), containsString("2 ERROR(s)"));
+    }
+
+    @Test
+    public void failsOnInvalidMaxErrors() {
+        CliError e = Assertions.assertThrows(CliError.class, () -> {
+            String model = Paths.get(getClass().getResource("unknown-traits.smithy").toURI()).toString();
+            SmithyCli.create().run("validate", "--max-errors", "0", model);
+        });
+
+        assertThat(e.getMessage(), containsString("--max-errors"));
+    }
 }
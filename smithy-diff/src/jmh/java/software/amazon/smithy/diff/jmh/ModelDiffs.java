@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.smithy.diff.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.diff.ModelDiff;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.jmh.SyntheticModelGenerator;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.traits.DocumentationTrait;
+import software.amazon.smithy.model.traits.SensitiveTrait;
+import software.amazon.smithy.model.transform.ModelTransformer;
+import software.amazon.smithy.model.validation.ValidationEvent;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class ModelDiffs {
+
+    @State(Scope.Benchmark)
+    public static class DiffState {
+
+        @Param({"1000", "10000"})
+        public int shapeCount;
+
+        public Model oldModel;
+        public Model newModel;
+
+        @Setup
+        public void prepare() {
+            oldModel = new SyntheticModelGenerator(shapeCount).generate();
+
+            // Change roughly one in ten shapes: remove documentation from
+            // some and add the sensitive trait to others.
+            ModelTransformer transformer = ModelTransformer.create();
+            Model updated = transformer.removeTraitsIf(oldModel, (shape, trait) -> {
+                return trait instanceof DocumentationTrait && shape.getId().getName().hashCode() % 10 == 0;
+            });
+            newModel = transformer.mapShapes(updated, DiffState::markSensitive);
+        }
+
+        private static Shape markSensitive(Shape shape) {
+            if (!shape.isStringShape() || shape.getId().getName().hashCode() % 10 != 1) {
+                return shape;
+            }
+            return Shape.shapeToBuilder(shape).addTrait(new SensitiveTrait()).build();
+        }
+    }
+
+    @Benchmark
+    public List<ValidationEvent> compareIdenticalModels(DiffState state) {
+        return ModelDiff.compare(state.oldModel, state.oldModel);
+    }
+
+    @Benchmark
+    public List<ValidationEvent> compareChangedModels(DiffState state) {
+        return ModelDiff.compare(state.oldModel, state.newModel);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.smithy.jsonschema.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.jsonschema.JsonSchemaConverter;
+import software.amazon.smithy.jsonschema.SchemaDocument;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.jmh.SyntheticModelGenerator;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class JsonSchemaConversion {
+
+    @State(Scope.Benchmark)
+    public static class ConversionState {
+
+        @Param({"1000", "10000"})
+        public int shapeCount;
+
+        public Model model;
+        public Shape rootShape;
+
+        @Setup
+        public void prepare() {
+            model = new SyntheticModelGenerator(shapeCount).generate();
+            // The output of the last resource references the most shapes.
+            int last = shapeCount / 10 - 1;
+            rootShape = model.expectShape(ShapeId.fromParts(
+                    SyntheticModelGenerator.NAMESPACE, "GetResource" + last + "Output"));
+        }
+    }
+
+    @Benchmark
+    public SchemaDocument convertModel(ConversionState state) {
+        return JsonSchemaConverter.builder().model(state.model).build().convert();
+    }
+
+    @Benchmark
+    public SchemaDocument convertShape(ConversionState state) {
+        return JsonSchemaConverter.builder().model(state.model).build().convertShape(state.rootShape);
+    }
+}
@@ -17,6 +17,7 @@ package software.amazon.smithy.jsonschema;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 import software.amazon.smithy.model.Model;
@@ -46,7 +47,7 @@ final class DeconflictingStrategy implements RefStrategy {
     private static final Pattern SPLIT_PATTERN = Pattern.compile("\\.");
 
     private final RefStrategy delegate;
-    private final Map<ShapeId, String> pointers = new HashMap<>();
+    private final Map<ShapeId, String> pointers = new ConcurrentHashMap<>();
     private final Map<String, ShapeId> reversePointers = new HashMap<>();
 
     DeconflictingStrategy(Model model, RefStrategy delegate) {
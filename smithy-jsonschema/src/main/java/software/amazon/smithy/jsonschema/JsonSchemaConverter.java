@@ -33,6 +33,7 @@ import software.amazon.smithy.model.shapes.ServiceShape;
 import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.shapes.ToShapeId;
+import software.amazon.smithy.model.traits.TraitDefinition;
 import software.amazon.smithy.model.transform.ModelTransformer;
 import software.amazon.smithy.utils.FunctionalUtils;
 import software.amazon.smithy.utils.Pair;
@@ -62,6 +63,8 @@ public final class JsonSchemaConverter implements ToSmithyBuilder<JsonSchemaConv
     private final Shape rootShape;
     private final String rootDefinitionPointer;
     private final int rootDefinitionSegments;
+    private final SchemaCache schemaCache;
+    private Object schemaCacheKey;
 
     private JsonSchemaConverter(Builder builder) {
         mappers.addAll(builder.mappers);
@@ -99,6 +102,29 @@ public final class JsonSchemaConverter implements ToSmithyBuilder<JsonSchemaConv
         rootDefinitionSegments = countSegments(rootDefinitionPointer);
         LOGGER.fine(() -> "Using the following root JSON schema pointer: " + rootDefinitionPointer
                           + " (" + rootDefinitionSegments + " segments)");
+
+        if (builder.cacheSchemas) {
+            schemaCache = SchemaCache.of(model);
+            schemaCacheKey = SchemaCache.createKey(config, propertyNamingStrategy, mappers);
+        } else {
+            schemaCache = null;
+        }
+    }
+
+    private JsonSchemaConverter(JsonSchemaConverter base, Shape rootShape) {
+        mappers.addAll(base.mappers);
+        config = base.config;
+        propertyNamingStrategy = base.propertyNamingStrategy;
+        model = base.model;
+        shapePredicate = base.shapePredicate;
+        refStrategy = base.refStrategy;
+        realizedMappers = base.realizedMappers;
+        visitor = new JsonSchemaShapeVisitor(model, this, realizedMappers);
+        rootDefinitionPointer = base.rootDefinitionPointer;
+        rootDefinitionSegments = base.rootDefinitionSegments;
+        schemaCache = base.schemaCache;
+        schemaCacheKey = base.schemaCacheKey;
+        this.rootShape = rootShape;
     }
 
     private static Model createUpdatedModel(
@@ -115,7 +141,14 @@ public final class JsonSchemaConverter implements ToSmithyBuilder<JsonSchemaConv
                     .map(Shape::getId)
                     .map(ShapeId::toString)
                     .collect(Collectors.joining(", ")));
-            model = transformer.filterShapes(model, connected::contains);
+
+            // Rather than copying the entire model only to remove most of it,
+            // start from the connected shapes plus the trait definitions whose
+            // removal strips traits from the connected shapes.
+            Model.Builder connectedModel = Model.builder().metadata(model.getMetadata());
+            connected.forEach(connectedModel::addShape);
+            model.getShapesWithTrait(TraitDefinition.class).forEach(connectedModel::addShape);
+            model = transformer.filterShapes(connectedModel.build(), connected::contains);
         }
 
         model = transformer.filterShapes(model, predicate);
@@ -157,6 +190,10 @@ public final class JsonSchemaConverter implements ToSmithyBuilder<JsonSchemaConv
      */
     public void setConfig(JsonSchemaConfig config) {
         this.config = config;
+
+        if (schemaCache != null) {
+            schemaCacheKey = SchemaCache.createKey(config, propertyNamingStrategy, mappers);
+        }
     }
 
     /**
@@ -222,7 +259,7 @@ public final class JsonSchemaConverter implements ToSmithyBuilder<JsonSchemaConv
 
         if (rootShape != null && !(rootShape instanceof ServiceShape)) {
             LOGGER.fine(() -> "Setting root schema to " + rootShape);
-            builder.rootSchema(rootShape.accept(visitor));
+            builder.rootSchema(toSchema(rootShape));
         }
 
         addExtensions(builder);
@@ -250,7 +287,7 @@ public final class JsonSchemaConverter implements ToSmithyBuilder<JsonSchemaConv
                 // Create the pointer to the shape and schema object.
                 .map(pair -> {
                     LOGGER.fine(() -> "Converting " + pair.getRight() + " to JSON schema at " + pair.getLeft());
-                    return Pair.of(pair.getLeft(), pair.getRight().accept(visitor));
+                    return Pair.of(pair.getLeft(), toSchema(pair.getRight()));
                 })
                 .forEach(pair -> builder.putDefinition(pair.getLeft(), pair.getRight()));
 
@@ -272,10 +309,25 @@ public final class JsonSchemaConverter implements ToSmithyBuilder<JsonSchemaConv
      */
     public SchemaDocument convertShape(Shape shape) {
         SchemaDocument.Builder builder = SchemaDocument.builder();
-        builder.rootSchema(shape.accept(visitor));
+        builder.rootSchema(toSchema(shape));
         return builder.build();
     }
 
+    /**
+     * Converts a shape to a schema, reusing the cached schema of the shape
+     * when schemas are cached.
+     *
+     * @param shape Shape to convert.
+     * @return Returns the converted schema.
+     */
+    Schema toSchema(Shape shape) {
+        if (schemaCache == null) {
+            return shape.accept(visitor);
+        }
+
+        return schemaCache.getSchema(schemaCacheKey, shape, s -> s.accept(visitor));
+    }
+
     // We can't generate service, resource, or operation schemas.
     private boolean isUnsupportedShapeType(Shape shape) {
         return shape.isServiceShape() || shape.isResourceShape() || shape.isOperationShape();
@@ -290,6 +342,27 @@ public final class JsonSchemaConverter implements ToSmithyBuilder<JsonSchemaConv
         }
     }
 
+    /**
+     * Creates a converter that uses a different root shape but shares the
+     * model, configuration, mappers, and computed JSON pointers of this
+     * converter.
+     *
+     * <p>This is equivalent to calling {@code toBuilder().rootShape(rootShape).build()},
+     * but avoids recomputing the references of every shape in the model,
+     * making it suitable for converting many root shapes of the same model.
+     * The returned converter can be used concurrently with this converter.
+     *
+     * @param rootShape ID of the shape to use as the root of the converted document.
+     * @return Returns the created converter.
+     * @throws SmithyJsonSchemaException if the shape is not found in the model.
+     */
+    public JsonSchemaConverter withRootShape(ToShapeId rootShape) {
+        Shape shape = model.getShape(rootShape.toShapeId())
+                .orElseThrow(() -> new SmithyJsonSchemaException(
+                        "Invalid root shape (shape not found): " + rootShape.toShapeId()));
+        return new JsonSchemaConverter(this, shape);
+    }
+
     @Override
     public Builder toBuilder() {
         return builder()
@@ -298,7 +371,8 @@ public final class JsonSchemaConverter implements ToSmithyBuilder<JsonSchemaConv
                 .config(config)
                 .rootShape(rootShape == null ? null : rootShape.getId())
                 .shapePredicate(shapePredicate)
-                .mappers(mappers);
+                .mappers(mappers)
+                .cacheSchemas(schemaCache != null);
     }
 
     public static final class Builder implements SmithyBuilder<JsonSchemaConverter> {
@@ -309,6 +383,7 @@ public final class JsonSchemaConverter implements ToSmithyBuilder<JsonSchemaConv
         private JsonSchemaConfig config = new JsonSchemaConfig();
         private Predicate<Shape> shapePredicate = shape -> true;
         private final List<JsonSchemaMapper> mappers = new ArrayList<>();
+        private boolean cacheSchemas;
 
         private Builder() {}
 
@@ -400,5 +475,25 @@ public final class JsonSchemaConverter implements ToSmithyBuilder<JsonSchemaConv
             mappers.addAll(jsonSchemaMappers);
             return this;
         }
+
+        /**
+         * Sets whether to cache converted schemas with the model so that
+         * they are reused by other converters of the same model.
+         *
+         * <p>Schemas are only reused by converters that use the same
+         * configuration settings, the same property naming strategy
+         * instance, and the same mapper instances in the same order.
+         * When enabled, mappers and property naming strategies must not
+         * change how they convert shapes after they are added to a converter.
+         *
+         * <p>Schemas are not cached by default.
+         *
+         * @param cacheSchemas Set to true to cache converted schemas.
+         * @return Returns the converter.
+         */
+        public Builder cacheSchemas(boolean cacheSchemas) {
+            this.cacheSchemas = cacheSchemas;
+            return this;
+        }
     }
 }
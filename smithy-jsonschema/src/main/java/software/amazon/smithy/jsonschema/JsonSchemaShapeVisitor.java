@@ -228,7 +228,7 @@ final class JsonSchemaShapeVisitor extends ShapeVisitor.Default<Schema> {
     @Override
     public Schema memberShape(MemberShape memberShape) {
         Shape target = getTarget(memberShape);
-        return buildSchema(memberShape, updateBuilder(memberShape, target.accept(this).toBuilder()));
+        return buildSchema(memberShape, updateBuilder(memberShape, converter.toSchema(target).toBuilder()));
     }
 
     private Shape getTarget(MemberShape member) {
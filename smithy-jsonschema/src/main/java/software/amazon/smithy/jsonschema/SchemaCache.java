@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.jsonschema;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.KnowledgeIndex;
+import software.amazon.smithy.model.node.NodeMapper;
+import software.amazon.smithy.model.node.NodeSerializationException;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.utils.ListUtils;
+
+/**
+ * Caches the schemas converted from the shapes of a model so that they
+ * can be reused by every {@link JsonSchemaConverter} of the same model.
+ *
+ * <p>Schemas are cached separately for each combination of configuration
+ * settings, property naming strategy, and ordered list of mappers, since
+ * each of these can change the schema created for a shape. Mappers and
+ * naming strategies are compared using their own equality, which is
+ * identity for most of them, so stateful mappers never share schemas.
+ */
+final class SchemaCache implements KnowledgeIndex {
+
+    private final Model model;
+    private final Map<Object, Map<ShapeId, Schema>> schemas = new ConcurrentHashMap<>();
+
+    SchemaCache(Model model) {
+        this.model = model;
+    }
+
+    static SchemaCache of(Model model) {
+        return model.getKnowledge(SchemaCache.class, SchemaCache::new);
+    }
+
+    /**
+     * Creates a key that identifies the conversion settings schemas are cached for.
+     *
+     * <p>The built-in mappers of a converter only vary their behavior based
+     * on the given config, so only the custom mappers are part of the key.
+     *
+     * @param config Configuration settings of the converter.
+     * @param propertyNamingStrategy Property naming strategy of the converter.
+     * @param mappers Custom mappers of the converter, in the order they were added.
+     * @return Returns the created key.
+     */
+    static Object createKey(
+            JsonSchemaConfig config,
+            PropertyNamingStrategy propertyNamingStrategy,
+            List<JsonSchemaMapper> mappers
+    ) {
+        Object settings;
+        try {
+            settings = new NodeMapper().serialize(config);
+        } catch (NodeSerializationException e) {
+            // Fall back to only reusing schemas with the same config object.
+            settings = config;
+        }
+
+        return ListUtils.of(settings, propertyNamingStrategy, ListUtils.copyOf(mappers));
+    }
+
+    /**
+     * Gets the cached schema of a shape, converting and caching it if necessary.
+     *
+     * @param key Key created by {@link #createKey}.
+     * @param shape Shape to get the schema of.
+     * @param converter Function used to convert the shape if it isn't cached.
+     * @return Returns the schema of the shape.
+     */
+    Schema getSchema(Object key, Shape shape, Function<Shape, Schema> converter) {
+        // Shapes that aren't part of the model, like shapes that were created
+        // on the fly by a caller, might not match a shape with the same ID.
+        if (model.getShape(shape.getId()).orElse(null) != shape) {
+            return converter.apply(shape);
+        }
+
+        Map<ShapeId, Schema> keySchemas = schemas.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        Schema schema = keySchemas.get(shape.getId());
+
+        // computeIfAbsent isn't used since converting a shape converts other shapes too.
+        if (schema == null) {
+            schema = converter.apply(shape);
+            Schema previous = keySchemas.putIfAbsent(shape.getId(), schema);
+            if (previous != null) {
+                schema = previous;
+            }
+        }
+
+        return schema;
+    }
+}
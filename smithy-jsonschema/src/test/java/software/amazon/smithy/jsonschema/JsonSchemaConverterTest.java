@@ -29,6 +29,7 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Locale;
 import java.util.function.Predicate;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.node.Node;
@@ -113,6 +114,34 @@ public class JsonSchemaConverterTest {
         assertThat(document2.getDefinitions().keySet(), containsInAnyOrder("#/definitions/ReferencedB"));
     }
 
+    @Test
+    public void canReuseConverterForDifferentRootShapes() {
+        Model model = Model.assembler()
+                .addImport(getClass().getResource("multiple-closures.json"))
+                .assemble()
+                .unwrap();
+        JsonSchemaConverter converter = JsonSchemaConverter.builder().model(model).build();
+        SchemaDocument document1 = converter.withRootShape(ShapeId.from("com.foo#StructureA")).convert();
+        SchemaDocument document2 = converter.withRootShape(ShapeId.from("com.foo#StructureB")).convert();
+
+        assertThat(document1.getDefinitions().keySet(), containsInAnyOrder("#/definitions/ReferencedA"));
+        assertThat(document2.getDefinitions().keySet(), containsInAnyOrder("#/definitions/ReferencedB"));
+        Node.assertEquals(document1.toNode(), JsonSchemaConverter.builder()
+                .model(model)
+                .rootShape(ShapeId.from("com.foo#StructureA"))
+                .build()
+                .convert()
+                .toNode());
+    }
+
+    @Test
+    public void throwsWhenReusingConverterWithUnknownRootShape() {
+        JsonSchemaConverter converter = JsonSchemaConverter.builder().model(Model.builder().build()).build();
+
+        Assertions.assertThrows(SmithyJsonSchemaException.class,
+                                () -> converter.withRootShape(ShapeId.from("smithy.example#Missing")));
+    }
+
     @Test
     public void canFilterShapesWithCustomPredicate() {
         Predicate<Shape> predicate = shape -> !shape.getId().getName().equals("Foo");
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.jsonschema;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.StringShape;
+import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.model.traits.DocumentationTrait;
+import software.amazon.smithy.utils.SetUtils;
+
+public class SchemaCacheTest {
+
+    private static final StringShape STRING = StringShape.builder().id("smithy.example#String").build();
+    private static final StructureShape STRUCT = StructureShape.builder()
+            .id("smithy.example#Foo")
+            .addMember("bar", STRING.getId())
+            .build();
+    private static final Model MODEL = Model.builder().addShapes(STRUCT, STRING).build();
+
+    @Test
+    public void reusesSchemasAcrossConverters() {
+        Schema schema1 = JsonSchemaConverter.builder().model(MODEL).cacheSchemas(true).build()
+                .convertShape(STRUCT).getRootSchema();
+        Schema schema2 = JsonSchemaConverter.builder().model(MODEL).cacheSchemas(true).build()
+                .convertShape(STRUCT).getRootSchema();
+
+        assertThat(schema1, sameInstance(schema2));
+    }
+
+    @Test
+    public void doesNotReuseSchemasWhenNotCaching() {
+        JsonSchemaConverter converter = JsonSchemaConverter.builder().model(MODEL).build();
+
+        assertThat(converter.convertShape(STRUCT).getRootSchema(),
+                   not(sameInstance(converter.convertShape(STRUCT).getRootSchema())));
+    }
+
+    @Test
+    public void doesNotReuseSchemasWithDifferentConfig() {
+        JsonSchemaConfig config = new JsonSchemaConfig();
+        config.setDisableFeatures(SetUtils.of("properties"));
+        Schema schema1 = JsonSchemaConverter.builder().model(MODEL).cacheSchemas(true).build()
+                .convertShape(STRUCT).getRootSchema();
+        Schema schema2 = JsonSchemaConverter.builder().model(MODEL).config(config).cacheSchemas(true).build()
+                .convertShape(STRUCT).getRootSchema();
+
+        assertThat(schema1.getProperties().isEmpty(), equalTo(false));
+        assertThat(schema2.getProperties().isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void doesNotReuseSchemasWithDifferentMappers() {
+        JsonSchemaMapper mapper = (shape, builder, config) -> builder.description("Hi");
+        Schema schema1 = JsonSchemaConverter.builder().model(MODEL).cacheSchemas(true).build()
+                .convertShape(STRING).getRootSchema();
+        Schema schema2 = JsonSchemaConverter.builder().model(MODEL).addMapper(mapper).cacheSchemas(true).build()
+                .convertShape(STRING).getRootSchema();
+
+        assertThat(schema1.getDescription().isPresent(), equalTo(false));
+        assertThat(schema2.getDescription().get(), equalTo("Hi"));
+    }
+
+    @Test
+    public void doesNotReuseSchemasWithDifferentMappersOfTheSameClass() {
+        Schema schema1 = JsonSchemaConverter.builder().model(MODEL).addMapper(new DescriptionMapper("A"))
+                .cacheSchemas(true).build().convertShape(STRING).getRootSchema();
+        Schema schema2 = JsonSchemaConverter.builder().model(MODEL).addMapper(new DescriptionMapper("B"))
+                .cacheSchemas(true).build().convertShape(STRING).getRootSchema();
+
+        assertThat(schema1.getDescription().get(), equalTo("A"));
+        assertThat(schema2.getDescription().get(), equalTo("B"));
+    }
+
+    @Test
+    public void reusesSchemasWithTheSameMappers() {
+        JsonSchemaMapper mapper = new DescriptionMapper("A");
+        Schema schema1 = JsonSchemaConverter.builder().model(MODEL).addMapper(mapper).cacheSchemas(true).build()
+                .convertShape(STRUCT).getRootSchema();
+        Schema schema2 = JsonSchemaConverter.builder().model(MODEL).addMapper(mapper).cacheSchemas(true).build()
+                .convertShape(STRUCT).getRootSchema();
+
+        assertThat(schema1, sameInstance(schema2));
+    }
+
+    @Test
+    public void doesNotCacheShapesThatAreNotInTheModel() {
+        JsonSchemaConverter converter = JsonSchemaConverter.builder().model(MODEL).cacheSchemas(true).build();
+        StringShape updated = STRING.toBuilder().addTrait(new DocumentationTrait("Docs")).build();
+        converter.convertShape(STRING);
+
+        assertThat(converter.convertShape(updated).getRootSchema().getDescription().get(), equalTo("Docs"));
+    }
+
+    private static final class DescriptionMapper implements JsonSchemaMapper {
+        private final String description;
+
+        DescriptionMapper(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public Schema.Builder updateSchema(Shape shape, Schema.Builder builder, JsonSchemaConfig config) {
+            return builder.description(description);
+        }
+    }
+}
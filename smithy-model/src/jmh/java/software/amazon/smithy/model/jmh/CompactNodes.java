@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.loader.ModelAssembler;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class CompactNodes {
+
+    @State(Scope.Thread)
+    public static class CompactNodesState {
+
+        @Param({"test-model.smithy", "test-model.json"})
+        public String modelLocation;
+
+        @Param({"false", "true"})
+        public boolean compactNodes;
+
+        public Model model;
+
+        // Reports the retained heap of the last loaded model using JOL. The
+        // trait values and metadata of the model make up the majority of the
+        // difference between compact and non-compact nodes.
+        @TearDown(Level.Trial)
+        public void reportRetainedHeap() {
+            if (model != null) {
+                GraphLayout layout = GraphLayout.parseInstance(model);
+                System.out.printf("%nRetained heap of %s (compactNodes=%s): %d bytes in %d objects%n",
+                                  modelLocation, compactNodes, layout.totalSize(), layout.totalCount());
+            }
+        }
+    }
+
+    @Benchmark
+    public Model loadModel(CompactNodesState state) {
+        state.model = Model.assembler()
+                .addImport(CompactNodes.class.getResource(state.modelLocation))
+                .putProperty(ModelAssembler.COMPACT_NODES, state.compactNodes)
+                .disableValidation()
+                .assemble()
+                .unwrap();
+        return state.model;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.HttpRoutingIndex;
+import software.amazon.smithy.model.knowledge.TopDownIndex;
+import software.amazon.smithy.model.pattern.SmithyPattern;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.traits.HttpTrait;
+
+/**
+ * Compares routing requests with the trie of an {@link HttpRoutingIndex}
+ * against matching the URI pattern of every operation in turn.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class HttpRouting {
+
+    @State(Scope.Benchmark)
+    public static class HttpRoutingState {
+
+        @Param({"1000", "10000"})
+        public int shapeCount;
+
+        public Model model;
+        public List<HttpTrait> traits = new ArrayList<>();
+        public List<ShapeId> operations = new ArrayList<>();
+        public String[] requests;
+
+        @Setup
+        public void prepare() {
+            model = new SyntheticModelGenerator(shapeCount).generate();
+            TopDownIndex topDownIndex = TopDownIndex.of(model);
+            for (OperationShape operation : topDownIndex.getContainedOperations(SyntheticModelGenerator.SERVICE)) {
+                operation.getTrait(HttpTrait.class).ifPresent(trait -> {
+                    traits.add(trait);
+                    operations.add(operation.getId());
+                });
+            }
+
+            requests = new String[traits.size()];
+            for (int i = 0; i < requests.length; i++) {
+                StringBuilder request = new StringBuilder();
+                for (SmithyPattern.Segment segment : traits.get(i).getUri().getSegments()) {
+                    request.append('/').append(segment.isLabel() ? "value" : segment.getContent());
+                }
+                requests[i] = request.toString();
+            }
+
+            // Build the routes before measuring.
+            HttpRoutingIndex.of(model).match(SyntheticModelGenerator.SERVICE, "GET", "/");
+        }
+    }
+
+    @Benchmark
+    public void routeWithTrie(HttpRoutingState state, Blackhole blackhole) {
+        HttpRoutingIndex index = HttpRoutingIndex.of(state.model);
+        for (String request : state.requests) {
+            blackhole.consume(index.match(SyntheticModelGenerator.SERVICE, "GET", request));
+        }
+    }
+
+    @Benchmark
+    public void routeLinearly(HttpRoutingState state, Blackhole blackhole) {
+        for (String request : state.requests) {
+            blackhole.consume(matchLinearly(state, request.substring(1).split("/", -1)));
+        }
+    }
+
+    private static Optional<ShapeId> matchLinearly(HttpRoutingState state, String[] path) {
+        for (int i = 0; i < state.traits.size(); i++) {
+            HttpTrait trait = state.traits.get(i);
+            List<SmithyPattern.Segment> segments = trait.getUri().getSegments();
+            if (trait.getMethod().equals("GET") && segments.size() == path.length && matches(segments, path)) {
+                return Optional.of(state.operations.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean matches(List<SmithyPattern.Segment> segments, String[] path) {
+        for (int i = 0; i < path.length; i++) {
+            SmithyPattern.Segment segment = segments.get(i);
+            if (segment.isLabel() ? path[i].isEmpty() : !segment.getContent().equals(path[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
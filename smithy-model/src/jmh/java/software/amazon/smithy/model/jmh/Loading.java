@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.smithy.model.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.validation.ValidatedResult;
+import software.amazon.smithy.utils.IoUtils;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class Loading {
+
+    @State(Scope.Benchmark)
+    public static class LoadingState {
+
+        // "test-model" is a small hand-written model. Numeric values are the
+        // number of shapes of a model created by SyntheticModelGenerator.
+        @Param({"test-model", "1000", "100000"})
+        public String fixture;
+
+        @Param({"smithy", "json"})
+        public String format;
+
+        public String filename;
+        public String contents;
+
+        @Setup
+        public void prepare() {
+            filename = fixture + "." + format;
+
+            if (fixture.equals("test-model")) {
+                contents = IoUtils.readUtf8Resource(Loading.class, filename);
+            } else {
+                SyntheticModelGenerator generator = new SyntheticModelGenerator(Integer.parseInt(fixture));
+                contents = format.equals("json") ? generator.generateJson() : generator.generateIdl();
+            }
+        }
+    }
+
+    @Benchmark
+    public ValidatedResult<Model> loadWithoutValidation(LoadingState state) {
+        return Model.assembler()
+                .addUnparsedModel(state.filename, state.contents)
+                .disableValidation()
+                .assemble();
+    }
+
+    // Results aren't unwrapped since test-model intentionally contains DANGER events.
+    @Benchmark
+    public ValidatedResult<Model> loadWithValidation(LoadingState state) {
+        return Model.assembler()
+                .addUnparsedModel(state.filename, state.contents)
+                .assemble();
+    }
+}
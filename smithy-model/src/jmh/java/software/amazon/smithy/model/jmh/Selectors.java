@@ -24,6 +24,7 @@ import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -77,6 +78,41 @@ public class Selectors {
         }
     }
 
+    @State(Scope.Benchmark)
+    public static class AttributeSelectorState {
+
+        @Param({"10000"})
+        public int shapeCount;
+
+        @Param({
+                "[trait|required]",
+                "[trait|range|max>500]",
+                "[trait|http|method='GET']",
+                "[id|namespace='smithy.synthetic']",
+                "[id|name$='input' i]",
+                "[id|member]",
+                "[service|version^='2020']",
+                "$services(service) :not([var|services])"
+        })
+        public String selector;
+
+        public Model model;
+        public Selector compiled;
+
+        @Setup
+        public void prepare() {
+            model = new SyntheticModelGenerator(shapeCount).generate();
+            compiled = Selector.parse(selector);
+        }
+    }
+
+    // Attribute paths are resolved when the selector is parsed, so this
+    // measures the per-shape cost of evaluating an attribute comparison.
+    @Benchmark
+    public Set<Shape> evaluateAttributeSelector(AttributeSelectorState state) {
+        return state.compiled.select(state.model);
+    }
+
     @Benchmark
     public Model loadsIdlModelWithoutValidation(SelectorState state) {
         return Model.assembler()
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.jmh;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ShapeIdTable;
+
+/**
+ * Compares shape ID lookups and index construction using maps and sets
+ * keyed by {@code ShapeId} against the ordinals of a {@link ShapeIdTable}.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class ShapeIds {
+
+    @State(Scope.Benchmark)
+    public static class ShapeIdState {
+
+        @Param({"10000"})
+        public int shapeCount;
+
+        public Model model;
+        public ShapeIdTable table;
+        public ShapeId[] ids;
+        public String[] strings;
+        public MemberShape[] members;
+
+        @Setup
+        public void prepare() {
+            model = new SyntheticModelGenerator(shapeCount).generate();
+            table = model.getShapeIdTable();
+            ids = model.getShapeIds().toArray(new ShapeId[0]);
+            strings = new String[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                strings[i] = ids[i].toString();
+            }
+            members = model.shapes(MemberShape.class).toArray(MemberShape[]::new);
+        }
+    }
+
+    @Benchmark
+    public void getShapesById(ShapeIdState state, Blackhole blackhole) {
+        for (ShapeId id : state.ids) {
+            blackhole.consume(state.model.getShape(id));
+        }
+    }
+
+    @Benchmark
+    public void getOrdinalsById(ShapeIdState state, Blackhole blackhole) {
+        for (ShapeId id : state.ids) {
+            blackhole.consume(state.table.getOrdinal(id));
+        }
+    }
+
+    @Benchmark
+    public void parseShapeIds(ShapeIdState state, Blackhole blackhole) {
+        for (String id : state.strings) {
+            blackhole.consume(ShapeId.from(id));
+        }
+    }
+
+    @Benchmark
+    public void findShapeIds(ShapeIdState state, Blackhole blackhole) {
+        for (String id : state.strings) {
+            blackhole.consume(state.table.find(id));
+        }
+    }
+
+    @Benchmark
+    public ShapeIdTable createShapeIdTable(ShapeIdState state) {
+        return ShapeIdTable.of(state.model.getShapeIds());
+    }
+
+    @Benchmark
+    public Set<ShapeId> indexMemberTargetsWithHashSet(ShapeIdState state) {
+        Set<ShapeId> targets = new HashSet<>();
+        for (MemberShape member : state.members) {
+            targets.add(member.getTarget());
+        }
+        return targets;
+    }
+
+    @Benchmark
+    public BitSet indexMemberTargetsWithBitSet(ShapeIdState state) {
+        ShapeIdTable table = state.table;
+        BitSet targets = new BitSet(table.size());
+        for (MemberShape member : state.members) {
+            int ordinal = table.getOrdinal(member.getTarget());
+            if (ordinal != -1) {
+                targets.set(ordinal);
+            }
+        }
+        return targets;
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.smithy.model.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.ModelSerializer;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+/**
+ * Generates deterministic, synthetic Smithy models of an arbitrary size.
+ *
+ * <p>The generated model contains one resource for every ten shapes, and
+ * resources are bound to services in groups of up to 250. Each resource has a readonly HTTP operation with
+ * an input and output structure, and is accompanied by a structure, list,
+ * map, enum string, and constrained integer. Members target prelude shapes
+ * or shapes generated earlier in the model, so the generated model is valid,
+ * acyclic, and has a realistic amount of cross-referencing.
+ *
+ * <p>The same shape count and seed always produce the same model, which
+ * allows benchmark results to be compared across runs and machines.
+ * Benchmarks in other modules use this class to create their fixtures.
+ */
+public final class SyntheticModelGenerator {
+
+    public static final String NAMESPACE = "smithy.synthetic";
+
+    /** The first generated service, which is present in every generated model. */
+    public static final ShapeId SERVICE = ShapeId.fromParts(NAMESPACE, "Service0");
+
+    private static final int SHAPES_PER_RESOURCE = 10;
+    private static final int RESOURCES_PER_SERVICE = 250;
+    private static final int REFERENCE_WINDOW = 50;
+    private static final String[] PRELUDE_TARGETS = {
+            "String", "Integer", "Long", "Boolean", "Timestamp", "Double", "Blob"};
+
+    private final int shapeCount;
+    private final long seed;
+
+    /**
+     * @param shapeCount Approximate number of non-member shapes to generate.
+     */
+    public SyntheticModelGenerator(int shapeCount) {
+        this(shapeCount, 0);
+    }
+
+    /**
+     * @param shapeCount Approximate number of non-member shapes to generate.
+     * @param seed Seed used to randomly pick member targets and constraints.
+     */
+    public SyntheticModelGenerator(int shapeCount, long seed) {
+        if (shapeCount < SHAPES_PER_RESOURCE) {
+            throw new IllegalArgumentException("shapeCount must be >= " + SHAPES_PER_RESOURCE);
+        }
+        this.shapeCount = shapeCount;
+        this.seed = seed;
+    }
+
+    /**
+     * Gets the number of resources bound to the generated service.
+     *
+     * @return Returns the number of resources.
+     */
+    public int getResourceCount() {
+        return shapeCount / SHAPES_PER_RESOURCE;
+    }
+
+    /**
+     * Gets the shape IDs of every generated service.
+     *
+     * @return Returns the service shape IDs.
+     */
+    public List<ShapeId> getServiceIds() {
+        int services = (getResourceCount() + RESOURCES_PER_SERVICE - 1) / RESOURCES_PER_SERVICE;
+        List<ShapeId> result = new ArrayList<>(services);
+        for (int i = 0; i < services; i++) {
+            result.add(ShapeId.fromParts(NAMESPACE, "Service" + i));
+        }
+        return result;
+    }
+
+    /**
+     * Gets the shape IDs of every generated resource.
+     *
+     * @return Returns the resource shape IDs.
+     */
+    public List<ShapeId> getResourceIds() {
+        List<ShapeId> result = new ArrayList<>(getResourceCount());
+        for (int i = 0; i < getResourceCount(); i++) {
+            result.add(ShapeId.fromParts(NAMESPACE, "Resource" + i));
+        }
+        return result;
+    }
+
+    /**
+     * Generates the model using the Smithy IDL.
+     *
+     * @return Returns the generated IDL model.
+     */
+    public String generateIdl() {
+        Random random = new Random(seed);
+        int resources = getResourceCount();
+        StringBuilder idl = new StringBuilder(resources * 1024);
+
+        idl.append("namespace ").append(NAMESPACE).append("\n\n");
+        List<ShapeId> services = getServiceIds();
+        for (int s = 0; s < services.size(); s++) {
+            idl.append("/// A synthetic service.\n");
+            idl.append("service ").append(services.get(s).getName()).append(" {\n");
+            idl.append("    version: \"2020-01-01\",\n");
+            idl.append("    resources: [");
+            int end = Math.min(resources, (s + 1) * RESOURCES_PER_SERVICE);
+            for (int i = s * RESOURCES_PER_SERVICE; i < end; i++) {
+                idl.append(i % RESOURCES_PER_SERVICE == 0 ? "" : ", ").append("Resource").append(i);
+            }
+            idl.append("]\n}\n\n");
+        }
+
+        idl.append("@error(\"client\")\n@httpError(404)\n");
+        idl.append("structure NotFound {\n    message: String\n}\n\n");
+
+        for (int i = 0; i < resources; i++) {
+            appendDataShapes(idl, random, i);
+            appendResource(idl, i);
+        }
+
+        return idl.toString();
+    }
+
+    /**
+     * Generates the model using the JSON AST.
+     *
+     * @return Returns the generated JSON model.
+     */
+    public String generateJson() {
+        return Node.printJson(ModelSerializer.builder().build().serialize(generate()));
+    }
+
+    /**
+     * Generates and assembles the model.
+     *
+     * @return Returns the generated model.
+     */
+    public Model generate() {
+        return Model.assembler()
+                .addUnparsedModel("synthetic.smithy", generateIdl())
+                .assemble()
+                .unwrap();
+    }
+
+    private void appendDataShapes(StringBuilder idl, Random random, int i) {
+        idl.append("@enum([{value: \"A\", name: \"A\"}, {value: \"B\", name: \"B\"}])\n");
+        idl.append("string Enum").append(i).append("\n\n");
+
+        idl.append("@range(min: 0, max: ").append(1 + random.nextInt(1000)).append(")\n");
+        idl.append("integer Count").append(i).append("\n\n");
+
+        idl.append("list List").append(i).append(" {\n");
+        idl.append("    member: ").append(pickTarget(random, i, false)).append("\n}\n\n");
+
+        idl.append("map Map").append(i).append(" {\n");
+        idl.append("    key: String,\n");
+        idl.append("    value: ").append(pickTarget(random, i, false)).append("\n}\n\n");
+
+        idl.append("/// Synthetic structure ").append(i).append(".\n");
+        idl.append("structure Struct").append(i).append(" {\n");
+        int members = 3 + random.nextInt(6);
+        for (int m = 0; m < members; m++) {
+            if (random.nextInt(4) == 0) {
+                idl.append("    @required\n");
+            }
+            idl.append("    member").append(m).append(": ").append(pickTarget(random, i, true)).append(",\n");
+        }
+        idl.append("}\n\n");
+    }
+
+    private void appendResource(StringBuilder idl, int i) {
+        String resource = "Resource" + i;
+        String id = "resource" + i + "Id";
+
+        idl.append("string ").append(resource).append("Id\n\n");
+
+        idl.append("resource ").append(resource).append(" {\n");
+        idl.append("    identifiers: { ").append(id).append(": ").append(resource).append("Id },\n");
+        idl.append("    read: Get").append(resource).append("\n}\n\n");
+
+        idl.append("/// Gets resource ").append(i).append(".\n");
+        idl.append("@readonly\n");
+        idl.append("@http(method: \"GET\", uri: \"/resource").append(i).append("/{").append(id).append("}\")\n");
+        idl.append("operation Get").append(resource).append(" {\n");
+        idl.append("    input: Get").append(resource).append("Input,\n");
+        idl.append("    output: Get").append(resource).append("Output,\n");
+        idl.append("    errors: [NotFound]\n}\n\n");
+
+        idl.append("structure Get").append(resource).append("Input {\n");
+        idl.append("    @required\n    @httpLabel\n");
+        idl.append("    ").append(id).append(": ").append(resource).append("Id\n}\n\n");
+
+        idl.append("structure Get").append(resource).append("Output {\n");
+        idl.append("    ").append(id).append(": ").append(resource).append("Id,\n");
+        idl.append("    data: Struct").append(i).append(",\n");
+        idl.append("    items: List").append(i).append(",\n");
+        idl.append("    count: Count").append(i).append("\n}\n\n");
+    }
+
+    // Picks a prelude shape or a shape generated within a window of recently
+    // generated resources. Lists and maps can't target the structure of their
+    // own group since it's generated after them.
+    private String pickTarget(Random random, int i, boolean allowOwnGroup) {
+        int choice = random.nextInt(10);
+        if (choice < 4 || (i == 0 && !allowOwnGroup)) {
+            return PRELUDE_TARGETS[random.nextInt(PRELUDE_TARGETS.length)];
+        }
+
+        int upper = allowOwnGroup ? i + 1 : i;
+        int lower = Math.max(0, upper - REFERENCE_WINDOW);
+        int group = lower + random.nextInt(upper - lower);
+        boolean ownGroup = group == i;
+
+        switch (choice) {
+            case 4:
+                return "Enum" + group;
+            case 5:
+                return "Count" + group;
+            case 6:
+            case 7:
+                return "List" + group;
+            case 8:
+                return "Map" + group;
+            default:
+                return ownGroup ? "List" + group : "Struct" + group;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.smithy.model.jmh;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StringShape;
+import software.amazon.smithy.model.traits.DocumentationTrait;
+import software.amazon.smithy.model.traits.EnumTrait;
+import software.amazon.smithy.model.transform.ModelTransformer;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class Transforms {
+
+    @State(Scope.Benchmark)
+    public static class TransformState {
+
+        @Param({"1000", "10000"})
+        public int shapeCount;
+
+        public Model model;
+        public ModelTransformer transformer = ModelTransformer.create();
+
+        @Setup
+        public void prepare() {
+            model = new SyntheticModelGenerator(shapeCount).generate();
+        }
+    }
+
+    @Benchmark
+    public Model removeShapes(TransformState state) {
+        // Removing enums also removes every member that targets them.
+        return state.transformer.removeShapes(state.model, state.model.shapes(StringShape.class)
+                .filter(shape -> shape.hasTrait(EnumTrait.class))
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public Model filterShapes(TransformState state) {
+        return state.transformer.filterShapes(state.model, shape -> !shape.getId().getName().startsWith("Map"));
+    }
+
+    @Benchmark
+    public Model removeTraits(TransformState state) {
+        return state.transformer.removeTraitsIf(state.model, (shape, trait) -> trait instanceof DocumentationTrait);
+    }
+
+    @Benchmark
+    public Model mapShapes(TransformState state) {
+        return state.transformer.mapShapes(state.model, Transforms::document);
+    }
+
+    @Benchmark
+    public Model renameShapes(TransformState state) {
+        return state.transformer.renameShapes(state.model, state.model.shapes()
+                .filter(shape -> shape.getId().getNamespace().equals(SyntheticModelGenerator.NAMESPACE))
+                .filter(shape -> !shape.isMemberShape())
+                .map(Shape::getId)
+                .collect(Collectors.toMap(id -> id, id -> ShapeId.fromParts("renamed", id.getName()))));
+    }
+
+    @Benchmark
+    public Model removeUnreferencedShapes(TransformState state) {
+        return state.transformer.removeUnreferencedShapes(state.model);
+    }
+
+    @Benchmark
+    public Model scrubTraitDefinitions(TransformState state) {
+        return state.transformer.scrubTraitDefinitions(state.model);
+    }
+
+    @Benchmark
+    public Model sortMembers(TransformState state) {
+        return state.transformer.sortMembers(state.model, Comparator.comparing(MemberShape::getMemberName));
+    }
+
+    private static Shape document(Shape shape) {
+        if (shape.isMemberShape() || shape.hasTrait(DocumentationTrait.class)) {
+            return shape;
+        }
+
+        return Shape.shapeToBuilder(shape).addTrait(new DocumentationTrait("Added docs")).build();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.smithy.model.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.model.validation.Validator;
+import software.amazon.smithy.model.validation.ValidatorFactory;
+
+/**
+ * Measures each built-in validator in isolation.
+ *
+ * <p>Run a subset of validators with JMH's parameter override, for
+ * example {@code -p validator=TargetValidator,ServiceValidator}.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class Validation {
+
+    @State(Scope.Benchmark)
+    public static class ValidationState {
+
+        @Param({"10000"})
+        public int shapeCount;
+
+        @Param({
+                "AuthTraitValidator",
+                "DeprecatedTraitValidator",
+                "EnumTraitValidator",
+                "EventPayloadTraitValidator",
+                "ExamplesTraitValidator",
+                "ExclusiveStructureMemberTraitValidator",
+                "HostLabelTraitValidator",
+                "HttpBindingsMissingValidator",
+                "HttpHeaderTraitValidator",
+                "HttpLabelTraitValidator",
+                "HttpMethodSemanticsValidator",
+                "HttpPayloadValidator",
+                "HttpPrefixHeadersTraitValidator",
+                "HttpQueryTraitValidator",
+                "HttpResponseCodeSemanticsValidator",
+                "HttpUriConflictValidator",
+                "LengthTraitValidator",
+                "MediaTypeValidator",
+                "NoInlineDocumentSupportValidator",
+                "PaginatedTraitValidator",
+                "PrivateAccessValidator",
+                "RangeTraitValidator",
+                "ReferencesTraitValidator",
+                "ResourceCycleValidator",
+                "ResourceIdentifierBindingValidator",
+                "ResourceIdentifierValidator",
+                "ResourceLifecycleValidator",
+                "SensitiveTraitValidator",
+                "ServiceValidator",
+                "ShapeIdConflictValidator",
+                "ShapeRecursionValidator",
+                "SingleOperationBindingValidator",
+                "SingleResourceBindingValidator",
+                "StreamingTraitValidator",
+                "TargetValidator",
+                "TraitConflictValidator",
+                "TraitTargetValidator",
+                "TraitValueValidator",
+                "UnreferencedShapeValidator",
+                "UnstableTraitValidator",
+                "XmlNamespaceTraitValidator"
+        })
+        public String validator;
+
+        public Model model;
+        public Validator instance;
+
+        @Setup
+        public void prepare() {
+            model = new SyntheticModelGenerator(shapeCount).generate();
+            instance = ValidatorFactory.createServiceFactory(Validation.class.getClassLoader())
+                    .loadBuiltinValidators()
+                    .stream()
+                    .filter(v -> v.getClass().getSimpleName().equals(validator))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown built-in validator: " + validator));
+        }
+    }
+
+    @Benchmark
+    public List<ValidationEvent> validate(ValidationState state) {
+        return state.instance.validate(state.model);
+    }
+}
@@ -15,6 +15,9 @@
 
 package software.amazon.smithy.model;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Path;
 import java.util.AbstractSet;
 import java.util.Collection;
 import java.util.Collections;
@@ -30,12 +33,15 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 import software.amazon.smithy.model.knowledge.KnowledgeIndex;
 import software.amazon.smithy.model.loader.ModelAssembler;
+import software.amazon.smithy.model.loader.ModelSnapshot;
 import software.amazon.smithy.model.node.ExpectationNotMetException;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.shapes.MemberShape;
 import software.amazon.smithy.model.shapes.NumberShape;
 import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ShapeIdTable;
+import software.amazon.smithy.model.shapes.ShapeType;
 import software.amazon.smithy.model.shapes.ToShapeId;
 import software.amazon.smithy.model.traits.Trait;
 import software.amazon.smithy.model.traits.TraitDefinition;
@@ -69,6 +75,9 @@ public final class Model implements ToSmithyBuilder<Model> {
     /** Lazily computed trait mappings. */
     private volatile TraitCache traitCache;
 
+    /** Lazily computed shape ID symbol table. */
+    private volatile ShapeIdTable shapeIdTable;
+
     /** Lazily computed hashcode. */
     private int hash;
 
@@ -77,6 +86,15 @@ public final class Model implements ToSmithyBuilder<Model> {
         metadata = builder.metadata.isEmpty() ? MapUtils.of() : MapUtils.copyOf(builder.metadata);
     }
 
+    private Model(ModelSnapshot snapshot) {
+        shapeMap = snapshot.getShapeMap();
+        metadata = snapshot.getMetadata();
+        traitCache = new TraitCache(snapshot.getShapesByTrait());
+        for (Map.Entry<ShapeType, Set<Shape>> entry : snapshot.getShapesByType().entrySet()) {
+            cachedTypes.put(entry.getKey().getShapeClass(), entry.getValue());
+        }
+    }
+
     /**
      * Builds an explicitly configured Smithy model.
      *
@@ -115,6 +133,57 @@ public final class Model implements ToSmithyBuilder<Model> {
                 .validatorFactory(ValidatorFactory.createServiceFactory(classLoader));
     }
 
+    /**
+     * Opens a model from a binary snapshot created using {@link #writeSnapshot}.
+     *
+     * <p>The snapshot is memory-mapped, and shapes and traits are only
+     * created when they are first accessed. Shape IDs and the shapes of each
+     * type or trait are read directly from the snapshot without creating
+     * every shape. Models opened from a snapshot are not validated.
+     *
+     * <p>The mapping can't be closed explicitly. It lives as long as the
+     * returned model and is released when the model is garbage collected.
+     * Some platforms, like Windows, don't allow a mapped file to be deleted
+     * or replaced, so a snapshot should not be rewritten while a model
+     * opened from it is in use.
+     *
+     * @param path Path to the snapshot to open.
+     * @return Returns the opened model.
+     * @throws java.io.UncheckedIOException if the snapshot can't be read.
+     * @throws software.amazon.smithy.model.loader.ModelImportException if the file is not a valid snapshot.
+     */
+    public static Model openSnapshot(Path path) {
+        return new Model(ModelSnapshot.open(path));
+    }
+
+    /**
+     * Opens a model from a binary snapshot created using {@link #writeSnapshot}
+     * and creates traits using a custom trait factory.
+     *
+     * @param path Path to the snapshot to open.
+     * @param traitFactory Factory used to create traits when they are accessed.
+     * @return Returns the opened model.
+     * @see #openSnapshot(Path)
+     */
+    public static Model openSnapshot(Path path, TraitFactory traitFactory) {
+        return new Model(ModelSnapshot.open(path, traitFactory));
+    }
+
+    /**
+     * Writes a binary snapshot of the model that can be opened using
+     * {@link #openSnapshot}.
+     *
+     * <p>Snapshots are intended to be written once from an assembled and
+     * validated model and then opened by many short-lived processes that
+     * would otherwise each need to load and validate the model.
+     *
+     * @param path Path to write the snapshot to.
+     * @throws java.io.UncheckedIOException if the snapshot can't be written.
+     */
+    public void writeSnapshot(Path path) {
+        ModelSnapshot.write(this, path);
+    }
+
     /**
      * Gets a metadata property by namespace and name.
      *
@@ -172,18 +241,37 @@ public final class Model implements ToSmithyBuilder<Model> {
         return shapeMap.keySet();
     }
 
+    /**
+     * Gets the symbol table that assigns each shape ID in the model a
+     * dense int ordinal.
+     *
+     * <p>The table is computed once per model and can be used to store
+     * information about shapes in arrays and bit sets.
+     *
+     * @return Returns the shape ID table of the model.
+     */
+    public ShapeIdTable getShapeIdTable() {
+        ShapeIdTable table = shapeIdTable;
+        if (table == null) {
+            table = ShapeIdTable.of(shapeMap.keySet());
+            shapeIdTable = table;
+        }
+        return table;
+    }
+
     /**
      * Gets a set of shapes in the model marked with a specific trait.
      *
      * <p>The result is an exact match on trait classes and does not utilize
-     * any kind of polymorphic instance of checks.
+     * any kind of polymorphic instance of checks. If the trait class has a
+     * public static {@code ID} property, then only traits with that shape ID
+     * are created when the model uses lazily created traits.
      *
      * @param trait Trait class to look for on shapes.
      * @return Returns the immutable set of matching shapes.
      */
     public Set<Shape> getShapesWithTrait(Class<? extends Trait> trait) {
-        Map<Class<? extends Trait>, Set<Shape>> mappings = getTraitCache().traitsToShapes;
-        return Collections.unmodifiableSet(mappings.getOrDefault(trait, Collections.emptySet()));
+        return Collections.unmodifiableSet(getTraitCache().getShapesWithTrait(trait));
     }
 
     /**
@@ -530,16 +618,60 @@ public final class Model implements ToSmithyBuilder<Model> {
     }
 
     private static final class TraitCache {
-        private final Map<ShapeId, Set<Shape>> traitIdsToShapes = new HashMap<>();
-        private final Map<Class<? extends Trait>, Set<Shape>> traitsToShapes = new HashMap<>();
+        private final Map<ShapeId, Set<Shape>> traitIdsToShapes;
+        private final Map<Class<? extends Trait>, Set<Shape>> traitsToShapes = new ConcurrentHashMap<>();
+
+        TraitCache(Map<ShapeId, Set<Shape>> traitIdsToShapes) {
+            this.traitIdsToShapes = traitIdsToShapes;
+        }
 
         TraitCache(Collection<Shape> shapes) {
+            traitIdsToShapes = new HashMap<>();
+            // Only trait IDs are used here so that lazily created traits aren't created.
             for (Shape shape : shapes) {
-                for (Trait trait : shape.getAllTraits().values()) {
-                    traitIdsToShapes.computeIfAbsent(trait.toShapeId(), id -> new HashSet<>()).add(shape);
-                    traitsToShapes.computeIfAbsent(trait.getClass(), id -> new HashSet<>()).add(shape);
+                for (ShapeId trait : shape.getAllTraits().keySet()) {
+                    traitIdsToShapes.computeIfAbsent(trait, id -> new HashSet<>()).add(shape);
                 }
             }
         }
+
+        Set<Shape> getShapesWithTrait(Class<? extends Trait> traitClass) {
+            return traitsToShapes.computeIfAbsent(traitClass, this::findShapesWithTrait);
+        }
+
+        // Traits are only created for the trait IDs that can be of the given class so
+        // that unrelated lazily created traits aren't created.
+        private Set<Shape> findShapesWithTrait(Class<? extends Trait> traitClass) {
+            ShapeId traitId = getTraitClassId(traitClass);
+            Set<Shape> result = new HashSet<>();
+            for (Map.Entry<ShapeId, Set<Shape>> entry : traitIdsToShapes.entrySet()) {
+                if (traitId == null || traitId.equals(entry.getKey())) {
+                    for (Shape shape : entry.getValue()) {
+                        Trait trait = shape.getAllTraits().get(entry.getKey());
+                        if (trait.getClass() == traitClass) {
+                            result.add(shape);
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+
+        // Trait classes conventionally declare the shape ID of their trait in a
+        // static property named "ID". Classes that don't, like DynamicTrait,
+        // can be created for any trait ID.
+        private static ShapeId getTraitClassId(Class<? extends Trait> traitClass) {
+            try {
+                Field field = traitClass.getField("ID");
+                if (field.getDeclaringClass() == traitClass
+                        && Modifier.isStatic(field.getModifiers())
+                        && field.getType() == ShapeId.class) {
+                    return (ShapeId) field.get(null);
+                }
+            } catch (ReflectiveOperationException e) {
+                // Fall through and check every trait.
+            }
+            return null;
+        }
     }
 }
@@ -83,7 +83,14 @@ public final class SourceLocation implements FromSourceLocation {
 
     @Override
     public boolean equals(Object other) {
-        return other instanceof SourceLocation && toString().equals(other.toString());
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof SourceLocation)) {
+            return false;
+        }
+
+        SourceLocation location = (SourceLocation) other;
+        return line == location.line && column == location.column && filename.equals(location.filename);
     }
 
     @Override
@@ -0,0 +1,391 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.knowledge;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.pattern.SmithyPattern;
+import software.amazon.smithy.model.pattern.UriPattern;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ToShapeId;
+import software.amazon.smithy.model.traits.HttpTrait;
+
+/**
+ * Routes HTTP requests to the operations of a service using the
+ * {@link HttpTrait} of each operation.
+ *
+ * <p>The URI patterns of a service are compiled into a trie of path
+ * segments for each HTTP method, so a request is routed in time
+ * proportional to the number of segments in its path rather than the
+ * number of operations in the service. When more than one pattern
+ * matches a request, literal segments are preferred over labels, labels
+ * are preferred over greedy labels, and patterns with more query string
+ * literals are preferred over patterns with fewer.
+ *
+ * <p>Path segments are percent-decoded before they are matched, and the
+ * values of labels are returned decoded. Greedy labels capture one or
+ * more segments, joined by "/".
+ *
+ * <p>This index does not perform validation of the underlying model.
+ * Routing a service that contains conflicting patterns returns one of the
+ * conflicting operations.
+ */
+public final class HttpRoutingIndex implements KnowledgeIndex {
+
+    private final Model model;
+    private final Map<ShapeId, Map<String, Node>> services = new ConcurrentHashMap<>();
+
+    public HttpRoutingIndex(Model model) {
+        this.model = model;
+    }
+
+    public static HttpRoutingIndex of(Model model) {
+        return model.getKnowledge(HttpRoutingIndex.class, HttpRoutingIndex::new);
+    }
+
+    /**
+     * Finds the operation of a service that matches an HTTP request.
+     *
+     * @param service Service to route the request to.
+     * @param method HTTP method of the request (e.g., "GET"), matched case-sensitively.
+     * @param requestTarget Path of the request with an optional query string (e.g., "/foo/bar?baz=qux").
+     * @return Returns the optionally matched operation.
+     */
+    public Optional<Match> match(ToShapeId service, String method, String requestTarget) {
+        Node root = services.computeIfAbsent(service.toShapeId(), this::createRoutes).get(method);
+        if (root == null) {
+            return Optional.empty();
+        }
+
+        int queryStart = requestTarget.indexOf('?');
+        String path = queryStart == -1 ? requestTarget : requestTarget.substring(0, queryStart);
+        String query = queryStart == -1 ? "" : requestTarget.substring(queryStart + 1);
+        String[] segments = splitPath(path);
+        if (segments == null) {
+            return Optional.empty();
+        }
+
+        Route route = root.match(segments, 0, parseQuery(query));
+        return route == null ? Optional.empty() : Optional.of(route.createMatch(segments));
+    }
+
+    private Map<String, Node> createRoutes(ShapeId service) {
+        Map<String, Node> roots = new HashMap<>();
+        for (OperationShape operation : TopDownIndex.of(model).getContainedOperations(service)) {
+            operation.getTrait(HttpTrait.class).ifPresent(trait -> {
+                Route route = new Route(operation.getId(), trait.getUri());
+                roots.computeIfAbsent(trait.getMethod(), method -> new Node()).add(route);
+            });
+        }
+        roots.values().forEach(Node::sortRoutes);
+        return roots;
+    }
+
+    // Returns null if the path isn't absolute or contains an invalid percent-encoding.
+    private static String[] splitPath(String path) {
+        if (!path.startsWith("/")) {
+            return null;
+        } else if (path.length() == 1) {
+            return new String[0];
+        }
+
+        String[] segments = path.substring(1).split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = percentDecode(segments[i]);
+            if (segments[i] == null) {
+                return null;
+            }
+        }
+        return segments;
+    }
+
+    private static Map<String, List<String>> parseQuery(String query) {
+        if (query.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, List<String>> result = new HashMap<>();
+        for (String parameter : query.split("&")) {
+            if (!parameter.isEmpty()) {
+                int separator = parameter.indexOf('=');
+                String key = percentDecode(separator == -1 ? parameter : parameter.substring(0, separator));
+                String value = separator == -1 ? "" : percentDecode(parameter.substring(separator + 1));
+                if (key != null && value != null) {
+                    result.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static String percentDecode(String value) {
+        if (value.indexOf('%') == -1) {
+            return value;
+        }
+
+        StringBuilder result = new StringBuilder(value.length());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int i = 0;
+        while (i < value.length()) {
+            if (value.charAt(i) != '%') {
+                result.append(value.charAt(i++));
+                continue;
+            }
+
+            // Consecutive escapes are decoded together since they can encode a multi-byte character.
+            bytes.reset();
+            while (i < value.length() && value.charAt(i) == '%') {
+                if (i + 2 >= value.length()) {
+                    return null;
+                }
+                int high = Character.digit(value.charAt(i + 1), 16);
+                int low = Character.digit(value.charAt(i + 2), 16);
+                if (high == -1 || low == -1) {
+                    return null;
+                }
+                bytes.write(high * 16 + low);
+                i += 3;
+            }
+            result.append(new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * An operation matched by an HTTP request.
+     */
+    public static final class Match {
+        private final ShapeId operation;
+        private final UriPattern pattern;
+        private final Map<String, String> labels;
+
+        private Match(ShapeId operation, UriPattern pattern, Map<String, String> labels) {
+            this.operation = operation;
+            this.pattern = pattern;
+            this.labels = labels;
+        }
+
+        /**
+         * Gets the matched operation.
+         *
+         * @return Returns the shape ID of the operation.
+         */
+        public ShapeId getOperation() {
+            return operation;
+        }
+
+        /**
+         * Gets the URI pattern of the matched operation.
+         *
+         * @return Returns the URI pattern.
+         */
+        public UriPattern getUriPattern() {
+            return pattern;
+        }
+
+        /**
+         * Gets the decoded values of each label in the URI pattern.
+         *
+         * @return Returns a map of label names to values.
+         */
+        public Map<String, String> getLabels() {
+            return labels;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            } else if (!(o instanceof Match)) {
+                return false;
+            }
+            Match other = (Match) o;
+            return operation.equals(other.operation) && pattern.equals(other.pattern) && labels.equals(other.labels);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(operation, pattern, labels);
+        }
+
+        @Override
+        public String toString() {
+            return operation + " " + labels;
+        }
+    }
+
+    private static final class Route {
+        private final ShapeId operation;
+        private final UriPattern pattern;
+        private final List<SmithyPattern.Segment> segments;
+        private final int greedyIndex;
+        private final String[] suffix;
+
+        Route(ShapeId operation, UriPattern pattern) {
+            this.operation = operation;
+            this.pattern = pattern;
+            segments = pattern.getSegments();
+
+            int greedy = -1;
+            for (int i = 0; i < segments.size(); i++) {
+                if (segments.get(i).isGreedyLabel()) {
+                    greedy = i;
+                    break;
+                }
+            }
+            greedyIndex = greedy;
+
+            // Only literal segments can follow a greedy label.
+            int suffixStart = greedy == -1 ? segments.size() : greedy + 1;
+            suffix = new String[segments.size() - suffixStart];
+            for (int i = 0; i < suffix.length; i++) {
+                suffix[i] = segments.get(suffixStart + i).getContent();
+            }
+        }
+
+        boolean matchesQuery(Map<String, List<String>> query) {
+            for (Map.Entry<String, String> literal : pattern.getQueryLiterals().entrySet()) {
+                List<String> values = query.get(literal.getKey());
+                if (values == null || (!literal.getValue().isEmpty() && !values.contains(literal.getValue()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Match createMatch(String[] path) {
+            Map<String, String> labels = new LinkedHashMap<>();
+            int end = greedyIndex == -1 ? segments.size() : greedyIndex;
+            for (int i = 0; i < end; i++) {
+                if (segments.get(i).isLabel()) {
+                    labels.put(segments.get(i).getContent(), path[i]);
+                }
+            }
+            if (greedyIndex != -1) {
+                String[] captured = new String[path.length - suffix.length - greedyIndex];
+                System.arraycopy(path, greedyIndex, captured, 0, captured.length);
+                labels.put(segments.get(greedyIndex).getContent(), String.join("/", captured));
+            }
+            return new Match(operation, pattern, Collections.unmodifiableMap(labels));
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private final List<Route> routes = new ArrayList<>();
+        private final List<Route> greedyRoutes = new ArrayList<>();
+        private Node label;
+
+        void add(Route route) {
+            Node current = this;
+            for (SmithyPattern.Segment segment : route.segments) {
+                if (segment.isGreedyLabel()) {
+                    current.greedyRoutes.add(route);
+                    return;
+                } else if (segment.isLabel()) {
+                    if (current.label == null) {
+                        current.label = new Node();
+                    }
+                    current = current.label;
+                } else {
+                    current = current.literals.computeIfAbsent(segment.getContent(), s -> new Node());
+                }
+            }
+            current.routes.add(route);
+        }
+
+        // Routes with more query literals are more specific and are tried first.
+        void sortRoutes() {
+            Comparator<Route> comparator = Comparator.comparingInt(r -> -r.pattern.getQueryLiterals().size());
+            routes.sort(comparator);
+            greedyRoutes.sort(Comparator.<Route>comparingInt(r -> -r.suffix.length).thenComparing(comparator));
+            literals.values().forEach(Node::sortRoutes);
+            if (label != null) {
+                label.sortRoutes();
+            }
+        }
+
+        Route match(String[] path, int position, Map<String, List<String>> query) {
+            if (position == path.length) {
+                for (Route route : routes) {
+                    if (route.matchesQuery(query)) {
+                        return route;
+                    }
+                }
+                return null;
+            }
+
+            String segment = path[position];
+            Node literal = literals.get(segment);
+            if (literal != null) {
+                Route result = literal.match(path, position + 1, query);
+                if (result != null) {
+                    return result;
+                }
+            }
+
+            // Labels must not be empty.
+            if (label != null && !segment.isEmpty()) {
+                Route result = label.match(path, position + 1, query);
+                if (result != null) {
+                    return result;
+                }
+            }
+
+            for (Route route : greedyRoutes) {
+                if (matchesGreedy(route, path, position) && route.matchesQuery(query)) {
+                    return route;
+                }
+            }
+
+            return null;
+        }
+
+        private static boolean matchesGreedy(Route route, String[] path, int position) {
+            int greedyEnd = path.length - route.suffix.length;
+            if (greedyEnd <= position) {
+                return false;
+            }
+
+            for (int i = 0; i < route.suffix.length; i++) {
+                if (!route.suffix[i].equals(path[greedyEnd + i])) {
+                    return false;
+                }
+            }
+
+            // Greedy labels must capture a non-empty value.
+            for (int i = position; i < greedyEnd; i++) {
+                if (!path[i].isEmpty()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
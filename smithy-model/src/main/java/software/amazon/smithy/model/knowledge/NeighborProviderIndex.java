@@ -18,6 +18,7 @@ package software.amazon.smithy.model.knowledge;
 import java.lang.ref.WeakReference;
 import java.util.Objects;
 import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.neighbor.ClosureCache;
 import software.amazon.smithy.model.neighbor.NeighborProvider;
 
 /**
@@ -25,6 +26,8 @@ import software.amazon.smithy.model.neighbor.NeighborProvider;
  */
 public final class NeighborProviderIndex implements KnowledgeIndex {
 
+    private static final int MAX_CACHED_CLOSURES = 512;
+
     private final NeighborProvider provider;
     private final NeighborProvider providerWithTraits;
     private final NeighborProvider reversed;
@@ -32,6 +35,7 @@ public final class NeighborProviderIndex implements KnowledgeIndex {
 
     // Lazily computed on first access.
     private volatile NeighborProvider reversedWithTraits;
+    private volatile ClosureCache closures;
 
     public NeighborProviderIndex(Model model) {
         provider = NeighborProvider.precomputed(model);
@@ -95,6 +99,31 @@ public final class NeighborProviderIndex implements KnowledgeIndex {
         return result;
     }
 
+    /**
+     * Gets a cache of the closures of shapes computed using the
+     * precomputed neighbor provider returned by {@link #getProvider()}.
+     *
+     * <p>Recursive traversals like the {@code ~>} selector use this cache
+     * so that overlapping parts of the model are only walked once.
+     *
+     * @return Returns the closure cache.
+     */
+    public ClosureCache getClosureCache() {
+        ClosureCache result = closures;
+
+        if (result == null) {
+            synchronized (this) {
+                result = closures;
+                if (result == null) {
+                    result = new ClosureCache(getOrThrowModel(), provider, MAX_CACHED_CLOSURES);
+                    closures = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
     private Model getOrThrowModel() {
         return Objects.requireNonNull(model.get(), "Model was destroyed before using this knowledge index");
     }
@@ -122,7 +122,7 @@ enum AstModelLoader {
         });
     }
 
-    private void loadShape(ShapeId id, String type, ObjectNode value, FullyResolvedModelFile modelFile) {
+    void loadShape(ShapeId id, String type, ObjectNode value, FullyResolvedModelFile modelFile) {
         switch (type) {
             case "blob":
                 loadSimpleShape(id, value, BlobShape.builder(), modelFile);
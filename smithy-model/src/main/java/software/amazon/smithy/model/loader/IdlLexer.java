@@ -0,0 +1,409 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.loader;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A byte-oriented scanner used as the base of the Smithy IDL parser.
+ *
+ * <p>This class mirrors the scanning API of {@link software.amazon.smithy.utils.SimpleParser},
+ * but it operates directly over UTF-8 encoded bytes rather than a decoded
+ * {@code String}. All of the syntax of the IDL outside of strings and comments
+ * is ASCII, so the parser can make every decision by looking at single bytes,
+ * and only the lexemes that are actually retained (identifiers, shape IDs,
+ * numbers, and string contents) are decoded by {@link #sliceFrom(int)}.
+ * This avoids decoding and copying an entire model file into a {@code String}
+ * before parsing it.
+ *
+ * <p>Positions returned by {@link #position()} are byte offsets. Line and
+ * column numbers are reported in characters so that error messages are the
+ * same as when parsing decoded text.
+ */
+abstract class IdlLexer {
+
+    private final ByteBuffer input;
+    private final byte[] array;
+    private final int arrayOffset;
+    private final int length;
+    private final int maxNestingLevel;
+    private int position;
+    private int line = 1;
+    private int column = 1;
+    private int nestingLevel;
+
+    IdlLexer(ByteBuffer input, int maxNestingLevel) {
+        this.input = input;
+        this.length = input.remaining();
+        this.maxNestingLevel = maxNestingLevel;
+
+        if (input.hasArray()) {
+            array = input.array();
+            arrayOffset = input.arrayOffset() + input.position();
+        } else {
+            array = null;
+            arrayOffset = input.position();
+        }
+    }
+
+    /**
+     * Creates a syntax error that contains context about the current position.
+     *
+     * @param message Error message to add context to.
+     * @return Returns the created syntax error.
+     */
+    abstract RuntimeException syntax(String message);
+
+    final int position() {
+        return position;
+    }
+
+    final int line() {
+        return line;
+    }
+
+    final int column() {
+        return column;
+    }
+
+    final boolean eof() {
+        return position >= length;
+    }
+
+    final char peek() {
+        return peek(0);
+    }
+
+    /**
+     * Peeks at the byte at the given offset from the current position.
+     *
+     * <p>ASCII bytes are returned as the character they encode. Bytes that
+     * are part of a multi-byte UTF-8 sequence are returned as a character
+     * in the range {@code 0x80-0xFF}, which never matches any token of the
+     * IDL. {@link Character#MIN_VALUE} is returned when peeking past the
+     * end of the input.
+     *
+     * @param offset Number of bytes from the current position to peek.
+     * @return Returns the peeked character.
+     */
+    final char peek(int offset) {
+        int target = position + offset;
+        if (target >= length || target < 0) {
+            return Character.MIN_VALUE;
+        }
+
+        return (char) (byteAt(target) & 0xFF);
+    }
+
+    final char expect(char token) {
+        if (peek() == token) {
+            skip();
+            return token;
+        }
+
+        throw syntax(String.format("Expected: '%s', but found '%s'", token, peekSingleCharForMessage()));
+    }
+
+    final char expect(char... tokens) {
+        for (char token : tokens) {
+            if (peek() == token) {
+                skip();
+                return token;
+            }
+        }
+
+        StringBuilder message = new StringBuilder("Found '")
+                .append(peekSingleCharForMessage())
+                .append("', but expected one of the following tokens:");
+        for (char c : tokens) {
+            message.append(' ').append('\'').append(c).append('\'');
+        }
+
+        throw syntax(message.toString());
+    }
+
+    /**
+     * Decodes the character at the current position for use in error messages.
+     *
+     * @return Returns the decoded character, or "[EOF]".
+     */
+    final String peekSingleCharForMessage() {
+        return eof() ? "[EOF]" : peekText(1);
+    }
+
+    /**
+     * Decodes up to the given number of code points starting at the current
+     * position without consuming them.
+     *
+     * @param codePoints Maximum number of code points to decode.
+     * @return Returns the decoded text, which is empty at the end of the input.
+     */
+    final String peekText(int codePoints) {
+        int end = position;
+        for (int i = 0; i < codePoints && end < length; i++) {
+            end += sequenceLength(byteAt(end));
+        }
+        return decode(position, Math.min(end, length));
+    }
+
+    void ws() {
+        while (!eof()) {
+            char c = peek();
+            if (!(c == ' ' || c == '\t' || c == '\r' || c == '\n')) {
+                break;
+            }
+            skip();
+        }
+    }
+
+    final void sp() {
+        while (!eof()) {
+            char c = peek();
+            if (!(c == ' ' || c == '\t')) {
+                break;
+            }
+            skip();
+        }
+    }
+
+    final void br() {
+        sp();
+
+        // EOF can also be considered a line break to end a file.
+        if (eof()) {
+            return;
+        }
+
+        char c = peek();
+        if (c == '\n' || c == '\r') {
+            skip();
+        } else {
+            throw syntax("Expected a line break, but found '" + peekSingleCharForMessage() + "'");
+        }
+    }
+
+    final void skip() {
+        if (eof()) {
+            return;
+        }
+
+        byte b = byteAt(position);
+        switch (b) {
+            case '\r':
+                if (peek(1) == '\n') {
+                    position++;
+                }
+                line++;
+                column = 1;
+                break;
+            case '\n':
+                line++;
+                column = 1;
+                break;
+            default:
+                // Columns count UTF-16 code units: continuation bytes don't
+                // advance the column, and 4-byte sequences count as two.
+                if ((b & 0xC0) != 0x80) {
+                    column += (b & 0xF8) == 0xF0 ? 2 : 1;
+                }
+        }
+
+        position++;
+    }
+
+    final void consumeRemainingCharactersOnLine() {
+        while (!eof()) {
+            byte b = byteAt(position);
+            if (b == '\n' || b == '\r') {
+                break;
+            }
+            skip();
+        }
+    }
+
+    /**
+     * Decodes the bytes from the given start position up to the current
+     * position.
+     *
+     * @param start Byte offset to start decoding from.
+     * @return Returns the decoded text.
+     */
+    final String sliceFrom(int start) {
+        return decode(start, position);
+    }
+
+    final void increaseNestingLevel() {
+        nestingLevel++;
+
+        if (maxNestingLevel > 0 && nestingLevel > maxNestingLevel) {
+            throw syntax("Parser exceeded the maximum allowed depth of " + maxNestingLevel);
+        }
+    }
+
+    final void decreaseNestingLevel() {
+        nestingLevel--;
+
+        if (nestingLevel < 0) {
+            throw syntax("Invalid parser state. Nesting level set to -1");
+        }
+    }
+
+    final String parseIdentifier() {
+        int start = position;
+        consumeIdentifier();
+        return sliceFrom(start);
+    }
+
+    final String parseShapeId() {
+        int start = position;
+        consumeNamespace();
+
+        if (peek() == '#') {
+            skip();
+            consumeIdentifier();
+        }
+
+        if (peek() == '$') {
+            skip();
+            consumeIdentifier();
+        }
+
+        return sliceFrom(start);
+    }
+
+    final void consumeNamespace() {
+        consumeIdentifier();
+        while (peek() == '.') {
+            skip();
+            consumeIdentifier();
+        }
+    }
+
+    final void consumeIdentifier() {
+        // Parse identifier_start
+        char c = peek();
+        if (c == '_') {
+            while (peek() == '_') {
+                skip();
+            }
+            if (!ParserUtils.isValidIdentifierCharacter(peek())) {
+                throw invalidIdentifier();
+            }
+        } else if (!ParserUtils.isAlphabetic(c)) {
+            throw invalidIdentifier();
+        }
+
+        // Skip the first character since it's known to be valid.
+        skip();
+
+        // Parse identifier_chars. These are all ASCII and never line breaks,
+        // so the column can be advanced without going through skip().
+        int start = position;
+        while (position < length && ParserUtils.isValidIdentifierCharacter((char) byteAt(position))) {
+            position++;
+        }
+        column += position - start;
+    }
+
+    final String parseNumber() {
+        int startPosition = position;
+
+        if (peek() == '-') {
+            skip();
+            if (!ParserUtils.isDigit(peek())) {
+                throw syntax(createInvalidNumber(startPosition, "'-' must be followed by a digit"));
+            }
+        }
+
+        consumeDigits();
+
+        // Consume decimals.
+        char peek = peek();
+        if (peek == '.') {
+            skip();
+            if (consumeDigits() == 0) {
+                throw syntax(createInvalidNumber(startPosition, "'.' must be followed by a digit"));
+            }
+        }
+
+        // Consume scientific notation.
+        peek = peek();
+        if (peek == 'e' || peek == 'E') {
+            skip();
+            peek = peek();
+            if (peek == '+' || peek == '-') {
+                skip();
+            }
+            if (consumeDigits() == 0) {
+                throw syntax(createInvalidNumber(startPosition, "'e', '+', and '-' must be followed by a digit"));
+            }
+        }
+
+        return sliceFrom(startPosition);
+    }
+
+    private int consumeDigits() {
+        int start = position;
+        while (position < length && ParserUtils.isDigit((char) byteAt(position))) {
+            position++;
+        }
+        int consumed = position - start;
+        column += consumed;
+        return consumed;
+    }
+
+    private String createInvalidNumber(int startPosition, String message) {
+        return String.format("Invalid number '%s': %s", sliceFrom(startPosition), message);
+    }
+
+    private RuntimeException invalidIdentifier() {
+        throw syntax("Expected a valid identifier character, but found '" + peekSingleCharForMessage() + '\'');
+    }
+
+    private byte byteAt(int index) {
+        return array != null ? array[arrayOffset + index] : input.get(arrayOffset + index);
+    }
+
+    private String decode(int start, int end) {
+        int size = end - start;
+        if (size <= 0) {
+            return "";
+        } else if (array != null) {
+            return new String(array, arrayOffset + start, size, StandardCharsets.UTF_8);
+        }
+
+        byte[] bytes = new byte[size];
+        ByteBuffer slice = input.duplicate();
+        slice.position(arrayOffset + start);
+        slice.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int sequenceLength(byte lead) {
+        if ((lead & 0x80) == 0) {
+            return 1;
+        } else if ((lead & 0xE0) == 0xC0) {
+            return 2;
+        } else if ((lead & 0xF0) == 0xE0) {
+            return 3;
+        } else if ((lead & 0xF8) == 0xF0) {
+            return 4;
+        }
+        // Continuation or invalid bytes are decoded one at a time.
+        return 1;
+    }
+}
@@ -17,6 +17,8 @@ package software.amazon.smithy.model.loader;
 
 import static java.lang.String.format;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -29,6 +31,7 @@ import java.util.function.Function;
 import software.amazon.smithy.model.SourceLocation;
 import software.amazon.smithy.model.node.ArrayNode;
 import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.NodeInterner;
 import software.amazon.smithy.model.node.NumberNode;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.node.StringNode;
@@ -66,10 +69,9 @@ import software.amazon.smithy.model.validation.ValidationUtils;
 import software.amazon.smithy.model.validation.Validator;
 import software.amazon.smithy.utils.ListUtils;
 import software.amazon.smithy.utils.SetUtils;
-import software.amazon.smithy.utils.SimpleParser;
 import software.amazon.smithy.utils.StringUtils;
 
-final class IdlModelParser extends SimpleParser {
+final class IdlModelParser extends IdlLexer {
 
     /** Only allow nesting up to 250 arrays/objects in node values. */
     private static final int MAX_NESTING_LEVEL = 250;
@@ -105,6 +107,7 @@ final class IdlModelParser extends SimpleParser {
 
     final ForwardReferenceModelFile modelFile;
     private final String filename;
+    private final NodeInterner interner;
     private String definedVersion;
     private TraitEntry pendingDocumentationComment;
 
@@ -122,8 +125,13 @@ final class IdlModelParser extends SimpleParser {
     }
 
     IdlModelParser(TraitFactory traitFactory, String filename, String model) {
+        this(traitFactory, filename, ByteBuffer.wrap(model.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    IdlModelParser(TraitFactory traitFactory, String filename, ByteBuffer model, NodeInterner interner) {
         super(model, MAX_NESTING_LEVEL);
         this.filename = filename;
+        this.interner = interner;
         this.modelFile = new ForwardReferenceModelFile(traitFactory);
     }
 
@@ -246,7 +254,7 @@ final class IdlModelParser extends SimpleParser {
 
             // Parse the namespace.
             int start = position();
-            ParserUtils.consumeNamespace(this);
+            consumeNamespace();
             modelFile.setNamespace(sliceFrom(start));
 
             br();
@@ -273,9 +281,9 @@ final class IdlModelParser extends SimpleParser {
 
             int start = position();
             SourceLocation location = currentLocation();
-            ParserUtils.consumeNamespace(this);
+            consumeNamespace();
             expect('#');
-            ParserUtils.consumeIdentifier(this);
+            consumeIdentifier();
             String lexeme = sliceFrom(start);
             br();
             // Clear out any erroneous documentation comments.
@@ -333,7 +341,7 @@ final class IdlModelParser extends SimpleParser {
         SourceLocation location = currentLocation();
 
         // Do a check here to give better parsing error messages.
-        String shapeType = ParserUtils.parseIdentifier(this);
+        String shapeType = parseIdentifier();
         if (!SHAPE_TYPES.contains(shapeType)) {
             switch (shapeType) {
                 case "use":
@@ -425,7 +433,7 @@ final class IdlModelParser extends SimpleParser {
     }
 
     private ShapeId parseShapeName() {
-        String name = ParserUtils.parseIdentifier(this);
+        String name = parseIdentifier();
         return ShapeId.fromRelative(modelFile.namespace(), name);
     }
 
@@ -489,7 +497,7 @@ final class IdlModelParser extends SimpleParser {
         // Parse optional member traits.
         List<TraitEntry> memberTraits = parseDocsAndTraits();
         SourceLocation memberLocation = currentLocation();
-        String memberName = ParserUtils.parseIdentifier(this);
+        String memberName = parseIdentifier();
 
         if (defined.contains(memberName)) {
             // This is a duplicate member name.
@@ -509,7 +517,7 @@ final class IdlModelParser extends SimpleParser {
         ws();
         ShapeId memberId = parent.withMember(memberName);
         MemberShape.Builder memberBuilder = MemberShape.builder().id(memberId).source(memberLocation);
-        String target = ParserUtils.parseShapeId(this);
+        String target = parseShapeId();
         modelFile.onShape(memberBuilder);
         modelFile.addForwardReference(target, memberBuilder::target);
         addTraits(memberId, memberTraits);
@@ -647,7 +655,7 @@ final class IdlModelParser extends SimpleParser {
         expect('y');
         ws();
 
-        String name = ParserUtils.parseShapeId(this);
+        String name = parseShapeId();
         ws();
 
         TraitEntry traitEntry = IdlTraitParser.parseTraitValue(this);
@@ -716,9 +724,21 @@ final class IdlModelParser extends SimpleParser {
         return new SourceLocation(filename, line(), column());
     }
 
+    StringNode createKey(String key, SourceLocation location) {
+        return interner == null ? new StringNode(key, location) : interner.key(key, location);
+    }
+
+    StringNode createString(String value, SourceLocation location) {
+        return interner == null ? new StringNode(value, location) : interner.string(value, location);
+    }
+
+    ObjectNode createObjectNode(Map<StringNode, Node> members, SourceLocation location) {
+        return interner == null ? new ObjectNode(members, location) : interner.objectNode(members, location);
+    }
+
     NumberNode parseNumberNode() {
         SourceLocation location = currentLocation();
-        String lexeme = ParserUtils.parseNumber(this);
+        String lexeme = parseNumber();
         if (lexeme.contains("e") || lexeme.contains(".")) {
             return new NumberNode(Double.valueOf(lexeme), location);
         } else {
@@ -727,7 +747,7 @@ final class IdlModelParser extends SimpleParser {
     }
 
     private String peekDebugMessage() {
-        StringBuilder result = new StringBuilder(expression().length());
+        StringBuilder result = new StringBuilder(16);
 
         char c = peek();
 
@@ -748,13 +768,10 @@ final class IdlModelParser extends SimpleParser {
         }
 
         // Take two characters for context.
-        for (int i = 0; i < 2; i++) {
-            char peek = peek(i);
-            if (peek == Character.MIN_VALUE) {
-                result.append("[EOF]");
-                break;
-            }
-            result.append(peek);
+        String text = peekText(2);
+        result.append(text);
+        if (text.length() < 2) {
+            result.append("[EOF]");
         }
 
         return result.toString();
@@ -52,7 +52,7 @@ final class IdlNodeParser {
                     return parseTextBlock(parser);
                 } else {
                     SourceLocation location = parser.currentLocation();
-                    return new StringNode(IdlTextParser.parseQuotedString(parser), location);
+                    return parser.createString(IdlTextParser.parseQuotedString(parser), location);
                 }
             }
             case '0':
@@ -69,7 +69,7 @@ final class IdlNodeParser {
                 return parser.parseNumberNode();
             default: {
                 SourceLocation location = parser.currentLocation();
-                return parseNodeTextWithKeywords(parser, location, ParserUtils.parseShapeId(parser));
+                return parseNodeTextWithKeywords(parser, location, parser.parseShapeId());
             }
         }
     }
@@ -116,7 +116,7 @@ final class IdlNodeParser {
         parser.expect('"');
         parser.expect('"');
         parser.expect('"');
-        return new StringNode(IdlTextParser.parseQuotedTextAndTextBlock(parser, true), location);
+        return parser.createString(IdlTextParser.parseQuotedTextAndTextBlock(parser, true), location);
     }
 
     static ObjectNode parseObjectNode(IdlModelParser parser) {
@@ -137,7 +137,7 @@ final class IdlNodeParser {
                 parser.expect(':');
                 parser.ws();
                 Node value = parseNode(parser);
-                entries.put(new StringNode(key, keyLocation), value);
+                entries.put(parser.createKey(key, keyLocation), value);
                 parser.ws();
                 if (parser.peek() == ',') {
                     parser.skip();
@@ -150,14 +150,14 @@ final class IdlNodeParser {
 
         parser.expect('}');
         parser.decreaseNestingLevel();
-        return new ObjectNode(entries, location);
+        return parser.createObjectNode(entries, location);
     }
 
     static String parseNodeObjectKey(IdlModelParser parser) {
         if (parser.peek() == '"') {
             return IdlTextParser.parseQuotedString(parser);
         } else {
-            return ParserUtils.parseIdentifier(parser);
+            return parser.parseIdentifier();
         }
     }
 
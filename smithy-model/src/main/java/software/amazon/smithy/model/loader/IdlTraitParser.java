@@ -43,7 +43,7 @@ final class IdlTraitParser {
     static IdlModelParser.TraitEntry parseTraitValue(IdlModelParser parser) {
         // "@" shape_id
         parser.expect('@');
-        String id = ParserUtils.parseShapeId(parser);
+        String id = parser.parseShapeId();
 
         // No (): it's an annotation trait.
         if (parser.peek() != '(') {
@@ -89,7 +89,7 @@ final class IdlTraitParser {
                     return parser.parseNumberNode();
                 } else {
                     // Parse unquoted strings or possibly a structured trait.
-                    String key = ParserUtils.parseIdentifier(parser);
+                    String key = parser.parseIdentifier();
                     return parseTraitValueBodyIdentifierOrQuotedString(parser, keyLocation, key, true);
                 }
             }
@@ -108,13 +108,13 @@ final class IdlTraitParser {
         if (parser.peek() == ':') {
             parser.expect(':');
             parser.ws();
-            return parseStructuredTrait(parser, new StringNode(key, location));
+            return parseStructuredTrait(parser, parser.createKey(key, location));
         } else if (unquoted) {
             // It's a node_value that's either a keyword or shape ID.
             return IdlNodeParser.parseNodeTextWithKeywords(parser, location, key);
         } else {
             // It's a quoted string node_value.
-            return new StringNode(key, location);
+            return parser.createString(key, location);
         }
     }
 
@@ -134,17 +134,18 @@ final class IdlTraitParser {
             if (ParserUtils.isIdentifierStart(c) || c == '"') {
                 parseTraitStructureKvp(parser, entries);
             } else {
-                throw parser.syntax("Unexpected object key character: '" + c + '\'');
+                throw parser.syntax("Unexpected object key character: '"
+                                    + parser.peekSingleCharForMessage() + '\'');
             }
         }
 
-        return new ObjectNode(entries, startingKey.getSourceLocation());
+        return parser.createObjectNode(entries, startingKey.getSourceLocation());
     }
 
     private static void parseTraitStructureKvp(IdlModelParser parser, Map<StringNode, Node> entries) {
         SourceLocation keyLocation = parser.currentLocation();
         String key = IdlNodeParser.parseNodeObjectKey(parser);
-        StringNode nextKey = new StringNode(key, keyLocation);
+        StringNode nextKey = parser.createKey(key, keyLocation);
         parser.ws();
         parser.expect(':');
         parser.ws();
@@ -33,15 +33,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.SourceException;
 import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.NodeInterner;
 import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.shapes.ShapeType;
+import software.amazon.smithy.model.traits.LazyTrait;
 import software.amazon.smithy.model.traits.Trait;
 import software.amazon.smithy.model.traits.TraitFactory;
 import software.amazon.smithy.model.validation.Severity;
@@ -83,6 +87,33 @@ public final class ModelAssembler {
      */
     public static final String DISABLE_JAR_CACHE = "assembler.disableJarCache";
 
+    /**
+     * Creates compact {@link Node} values when parsing models.
+     *
+     * <p>When set to true, object keys and short strings are interned and
+     * shared across every loaded file, and small objects are backed by
+     * arrays. This reduces the retained heap of trait values and metadata
+     * in large models. Source locations are the same as when this property
+     * is not set.
+     */
+    public static final String COMPACT_NODES = "assembler.compactNodes";
+
+    /**
+     * Defers creating typed traits until they are first accessed.
+     *
+     * <p>When set to true, trait values are kept as their raw {@link Node}
+     * values when the model is assembled, and the {@link TraitFactory} is
+     * only invoked for a trait the first time the trait is accessed through
+     * a {@link Shape}. This can make loading much faster for tools that only
+     * access a small number of traits.
+     *
+     * <p>Errors encountered while creating a trait are thrown as a
+     * {@link SourceException} when the trait is accessed rather than
+     * reported as validation events, so this setting should only be used
+     * with models that are known to be valid or when validation is disabled.
+     */
+    public static final String LAZY_TRAITS = "assembler.lazyTraits";
+
     private static final Logger LOGGER = Logger.getLogger(ModelAssembler.class.getName());
 
     private TraitFactory traitFactory;
@@ -97,6 +128,10 @@ public final class ModelAssembler {
     private final Map<String, Node> metadata = new HashMap<>();
     private final Map<String, Object> properties = new HashMap<>();
     private boolean disablePrelude;
+    private Executor executor;
+    private Consumer<ValidationEvent> validationEventListener;
+    private int maxValidationErrors = Integer.MAX_VALUE;
+    private boolean discardValidationEvents;
 
     // Lazy initialization holder class idiom to hold a default validator factory.
     private static final class LazyValidatorFactoryHolder {
@@ -128,6 +163,10 @@ public final class ModelAssembler {
         assembler.disablePrelude = disablePrelude;
         assembler.properties.putAll(properties);
         assembler.disableValidation = disableValidation;
+        assembler.executor = executor;
+        assembler.validationEventListener = validationEventListener;
+        assembler.maxValidationErrors = maxValidationErrors;
+        assembler.discardValidationEvents = discardValidationEvents;
         return assembler;
     }
 
@@ -465,6 +504,81 @@ public final class ModelAssembler {
         return this;
     }
 
+    /**
+     * Sets the executor used to run validators in parallel.
+     *
+     * <p>The thread that assembles the model also runs validators, so the
+     * executor can be a bounded pool that the assembler is itself running
+     * on. Validators run on the common fork-join pool by default.
+     *
+     * @param executor Executor used to run validators.
+     * @return Returns the assembler.
+     */
+    public ModelAssembler executor(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+        return this;
+    }
+
+    /**
+     * Sets a listener that receives validation events as they are encountered.
+     *
+     * <p>Events are sent to the listener as soon as they are loaded or as
+     * soon as a validator completes rather than after the entire model has
+     * been validated, allowing tools to report events incrementally. Events
+     * are not sorted, but they are sent in the same order each time the same
+     * model is assembled, and the listener is never invoked concurrently.
+     * Events sent to the listener are also included in the result of
+     * {@link #assemble()} unless {@link #discardValidationEvents()} is used,
+     * though the result lists validator events before the events that were
+     * encountered while loading the model.
+     *
+     * @param validationEventListener Listener that receives validation events.
+     * @return Returns the assembler.
+     */
+    public ModelAssembler validationEventListener(Consumer<ValidationEvent> validationEventListener) {
+        this.validationEventListener = Objects.requireNonNull(validationEventListener);
+        return this;
+    }
+
+    /**
+     * Stops validating the model after a number of ERROR events are encountered.
+     *
+     * <p>Once the limit is reached, validators that have not yet started are
+     * skipped, and any events encountered after the event that reached the
+     * limit are discarded. This bounds the time and memory spent validating
+     * models that are badly broken. The number of errors is not limited by
+     * default.
+     *
+     * @param maxValidationErrors Maximum number of ERROR events to encounter.
+     * @return Returns the assembler.
+     * @throws IllegalArgumentException if the limit is less than 1.
+     */
+    public ModelAssembler maxValidationErrors(int maxValidationErrors) {
+        if (maxValidationErrors < 1) {
+            throw new IllegalArgumentException("maxValidationErrors must be greater than 0: " + maxValidationErrors);
+        }
+        this.maxValidationErrors = maxValidationErrors;
+        return this;
+    }
+
+    /**
+     * Discards validation events once they are sent to the validation
+     * event listener rather than including them in the result of
+     * {@link #assemble()}.
+     *
+     * <p>This bounds the memory used to validate models that emit a large
+     * number of events when events only need to be reported. The result of
+     * assembling the model contains no validation events, so a listener
+     * has to be used to find out if the model is valid.
+     *
+     * @return Returns the assembler.
+     * @see #validationEventListener(Consumer)
+     */
+    public ModelAssembler discardValidationEvents() {
+        discardValidationEvents = true;
+        return this;
+    }
+
     /**
      * Disables additional validation of the model.
      *
@@ -523,28 +637,34 @@ public final class ModelAssembler {
             traitFactory = LazyTraitFactoryHolder.INSTANCE;
         }
 
+        TraitFactory factory = isPropertyEnabled(LAZY_TRAITS)
+                ? LazyTrait.createLazyFactory(traitFactory)
+                : traitFactory;
+
         // Create "model files" for the prelude, manually added shapes, imports, etc.
-        List<ModelFile> modelFiles = createModelFiles();
+        List<ModelFile> modelFiles = createModelFiles(factory);
+        ValidationEventSink sink = new ValidationEventSink(
+                validationEventListener, maxValidationErrors, !discardValidationEvents);
 
         try {
-            CompositeModelFile files = new CompositeModelFile(traitFactory, modelFiles);
+            CompositeModelFile files = new CompositeModelFile(factory, modelFiles);
             TraitContainer traits = files.resolveShapes(files.shapeIds(), files::getShapeType);
             Model model = Model.builder()
                     .metadata(files.metadata())
                     .addShapes(files.createShapes(traits))
                     .build();
-            return validate(model, traits, files.events());
+            return validate(model, traits, files.events(), sink);
         } catch (SourceException e) {
             List<ValidationEvent> events = new ArrayList<>();
             events.add(ValidationEvent.fromSourceException(e));
             for (ModelFile modelFile : modelFiles) {
                 events.addAll(modelFile.events());
             }
-            return ValidatedResult.fromErrors(events);
+            return ValidatedResult.fromErrors(sink.accept(events));
         }
     }
 
-    private List<ModelFile> createModelFiles() {
+    private List<ModelFile> createModelFiles(TraitFactory traitFactory) {
         List<ModelFile> modelFiles = new ArrayList<>();
 
         if (!disablePrelude) {
@@ -581,9 +701,11 @@ public final class ModelAssembler {
         }
 
         // Load model files and merge them into the assembler.
+        NodeInterner interner = isPropertyEnabled(COMPACT_NODES) ? new NodeInterner() : null;
         for (Map.Entry<String, Supplier<InputStream>> entry : inputStreamModels.entrySet()) {
             try {
-                ModelFile loaded = ModelLoader.load(traitFactory, properties, entry.getKey(), entry.getValue());
+                ModelFile loaded = ModelLoader.load(
+                        traitFactory, properties, entry.getKey(), entry.getValue(), interner);
                 if (loaded == null) {
                     LOGGER.warning(() -> "No ModelLoader was able to load " + entry.getKey());
                 } else {
@@ -597,11 +719,17 @@ public final class ModelAssembler {
         return modelFiles;
     }
 
-    private ValidatedResult<Model> validate(Model model, TraitContainer traits, List<ValidationEvent> events) {
+    private ValidatedResult<Model> validate(
+            Model model,
+            TraitContainer traits,
+            List<ValidationEvent> events,
+            ValidationEventSink sink
+    ) {
         validateTraits(model.getShapeIds(), traits, events);
+        List<ValidationEvent> loadEvents = sink.accept(events);
 
-        if (disableValidation) {
-            return new ValidatedResult<>(model, events);
+        if (disableValidation || sink.isStopped()) {
+            return new ValidatedResult<>(model, loadEvents);
         }
 
         if (validatorFactory == null) {
@@ -609,9 +737,11 @@ public final class ModelAssembler {
         }
 
         // Validate the model based on the explicit validators and model metadata.
-        List<ValidationEvent> mergedEvents = ModelValidator.validate(model, validatorFactory, assembleValidators());
-        mergedEvents.addAll(events);
-        return new ValidatedResult<>(model, mergedEvents);
+        // The listener sees load events first, but the result keeps validator events first.
+        List<ValidationEvent> result = ModelValidator.validate(
+                model, validatorFactory, assembleValidators(), executor, sink);
+        result.addAll(loadEvents);
+        return new ValidatedResult<>(model, result);
     }
 
     private void validateTraits(Set<ShapeId> ids, TraitContainer resolvedTraits, List<ValidationEvent> events) {
@@ -646,8 +776,12 @@ public final class ModelAssembler {
     }
 
     private boolean areUnknownTraitsAllowed() {
-        Object allowUnknown = properties.get(ModelAssembler.ALLOW_UNKNOWN_TRAITS);
-        return allowUnknown != null && (boolean) allowUnknown;
+        return isPropertyEnabled(ALLOW_UNKNOWN_TRAITS);
+    }
+
+    private boolean isPropertyEnabled(String property) {
+        Object value = properties.get(property);
+        return value != null && (boolean) value;
     }
 
     private List<Validator> assembleValidators() {
@@ -21,16 +21,21 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * Discovers Smithy models by finding all {@code META-INF/smithy/manifest}
@@ -101,7 +106,7 @@ public final class ModelDiscovery {
     private static final Logger LOGGER = Logger.getLogger(ModelDiscovery.class.getName());
     private static final String ROOT_RESOURCE_PATH = "META-INF/smithy/";
     private static final String MANIFEST = "manifest";
-    private static final String MANIFEST_PATH = ROOT_RESOURCE_PATH + MANIFEST;
+    static final String MANIFEST_PATH = ROOT_RESOURCE_PATH + MANIFEST;
     private static final Pattern PROHIBITED_RESOURCE_SEGMENT_CHARS = Pattern.compile("[\t\\\\?%*:|\"'><# ]+");
 
     private ModelDiscovery() {}
@@ -134,6 +139,82 @@ public final class ModelDiscovery {
         }
     }
 
+    /**
+     * Finds Smithy models in the JARs and directories of a class path.
+     *
+     * <p>Unlike {@link #findModels(ClassLoader)}, the class path entries
+     * are scanned in parallel, and the manifest of each JAR is read directly
+     * from the JAR rather than through a cached JAR URL connection. Entries
+     * that do not exist are ignored. Models are returned in class path order.
+     *
+     * @param classpath Class path entries to search.
+     * @return Returns the URLs of each model referenced by manifests.
+     */
+    public static List<URL> findModels(List<Path> classpath) {
+        return findModels(classpath, ModelDiscoveryIndex.create());
+    }
+
+    /**
+     * Finds Smithy models in the JARs and directories of a class path
+     * using a persisted discovery index.
+     *
+     * <p>The index file records the size, last modified time, and models
+     * of every JAR on the class path. Only JARs that are not in the index
+     * or that changed since the index was written are opened, and the
+     * index file is updated when any JAR changed. The index file is
+     * created if it does not exist, and an invalid index file is ignored
+     * and overwritten.
+     *
+     * <p>Directories on the class path are always searched.
+     *
+     * @param classpath Class path entries to search.
+     * @param indexFile File used to persist the discovery index.
+     * @return Returns the URLs of each model referenced by manifests.
+     */
+    public static List<URL> findModels(List<Path> classpath, Path indexFile) {
+        ModelDiscoveryIndex index = ModelDiscoveryIndex.load(indexFile);
+        List<URL> result = findModels(classpath, index);
+        index.write(indexFile);
+        return result;
+    }
+
+    private static List<URL> findModels(List<Path> classpath, ModelDiscoveryIndex index) {
+        return classpath.parallelStream()
+                .map(Path::toAbsolutePath)
+                .map(Path::normalize)
+                .map(entry -> findModels(entry, index))
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    private static List<URL> findModels(Path entry, ModelDiscoveryIndex index) {
+        if (Files.isDirectory(entry)) {
+            Path manifest = entry.resolve(MANIFEST_PATH);
+            if (!Files.isRegularFile(manifest)) {
+                return Collections.emptyList();
+            }
+            try {
+                return findModels(manifest.toUri().toURL());
+            } catch (MalformedURLException e) {
+                throw new ModelManifestException("Invalid Smithy model manifest path: " + manifest, e);
+            }
+        }
+
+        List<String> models = index.getModels(entry);
+        if (models.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        try {
+            // Use the same URL form as a URLClassLoader so that models are identified consistently.
+            URL manifestUrl = createSmithyJarManifestUrl(entry.toUri().toURL().toString());
+            LOGGER.finer(() -> "Found ModelDiscovery manifest at " + manifestUrl);
+            return resolveModels(manifestUrl, models);
+        } catch (MalformedURLException e) {
+            throw new ModelManifestException("Invalid Smithy model JAR path: " + entry, e);
+        }
+    }
+
     /**
      * Parse the Smithy models from the given URL that points to a Smithy
      * manifest file in a JAR.
@@ -145,19 +226,28 @@ public final class ModelDiscovery {
      * @return Returns the URLs of each model referenced by the manifest.
      */
     public static List<URL> findModels(URL jarManifestUrl) {
-        List<URL> result = new ArrayList<>();
         LOGGER.finer(() -> "Found ModelDiscovery manifest at " + jarManifestUrl);
-        String modelUrlPrefix = jarManifestUrl.toString();
+
+        try {
+            return resolveModels(jarManifestUrl, parseManifest(jarManifestUrl));
+        } catch (IOException e) {
+            throw new ModelManifestException("Error parsing Smithy model manifest from " + jarManifestUrl, e);
+        }
+    }
+
+    private static List<URL> resolveModels(URL manifestUrl, List<String> models) {
+        List<URL> result = new ArrayList<>(models.size());
+        String modelUrlPrefix = manifestUrl.toString();
         modelUrlPrefix = modelUrlPrefix.substring(0, modelUrlPrefix.length() - MANIFEST.length());
 
         try {
-            for (String model : parseManifest(jarManifestUrl)) {
+            for (String model : models) {
                 URL modelUrl = new URL(modelUrlPrefix + model);
                 LOGGER.finest(() -> format("Found Smithy model `%s` in manifest", modelUrl));
                 result.add(modelUrl);
             }
-        } catch (IOException e) {
-            throw new ModelManifestException("Error parsing Smithy model manifest from " + jarManifestUrl, e);
+        } catch (MalformedURLException e) {
+            throw new ModelManifestException("Error parsing Smithy model manifest from " + manifestUrl, e);
         }
 
         return result;
@@ -212,13 +302,19 @@ public final class ModelDiscovery {
         }
     }
 
-    private static Set<String> parseManifest(URL location) throws IOException {
-        Set<String> models = new LinkedHashSet<>();
+    private static List<String> parseManifest(URL location) throws IOException {
         URLConnection connection = location.openConnection();
         connection.setUseCaches(false);
 
-        try (InputStream input = connection.getInputStream();
-             BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+        try (InputStream input = connection.getInputStream()) {
+            return parseManifest(location.toString(), input);
+        }
+    }
+
+    static List<String> parseManifest(String location, InputStream input) throws IOException {
+        Set<String> models = new LinkedHashSet<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
             for (;;) {
                 String line = reader.readLine();
                 if (line == null) {
@@ -236,7 +332,7 @@ public final class ModelDiscovery {
             }
         }
 
-        return models;
+        return new ArrayList<>(models);
     }
 
     private static boolean isValidateResourceLine(String line) {
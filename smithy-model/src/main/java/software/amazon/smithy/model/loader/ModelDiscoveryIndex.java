@@ -0,0 +1,229 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.loader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.utils.IoUtils;
+
+/**
+ * A persisted index of the Smithy models contained in each JAR of a class
+ * path, used by {@link ModelDiscovery#findModels(List, Path)}.
+ *
+ * <p>Each JAR is keyed by its absolute path and fingerprinted by its size
+ * and last modified time. JARs with an unchanged fingerprint are resolved
+ * from the index without being opened. JARs that do not contain a
+ * manifest are recorded with no models so that they are not opened again.
+ */
+final class ModelDiscoveryIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(ModelDiscoveryIndex.class.getName());
+    private static final String VERSION = "1.0";
+
+    private final Map<String, Entry> entries;
+    private final Map<String, Entry> scanned = new ConcurrentHashMap<>();
+
+    private ModelDiscoveryIndex(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Creates an empty index.
+     *
+     * @return Returns the created index.
+     */
+    static ModelDiscoveryIndex create() {
+        return new ModelDiscoveryIndex(Collections.emptyMap());
+    }
+
+    /**
+     * Loads an index from a file.
+     *
+     * <p>An empty index is returned if the file does not exist, was written
+     * by a different version, or cannot be parsed.
+     *
+     * @param file File to load.
+     * @return Returns the loaded index.
+     */
+    static ModelDiscoveryIndex load(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return create();
+        }
+
+        try {
+            ObjectNode node = Node.parse(IoUtils.readUtf8File(file), file.toString()).expectObjectNode();
+            if (!node.getStringMemberOrDefault("version", "").equals(VERSION)) {
+                LOGGER.fine(() -> "Ignoring model discovery index with a different version: " + file);
+                return create();
+            }
+
+            Map<String, Entry> entries = new TreeMap<>();
+            for (Map.Entry<String, Node> jar : node.expectObjectMember("jars").getStringMap().entrySet()) {
+                ObjectNode value = jar.getValue().expectObjectNode();
+                entries.put(jar.getKey(), new Entry(
+                        value.expectNumberMember("size").getValue().longValue(),
+                        value.expectNumberMember("lastModified").getValue().longValue(),
+                        Node.loadArrayOfString("models", value.expectArrayMember("models"))));
+            }
+            return new ModelDiscoveryIndex(entries);
+        } catch (RuntimeException e) {
+            LOGGER.warning(() -> "Ignoring invalid model discovery index " + file + ": " + e.getMessage());
+            return create();
+        }
+    }
+
+    /**
+     * Gets the relative names of the models in a JAR.
+     *
+     * <p>The JAR is only opened if its size or last modified time differs
+     * from the index. This method is safe to call from multiple threads.
+     *
+     * @param jar Absolute path to the JAR.
+     * @return Returns the models listed in the manifest of the JAR.
+     */
+    List<String> getModels(Path jar) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return Collections.emptyList();
+        } catch (IOException e) {
+            throw new ModelManifestException("Error reading attributes of " + jar, e);
+        }
+
+        String key = jar.toString();
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        Entry entry = entries.get(key);
+
+        if (entry == null || entry.size != size || entry.lastModified != lastModified) {
+            LOGGER.finest(() -> "Scanning for a Smithy manifest in " + jar);
+            entry = new Entry(size, lastModified, scan(jar));
+        }
+
+        scanned.put(key, entry);
+        return entry.models;
+    }
+
+    private static List<String> scan(Path jar) {
+        try (ZipFile zip = new ZipFile(jar.toFile())) {
+            ZipEntry manifest = zip.getEntry(ModelDiscovery.MANIFEST_PATH);
+            if (manifest == null) {
+                return Collections.emptyList();
+            }
+            try (InputStream input = zip.getInputStream(manifest)) {
+                return ModelDiscovery.parseManifest(jar + "!/" + ModelDiscovery.MANIFEST_PATH, input);
+            }
+        } catch (ZipException e) {
+            // Class paths can contain files that aren't JARs, and class loaders ignore them.
+            LOGGER.fine(() -> "Skipping class path entry that is not a JAR: " + jar);
+            return Collections.emptyList();
+        } catch (IOException e) {
+            throw new ModelManifestException("Error reading Smithy model manifest from " + jar, e);
+        }
+    }
+
+    /**
+     * Writes the JARs resolved by this index to a file if they differ from
+     * the JARs the index was loaded with.
+     *
+     * <p>JARs that were not resolved through {@link #getModels} are
+     * removed from the written index. The file is replaced atomically
+     * when the file system supports it.
+     *
+     * @param file File to write.
+     */
+    void write(Path file) {
+        Map<String, Entry> updated = new TreeMap<>(scanned);
+        if (updated.equals(entries)) {
+            return;
+        }
+
+        ObjectNode.Builder jars = Node.objectNodeBuilder();
+        for (Map.Entry<String, Entry> entry : updated.entrySet()) {
+            jars.withMember(entry.getKey(), Node.objectNodeBuilder()
+                    .withMember("size", entry.getValue().size)
+                    .withMember("lastModified", entry.getValue().lastModified)
+                    .withMember("models", Node.fromStrings(entry.getValue().models))
+                    .build());
+        }
+        ObjectNode node = Node.objectNode()
+                .withMember("version", VERSION)
+                .withMember("jars", jars.build());
+
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            Files.write(temp, Node.prettyPrintJson(node).getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // The index is only a cache, so failing to write it doesn't fail discovery.
+            LOGGER.warning(() -> "Unable to write model discovery index " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static final class Entry {
+        private final long size;
+        private final long lastModified;
+        private final List<String> models;
+
+        Entry(long size, long lastModified, List<String> models) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.models = models;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            } else if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry other = (Entry) o;
+            return size == other.size && lastModified == other.lastModified && models.equals(other.models);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, lastModified, models);
+        }
+    }
+}
@@ -17,8 +17,10 @@ package software.amazon.smithy.model.loader;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -27,8 +29,10 @@ import java.util.logging.Logger;
 import software.amazon.smithy.model.SourceException;
 import software.amazon.smithy.model.SourceLocation;
 import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.NodeInterner;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.model.node.internal.NodeHandler;
 import software.amazon.smithy.model.traits.TraitFactory;
 import software.amazon.smithy.utils.IoUtils;
 
@@ -55,6 +59,7 @@ final class ModelLoader {
      * @param contentSupplier The supplier that provides an InputStream. The
      *   supplied {@code InputStream} is automatically closed when the loader
      *   has finished reading from it.
+     * @param interner Interner used to create compact nodes, or null to create regular nodes.
      * @return Returns a {@code ModelFile} if the model could be loaded, or {@code null}.
      * @throws SourceException if there is an error reading from the contents.
      */
@@ -62,23 +67,43 @@ final class ModelLoader {
             TraitFactory traitFactory,
             Map<String, Object> properties,
             String filename,
-            Supplier<InputStream> contentSupplier
+            Supplier<InputStream> contentSupplier,
+            NodeInterner interner
     ) {
         if (filename.endsWith(".json")) {
-            return loadParsedNode(traitFactory, Node.parse(contentSupplier.get(), filename));
+            return loadParsedNode(traitFactory, parseJson(filename, contentSupplier, interner));
         } else if (filename.endsWith(".smithy")) {
-            String contents = IoUtils.toUtf8String(contentSupplier.get());
-            return new IdlModelParser(traitFactory, filename, contents).parse();
+            return new IdlModelParser(traitFactory, filename, readIdl(contentSupplier), interner).parse();
         } else if (filename.endsWith(".jar")) {
-            return loadJar(traitFactory, properties, filename);
+            return loadJar(traitFactory, properties, filename, interner);
         } else if (filename.equals(SourceLocation.NONE.getFilename())) {
             // Assume it's JSON if there's a N/A filename.
-            return loadParsedNode(traitFactory, Node.parse(contentSupplier.get(), filename));
+            return loadParsedNode(traitFactory, parseJson(filename, contentSupplier, interner));
         } else {
             return null;
         }
     }
 
+    private static Node parseJson(String filename, Supplier<InputStream> contentSupplier, NodeInterner interner) {
+        if (interner == null) {
+            return Node.parse(contentSupplier.get(), filename);
+        }
+
+        return NodeHandler.parse(filename, IoUtils.toUtf8String(contentSupplier.get()), false, interner);
+    }
+
+    // The IDL parser scans UTF-8 bytes directly, so the contents are never
+    // decoded into a single String. Files are read onto the heap rather than
+    // memory-mapped since a mapped file stays open, and locked on Windows,
+    // until the mapping is garbage collected.
+    private static ByteBuffer readIdl(Supplier<InputStream> contentSupplier) {
+        try (InputStream stream = contentSupplier.get()) {
+            return ByteBuffer.wrap(IoUtils.toByteArray(stream));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     // Loads all supported JSON formats. Each JSON format is expected to have
     // a top-level version property that contains a string. This version
     // is then used to delegate loading to different versions of the
@@ -98,7 +123,12 @@ final class ModelLoader {
 
     // Allows importing JAR files by discovering models inside of a JAR file.
     // This is similar to model discovery, but done using an explicit import.
-    private static ModelFile loadJar(TraitFactory traitFactory, Map<String, Object> properties, String filename) {
+    private static ModelFile loadJar(
+            TraitFactory traitFactory,
+            Map<String, Object> properties,
+            String filename,
+            NodeInterner interner
+    ) {
         List<ModelFile> modelFiles = new ArrayList<>();
         URL manifestUrl = ModelDiscovery.createSmithyJarManifestUrl(filename);
         LOGGER.fine(() -> "Loading Smithy model imports from JAR: " + manifestUrl);
@@ -117,7 +147,7 @@ final class ModelLoader {
                     } catch (IOException e) {
                         throw throwIoJarException(model, e);
                     }
-                });
+                }, interner);
                 if (innerResult != null) {
                     modelFiles.add(innerResult);
                 }
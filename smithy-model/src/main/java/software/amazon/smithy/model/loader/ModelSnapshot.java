@@ -0,0 +1,681 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.loader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.model.shapes.AbstractShapeBuilder;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.ModelSerializer;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ShapeType;
+import software.amazon.smithy.model.traits.LazyTrait;
+import software.amazon.smithy.model.traits.TraitFactory;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Reads and writes binary snapshots of fully assembled models.
+ *
+ * <p>A snapshot contains a table of every shape ID in the model along with
+ * the type, source location, and applied traits of each shape, followed by
+ * a binary encoding of the JSON AST of each top-level shape. Snapshots are opened by memory
+ * mapping the file, and the shape IDs, shape types, and trait indexes are
+ * read directly from the tables. Shapes are only created from their encoded
+ * JSON AST when they are first accessed, and traits are only created when they
+ * are first accessed from a shape. The file stays mapped until the snapshot,
+ * and the model it was opened for, are garbage collected.
+ *
+ * <p>Prelude shapes are not written to snapshots. If the snapshotted model
+ * contained the prelude, the prelude is added to the model when the snapshot
+ * is opened. The source locations of shapes and members are preserved, but
+ * the source locations of trait values are not.
+ *
+ * @see Model#openSnapshot
+ * @see Model#writeSnapshot
+ */
+@SmithyInternalApi
+public final class ModelSnapshot {
+
+    private static final int MAGIC = 0x534D5348;
+    private static final int VERSION = 1;
+    private static final int SHAPE_ENTRY_SIZE = 7 * Integer.BYTES;
+    private static final int NO_VALUE = -1;
+
+    // Tags used to encode node values.
+    private static final byte NULL = 0;
+    private static final byte TRUE = 1;
+    private static final byte FALSE = 2;
+    private static final byte STRING = 3;
+    private static final byte ARRAY = 4;
+    private static final byte OBJECT = 5;
+    private static final byte BYTE = 6;
+    private static final byte SHORT = 7;
+    private static final byte INTEGER = 8;
+    private static final byte LONG = 9;
+    private static final byte FLOAT = 10;
+    private static final byte DOUBLE = 11;
+    private static final byte BIG_INTEGER = 12;
+    private static final byte BIG_DECIMAL = 13;
+
+    private final ByteBuffer buffer;
+    private final TraitFactory traitFactory;
+    private final String[] strings;
+    private final int shapeTable;
+    private final int records;
+    private final Map<String, Node> metadata;
+    private final ShapeId[] ids;
+    private final Map<ShapeId, Integer> ordinals;
+    private final AtomicReferenceArray<Shape> shapes;
+    private final Map<ShapeId, Shape> shapeMap;
+    private final Map<ShapeType, Set<Shape>> shapesByType = new EnumMap<>(ShapeType.class);
+    private final Map<ShapeId, Set<Shape>> shapesByTrait = new HashMap<>();
+
+    private ModelSnapshot(ByteBuffer buffer, TraitFactory traitFactory) {
+        this.buffer = buffer;
+        this.traitFactory = LazyTrait.createLazyFactory(traitFactory);
+
+        ByteBuffer input = buffer.duplicate();
+        if (input.remaining() < 2 * Integer.BYTES || input.getInt() != MAGIC) {
+            throw new ModelImportException("Invalid model snapshot");
+        }
+
+        int version = input.getInt();
+        if (version != VERSION) {
+            throw new ModelImportException("Unsupported model snapshot version: " + version);
+        }
+
+        boolean includesPrelude = input.get() != 0;
+        strings = new String[input.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readString(input);
+        }
+
+        int snapshotShapes = input.getInt();
+        shapeTable = input.position();
+        input.position(shapeTable + snapshotShapes * SHAPE_ENTRY_SIZE);
+        Model prelude = includesPrelude ? Prelude.getPreludeModel() : null;
+        int shapeCount = snapshotShapes + (prelude == null ? 0 : prelude.getShapeIds().size());
+        ids = new ShapeId[shapeCount];
+        ordinals = new HashMap<>(shapeCount * 4 / 3 + 1);
+        shapes = new AtomicReferenceArray<>(shapeCount);
+
+        // Index the shapes in the snapshot by type.
+        Map<ShapeType, List<Integer>> types = new EnumMap<>(ShapeType.class);
+        for (int i = 0; i < snapshotShapes; i++) {
+            int entry = shapeTable + i * SHAPE_ENTRY_SIZE;
+            ids[i] = ShapeId.from(strings[buffer.getInt(entry)]);
+            ordinals.put(ids[i], i);
+            ShapeType type = ShapeType.fromString(strings[buffer.getInt(entry + Integer.BYTES)])
+                    .orElseThrow(() -> new ModelImportException("Invalid shape type in model snapshot"));
+            types.computeIfAbsent(type, t -> new ArrayList<>()).add(i);
+        }
+
+        // Read the trait index of the snapshot.
+        Map<ShapeId, List<Integer>> traits = new HashMap<>();
+        int traitCount = input.getInt();
+        for (int i = 0; i < traitCount; i++) {
+            ShapeId trait = ShapeId.from(strings[input.getInt()]);
+            List<Integer> traitShapes = new ArrayList<>();
+            for (int j = input.getInt(); j > 0; j--) {
+                traitShapes.add(input.getInt());
+            }
+            traits.put(trait, traitShapes);
+        }
+
+        records = input.position();
+        metadata = readNode(input).expectObjectNode().getStringMap();
+
+        // Prelude shapes follow the shapes of the snapshot and are already created.
+        if (prelude != null) {
+            int ordinal = snapshotShapes;
+            for (Shape shape : prelude.toSet()) {
+                ids[ordinal] = shape.getId();
+                ordinals.put(shape.getId(), ordinal);
+                shapes.set(ordinal, shape);
+                types.computeIfAbsent(shape.getType(), t -> new ArrayList<>()).add(ordinal);
+                for (ShapeId trait : shape.getAllTraits().keySet()) {
+                    traits.computeIfAbsent(trait, t -> new ArrayList<>()).add(ordinal);
+                }
+                ordinal++;
+            }
+        }
+
+        for (ShapeType type : ShapeType.values()) {
+            shapesByType.put(type, new ShapeSet(types.getOrDefault(type, Collections.emptyList())));
+        }
+
+        for (Map.Entry<ShapeId, List<Integer>> entry : traits.entrySet()) {
+            shapesByTrait.put(entry.getKey(), new ShapeSet(entry.getValue()));
+        }
+
+        shapeMap = new SnapshotShapeMap();
+    }
+
+    /**
+     * Opens a model snapshot using the default trait factory.
+     *
+     * @param path Path to the snapshot to open.
+     * @return Returns the opened snapshot.
+     * @throws UncheckedIOException if the snapshot can't be read.
+     * @throws ModelImportException if the file is not a valid snapshot.
+     */
+    public static ModelSnapshot open(Path path) {
+        return open(path, ModelAssembler.LazyTraitFactoryHolder.INSTANCE);
+    }
+
+    /**
+     * Opens a model snapshot.
+     *
+     * @param path Path to the snapshot to open.
+     * @param traitFactory Factory used to create traits when they are accessed.
+     * @return Returns the opened snapshot.
+     * @throws UncheckedIOException if the snapshot can't be read.
+     * @throws ModelImportException if the file is not a valid snapshot.
+     */
+    public static ModelSnapshot open(Path path, TraitFactory traitFactory) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new ModelSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), traitFactory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new ModelImportException("Invalid model snapshot: " + path, e);
+        }
+    }
+
+    /**
+     * Writes a snapshot of a model to a file.
+     *
+     * @param model Model to write.
+     * @param path Path to write the snapshot to.
+     * @throws UncheckedIOException if the snapshot can't be written.
+     */
+    public static void write(Model model, Path path) {
+        try {
+            Files.write(path, new Writer(model).write());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the metadata of the model.
+     *
+     * @return Returns the metadata.
+     */
+    public Map<String, Node> getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Gets an immutable map of every shape in the model that creates shapes
+     * as they are accessed.
+     *
+     * @return Returns the shapes of the model.
+     */
+    public Map<ShapeId, Shape> getShapeMap() {
+        return shapeMap;
+    }
+
+    /**
+     * Gets the shapes of the model grouped by shape type.
+     *
+     * <p>The map contains an entry for every shape type.
+     *
+     * @return Returns the shapes of each type.
+     */
+    public Map<ShapeType, Set<Shape>> getShapesByType() {
+        return shapesByType;
+    }
+
+    /**
+     * Gets the shapes of the model grouped by the shape ID of each trait
+     * applied to them.
+     *
+     * @return Returns the shapes that each trait is applied to.
+     */
+    public Map<ShapeId, Set<Shape>> getShapesByTrait() {
+        return shapesByTrait;
+    }
+
+    private Shape getShape(int ordinal) {
+        Shape shape = shapes.get(ordinal);
+        if (shape != null) {
+            return shape;
+        }
+
+        int entry = shapeTable + ordinal * SHAPE_ENTRY_SIZE;
+        int container = buffer.getInt(entry + 2 * Integer.BYTES);
+        if (container != NO_VALUE) {
+            // Members are created along with the shape that contains them.
+            for (MemberShape member : getShape(container).members()) {
+                if (member.getId().equals(ids[ordinal])) {
+                    shapes.compareAndSet(ordinal, null, member);
+                    return shapes.get(ordinal);
+                }
+            }
+            throw new ModelImportException("Member not found in model snapshot: " + ids[ordinal]);
+        }
+
+        shapes.compareAndSet(ordinal, null, createShape(ordinal, entry));
+        return shapes.get(ordinal);
+    }
+
+    private Shape createShape(int ordinal, int entry) {
+        ShapeId id = ids[ordinal];
+        ByteBuffer record = buffer.duplicate();
+        record.position(records + buffer.getInt(entry + 6 * Integer.BYTES));
+        ObjectNode node = readNode(record).expectObjectNode();
+
+        FullyResolvedModelFile modelFile = new FullyResolvedModelFile(traitFactory);
+        AstModelLoader.INSTANCE.loadShape(id, node.expectStringMember("type").getValue(), node, modelFile);
+        for (Shape shape : modelFile.createShapes(modelFile.resolveShapes(modelFile.shapeIds(), t -> null))) {
+            if (shape.getId().equals(id)) {
+                return applySourceLocations(shape, entry);
+            }
+        }
+
+        throw new ModelImportException("Unable to load shape `" + id + "` from model snapshot: "
+                                       + modelFile.events());
+    }
+
+    private Shape applySourceLocations(Shape shape, int entry) {
+        AbstractShapeBuilder<?, ?> builder = Shape.shapeToBuilder(shape).source(getSourceLocation(entry));
+        for (MemberShape member : shape.members()) {
+            int memberEntry = shapeTable + ordinals.get(member.getId()) * SHAPE_ENTRY_SIZE;
+            builder.addMember(member.toBuilder().source(getSourceLocation(memberEntry)).build());
+        }
+        return builder.build();
+    }
+
+    private SourceLocation getSourceLocation(int entry) {
+        int filename = buffer.getInt(entry + 3 * Integer.BYTES);
+        return filename == NO_VALUE
+               ? SourceLocation.NONE
+               : new SourceLocation(strings[filename],
+                                    buffer.getInt(entry + 4 * Integer.BYTES),
+                                    buffer.getInt(entry + 5 * Integer.BYTES));
+    }
+
+    private static Node readNode(ByteBuffer input) {
+        byte tag = input.get();
+        switch (tag) {
+            case NULL:
+                return Node.nullNode();
+            case TRUE:
+                return Node.from(true);
+            case FALSE:
+                return Node.from(false);
+            case STRING:
+                return Node.from(readString(input));
+            case ARRAY:
+                int length = input.getInt();
+                List<Node> elements = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    elements.add(readNode(input));
+                }
+                return Node.fromNodes(elements);
+            case OBJECT:
+                int size = input.getInt();
+                Map<StringNode, Node> members = new LinkedHashMap<>(size * 4 / 3 + 1);
+                for (int i = 0; i < size; i++) {
+                    members.put(Node.from(readString(input)), readNode(input));
+                }
+                return Node.objectNode(members);
+            case BYTE:
+                return Node.from(input.get());
+            case SHORT:
+                return Node.from(input.getShort());
+            case INTEGER:
+                return Node.from(input.getInt());
+            case LONG:
+                return Node.from(input.getLong());
+            case FLOAT:
+                return Node.from(input.getFloat());
+            case DOUBLE:
+                return Node.from(input.getDouble());
+            case BIG_INTEGER:
+                return Node.from(new BigInteger(readString(input)));
+            case BIG_DECIMAL:
+                return Node.from(new BigDecimal(readString(input)));
+            default:
+                throw new ModelImportException("Invalid node in model snapshot: " + tag);
+        }
+    }
+
+    private static String readString(ByteBuffer input) {
+        byte[] bytes = new byte[input.getInt()];
+        input.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private final class SnapshotShapeMap extends AbstractMap<ShapeId, Shape> {
+        private final Set<ShapeId> keys = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(ids)));
+
+        @Override
+        public int size() {
+            return ids.length;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return ordinals.containsKey(key);
+        }
+
+        @Override
+        public Shape get(Object key) {
+            Integer ordinal = ordinals.get(key);
+            return ordinal == null ? null : getShape(ordinal);
+        }
+
+        @Override
+        public Set<ShapeId> keySet() {
+            return keys;
+        }
+
+        @Override
+        public Set<Entry<ShapeId, Shape>> entrySet() {
+            return new AbstractSet<Entry<ShapeId, Shape>>() {
+                @Override
+                public int size() {
+                    return ids.length;
+                }
+
+                @Override
+                public Iterator<Entry<ShapeId, Shape>> iterator() {
+                    return new OrdinalIterator<Entry<ShapeId, Shape>>(ids.length) {
+                        @Override
+                        Entry<ShapeId, Shape> get(int ordinal) {
+                            return new SimpleImmutableEntry<>(ids[ordinal], getShape(ordinal));
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    // An immutable set of shapes identified by ordinal that creates shapes as they're accessed.
+    private final class ShapeSet extends AbstractSet<Shape> {
+        private final int[] members;
+
+        ShapeSet(List<Integer> ordinals) {
+            members = new int[ordinals.size()];
+            for (int i = 0; i < members.length; i++) {
+                members[i] = ordinals.get(i);
+            }
+            Arrays.sort(members);
+        }
+
+        @Override
+        public int size() {
+            return members.length;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Shape)) {
+                return false;
+            }
+            Integer ordinal = ordinals.get(((Shape) o).getId());
+            return ordinal != null && Arrays.binarySearch(members, ordinal) >= 0 && getShape(ordinal).equals(o);
+        }
+
+        @Override
+        public Iterator<Shape> iterator() {
+            return new OrdinalIterator<Shape>(members.length) {
+                @Override
+                Shape get(int index) {
+                    return getShape(members[index]);
+                }
+            };
+        }
+    }
+
+    private abstract static class OrdinalIterator<T> implements Iterator<T> {
+        private final int size;
+        private int position;
+
+        OrdinalIterator(int size) {
+            this.size = size;
+        }
+
+        abstract T get(int index);
+
+        @Override
+        public boolean hasNext() {
+            return position < size;
+        }
+
+        @Override
+        public T next() {
+            if (position >= size) {
+                throw new NoSuchElementException();
+            }
+            return get(position++);
+        }
+    }
+
+    private static final class Writer {
+        private final Model model;
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final List<Shape> shapes = new ArrayList<>();
+        private final Map<ShapeId, Integer> ordinals = new HashMap<>();
+
+        Writer(Model model) {
+            this.model = model;
+
+            // Top-level shapes are sorted so that snapshots are deterministic,
+            // and each shape is followed by its members.
+            List<Shape> topLevel = new ArrayList<>();
+            for (Shape shape : model.toSet()) {
+                if (!shape.isMemberShape() && !Prelude.isPreludeShape(shape)) {
+                    topLevel.add(shape);
+                }
+            }
+            topLevel.sort((a, b) -> a.getId().toString().compareTo(b.getId().toString()));
+            for (Shape shape : topLevel) {
+                ordinals.put(shape.getId(), shapes.size());
+                shapes.add(shape);
+                for (MemberShape member : shape.members()) {
+                    ordinals.put(member.getId(), shapes.size());
+                    shapes.add(member);
+                }
+            }
+        }
+
+        byte[] write() throws IOException {
+            ObjectNode ast = ModelSerializer.builder().build().serialize(model);
+            ObjectNode serializedShapes = ast.getObjectMember("shapes").orElse(Node.objectNode());
+
+            // Write the metadata followed by the JSON AST of each top-level shape.
+            ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+            DataOutputStream recordOutput = new DataOutputStream(recordBytes);
+            writeNode(recordOutput, ast.getObjectMember("metadata").orElse(Node.objectNode()));
+            int[] recordOffsets = new int[shapes.size()];
+            for (int i = 0; i < shapes.size(); i++) {
+                Shape shape = shapes.get(i);
+                if (!shape.isMemberShape()) {
+                    ObjectNode node = serializedShapes.expectObjectMember(shape.getId().toString());
+                    // The serializer sorts errors, but their order is significant when comparing operations.
+                    if (shape instanceof OperationShape && node.containsMember("errors")) {
+                        node = node.withMember("errors", ((OperationShape) shape).getErrors().stream()
+                                .map(error -> Node.objectNode().withMember("target", error.toString()))
+                                .collect(ArrayNode.collect()));
+                    }
+                    recordOffsets[i] = recordOutput.size();
+                    writeNode(recordOutput, node);
+                }
+            }
+            recordOutput.flush();
+
+            // Index the shapes of each trait.
+            Map<String, List<Integer>> traits = new TreeMap<>();
+            for (int i = 0; i < shapes.size(); i++) {
+                for (ShapeId trait : shapes.get(i).getAllTraits().keySet()) {
+                    traits.computeIfAbsent(trait.toString(), t -> new ArrayList<>()).add(i);
+                }
+            }
+
+            // Create the tables before writing them so that every string is interned first.
+            ByteArrayOutputStream tableBytes = new ByteArrayOutputStream();
+            DataOutputStream tables = new DataOutputStream(tableBytes);
+            tables.writeInt(shapes.size());
+            for (int i = 0; i < shapes.size(); i++) {
+                Shape shape = shapes.get(i);
+                SourceLocation location = shape.getSourceLocation();
+                boolean hasLocation = !location.getFilename().isEmpty();
+                tables.writeInt(intern(shape.getId().toString()));
+                tables.writeInt(intern(shape.getType().toString()));
+                tables.writeInt(shape.isMemberShape() ? ordinals.get(shape.getId().withoutMember()) : NO_VALUE);
+                tables.writeInt(hasLocation ? intern(location.getFilename()) : NO_VALUE);
+                tables.writeInt(location.getLine());
+                tables.writeInt(location.getColumn());
+                tables.writeInt(recordOffsets[i]);
+            }
+
+            tables.writeInt(traits.size());
+            for (Map.Entry<String, List<Integer>> entry : traits.entrySet()) {
+                tables.writeInt(intern(entry.getKey()));
+                tables.writeInt(entry.getValue().size());
+                for (int ordinal : entry.getValue()) {
+                    tables.writeInt(ordinal);
+                }
+            }
+
+            ByteArrayOutputStream result = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(result);
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeBoolean(model.getShapeIds().stream().anyMatch(Prelude::isPreludeShape));
+            output.writeInt(strings.size());
+            for (String string : strings.keySet()) {
+                writeString(output, string);
+            }
+            tableBytes.writeTo(output);
+            recordBytes.writeTo(output);
+            output.flush();
+            return result.toByteArray();
+        }
+
+        private int intern(String value) {
+            return strings.computeIfAbsent(value, v -> strings.size());
+        }
+
+        private static void writeNode(DataOutputStream output, Node node) throws IOException {
+            switch (node.getType()) {
+                case NULL:
+                    output.writeByte(NULL);
+                    break;
+                case BOOLEAN:
+                    output.writeByte(node.expectBooleanNode().getValue() ? TRUE : FALSE);
+                    break;
+                case STRING:
+                    output.writeByte(STRING);
+                    writeString(output, node.expectStringNode().getValue());
+                    break;
+                case ARRAY:
+                    List<Node> elements = node.expectArrayNode().getElements();
+                    output.writeByte(ARRAY);
+                    output.writeInt(elements.size());
+                    for (Node element : elements) {
+                        writeNode(output, element);
+                    }
+                    break;
+                case OBJECT:
+                    Map<StringNode, Node> members = node.expectObjectNode().getMembers();
+                    output.writeByte(OBJECT);
+                    output.writeInt(members.size());
+                    for (Map.Entry<StringNode, Node> entry : members.entrySet()) {
+                        writeString(output, entry.getKey().getValue());
+                        writeNode(output, entry.getValue());
+                    }
+                    break;
+                default:
+                    writeNumber(output, node.expectNumberNode().getValue());
+                    break;
+            }
+        }
+
+        // Numbers keep their type so that nodes are equal to the nodes they were created from.
+        private static void writeNumber(DataOutputStream output, Number value) throws IOException {
+            if (value instanceof Byte) {
+                output.writeByte(BYTE);
+                output.writeByte(value.byteValue());
+            } else if (value instanceof Short) {
+                output.writeByte(SHORT);
+                output.writeShort(value.shortValue());
+            } else if (value instanceof Integer) {
+                output.writeByte(INTEGER);
+                output.writeInt(value.intValue());
+            } else if (value instanceof Long) {
+                output.writeByte(LONG);
+                output.writeLong(value.longValue());
+            } else if (value instanceof Float) {
+                output.writeByte(FLOAT);
+                output.writeFloat(value.floatValue());
+            } else if (value instanceof Double) {
+                output.writeByte(DOUBLE);
+                output.writeDouble(value.doubleValue());
+            } else if (value instanceof BigInteger) {
+                output.writeByte(BIG_INTEGER);
+                writeString(output, value.toString());
+            } else {
+                output.writeByte(BIG_DECIMAL);
+                writeString(output, value.toString());
+            }
+        }
+
+        private static void writeString(DataOutputStream output, String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+    }
+}
@@ -22,18 +22,27 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.SourceLocation;
 import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.selector.Selector;
+import software.amazon.smithy.model.selector.SelectorBatch;
 import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.traits.SuppressTrait;
+import software.amazon.smithy.model.validation.SelectorBasedValidator;
 import software.amazon.smithy.model.validation.Severity;
 import software.amazon.smithy.model.validation.ValidatedResult;
 import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.model.validation.Validator;
 import software.amazon.smithy.model.validation.ValidatorFactory;
 import software.amazon.smithy.utils.ListUtils;
+import software.amazon.smithy.utils.Pair;
+import software.amazon.smithy.utils.ParallelUtils;
 
 /**
  * Validates a model, including validators and suppressions loaded from
@@ -61,16 +70,22 @@ final class ModelValidator {
     private final ArrayList<ValidationEvent> events = new ArrayList<>();
     private final ValidatorFactory validatorFactory;
     private final Model model;
+    private final Executor executor;
+    private final ValidationEventSink sink;
     private final Map<String, Map<String, String>> namespaceSuppressions = new HashMap<>();
 
     private ModelValidator(
             Model model,
             ValidatorFactory validatorFactory,
-            List<Validator> validators
+            List<Validator> validators,
+            Executor executor,
+            ValidationEventSink sink
     ) {
         this.model = model;
         this.validatorFactory = validatorFactory;
         this.validators = new ArrayList<>(validators);
+        this.executor = executor;
+        this.sink = sink;
     }
 
     /**
@@ -80,14 +95,18 @@ final class ModelValidator {
      * @param model Model to validate.
      * @param validatorFactory Factory used to find ValidatorService providers.
      * @param validators Additional validators to use.
-     * @return Returns the encountered validation events.
+     * @param executor Executor used to run validators, or null to use the common fork-join pool.
+     * @param sink Sink that receives events as each validator completes.
+     * @return Returns the validator events followed by any events encountered while creating validators.
      */
     static List<ValidationEvent> validate(
             Model model,
             ValidatorFactory validatorFactory,
-            List<Validator> validators
+            List<Validator> validators,
+            Executor executor,
+            ValidationEventSink sink
     ) {
-        return new ModelValidator(model, validatorFactory, validators).doValidate();
+        return new ModelValidator(model, validatorFactory, validators, executor, sink).doValidate();
     }
 
     private List<ValidationEvent> doValidate() {
@@ -95,15 +114,88 @@ final class ModelValidator {
         List<ValidatorDefinition> assembledValidatorDefinitions = assembleValidatorDefinitions();
         assembleValidators(assembledValidatorDefinitions);
 
-        List<ValidationEvent> result = validators
-                .parallelStream()
-                .flatMap(validator -> validator.validate(model).stream())
-                .map(this::suppressEvent)
-                .filter(ModelValidator::filterPrelude)
-                .collect(Collectors.toList());
-
         // Add in events encountered while building up validators and suppressions.
-        result.addAll(events);
+        List<ValidationEvent> accepted = sink.accept(events);
+        executeValidators();
+
+        // Events are returned in the order they were collected before events
+        // were streamed to the sink: validator events come first.
+        List<ValidationEvent> result = sink.getEvents();
+        result.addAll(accepted);
+        return result;
+    }
+
+    private void executeValidators() {
+        List<Supplier<List<ValidationEvent>>> tasks = new ArrayList<>();
+        List<SelectorBasedValidator> selectorValidators = new ArrayList<>();
+
+        for (Validator validator : validators) {
+            if (validator instanceof SelectorBasedValidator) {
+                selectorValidators.add((SelectorBasedValidator) validator);
+            } else {
+                tasks.add(() -> validator.validate(model));
+            }
+        }
+
+        if (!selectorValidators.isEmpty()) {
+            tasks.add(() -> validateSelectors(selectorValidators));
+        }
+
+        // Tasks are numbered so that the sink sends their events in the same
+        // order regardless of which validators complete first.
+        List<Integer> taskNumbers = IntStream.range(0, tasks.size()).boxed().collect(Collectors.toList());
+
+        if (executor != null) {
+            ParallelUtils.map(executor, taskNumbers, number -> {
+                runValidatorTask(number, tasks.get(number));
+                return null;
+            });
+        } else {
+            taskNumbers.parallelStream().forEach(number -> runValidatorTask(number, tasks.get(number)));
+        }
+    }
+
+    // Validators that haven't started when the sink stops accepting events are skipped.
+    private void runValidatorTask(int number, Supplier<List<ValidationEvent>> task) {
+        if (sink.isStopped()) {
+            sink.accept(number, Collections.emptyList());
+            return;
+        }
+
+        List<ValidationEvent> events = new ArrayList<>();
+        for (ValidationEvent event : task.get()) {
+            ValidationEvent suppressed = suppressEvent(event);
+            if (filterPrelude(suppressed)) {
+                events.add(suppressed);
+            }
+        }
+
+        sink.accept(number, events);
+    }
+
+    // Evaluates the selectors of every selector-based validator in a single
+    // pass over the model rather than once per validator.
+    private List<ValidationEvent> validateSelectors(List<SelectorBasedValidator> selectorValidators) {
+        List<Selector> selectors = new ArrayList<>(selectorValidators.size());
+        for (SelectorBasedValidator validator : selectorValidators) {
+            selectors.add(validator.getSelector());
+        }
+
+        Map<Selector, List<Pair<Shape, Map<String, Set<Shape>>>>> matches = new HashMap<>();
+        SelectorBatch.of(selectors).selectMatches(model, (selector, shape, vars) -> {
+            matches.computeIfAbsent(selector, s -> new ArrayList<>()).add(Pair.of(shape, vars));
+        });
+
+        List<ValidationEvent> result = new ArrayList<>();
+        for (SelectorBasedValidator validator : selectorValidators) {
+            List<Pair<Shape, Map<String, Set<Shape>>>> selectorMatches = matches.getOrDefault(
+                    validator.getSelector(), Collections.emptyList());
+            result.addAll(validator.validateMatches(model, consumer -> {
+                for (Pair<Shape, Map<String, Set<Shape>>> match : selectorMatches) {
+                    consumer.accept(match.left, match.right);
+                }
+            }));
+        }
 
         return result;
     }
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.loader;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import software.amazon.smithy.model.validation.Severity;
+import software.amazon.smithy.model.validation.ValidationEvent;
+
+/**
+ * Sends validation events to an optional listener as they are encountered
+ * and stops accepting events once a maximum number of errors is reached.
+ *
+ * <p>Events are accepted in batches from any thread, but the listener is
+ * never invoked concurrently. Numbered batches are sent to the listener in
+ * the order of their numbers, so events are sent in the same order each
+ * time a model is validated.
+ *
+ * <p>The sink only retains events accepted in numbered batches. Events
+ * accepted in other batches are returned to the caller so that it can
+ * place them in the validation result.
+ */
+final class ValidationEventSink {
+
+    private final Consumer<ValidationEvent> listener;
+    private final int maxErrors;
+    private final boolean retainEvents;
+    private final List<ValidationEvent> events = new ArrayList<>();
+    private final Map<Integer, List<ValidationEvent>> pendingBatches = new HashMap<>();
+    private int nextBatch;
+    private int errors;
+    private volatile boolean stopped;
+
+    ValidationEventSink(Consumer<ValidationEvent> listener, int maxErrors, boolean retainEvents) {
+        this.listener = listener;
+        this.maxErrors = maxErrors;
+        this.retainEvents = retainEvents;
+    }
+
+    /**
+     * Checks if the maximum number of errors was reached.
+     *
+     * @return Returns true if no more events are accepted.
+     */
+    boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * Sends a batch of events to the listener.
+     *
+     * <p>Events that follow the event that reached the maximum number of
+     * errors are discarded.
+     *
+     * @param batch Events to accept.
+     * @return Returns the accepted events, or an empty list if the sink does not retain events.
+     */
+    synchronized List<ValidationEvent> accept(List<ValidationEvent> batch) {
+        List<ValidationEvent> accepted = new ArrayList<>();
+        deliver(batch, accepted);
+        return accepted;
+    }
+
+    /**
+     * Sends a numbered batch of events to the listener once every batch
+     * with a lower number has been sent.
+     *
+     * <p>Batches are numbered starting at 0, and every number must be
+     * accepted, even if its batch is empty.
+     *
+     * @param number Number of the batch.
+     * @param batch Events to accept.
+     */
+    synchronized void accept(int number, List<ValidationEvent> batch) {
+        pendingBatches.put(number, batch);
+        for (List<ValidationEvent> next = pendingBatches.remove(nextBatch);
+                next != null;
+                next = pendingBatches.remove(nextBatch)) {
+            nextBatch++;
+            deliver(next, events);
+        }
+    }
+
+    /**
+     * Gets the events that were accepted in numbered batches.
+     *
+     * <p>No events are returned if the sink does not retain events.
+     *
+     * @return Returns the accepted events in the order of their batches.
+     */
+    synchronized List<ValidationEvent> getEvents() {
+        return new ArrayList<>(events);
+    }
+
+    private void deliver(List<ValidationEvent> batch, List<ValidationEvent> retained) {
+        for (ValidationEvent event : batch) {
+            if (stopped) {
+                return;
+            }
+            if (listener != null) {
+                listener.accept(event);
+            }
+            if (retainEvents) {
+                retained.add(event);
+            }
+            if (event.getSeverity() == Severity.ERROR && ++errors >= maxErrors) {
+                stopped = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.neighbor;
+
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeIdTable;
+
+/**
+ * Computes and caches the closures of shapes in a model, where the
+ * closure of a shape is every shape that a {@link Walker} using the same
+ * {@link NeighborProvider} would return for it.
+ *
+ * <p>Shapes are grouped into strongly connected components as they are
+ * first reached, and every shape in a component shares the same closure.
+ * The closure of a component is computed from its members and the
+ * closures of the components it connects to, reusing any closure that is
+ * already cached. Only the most recently used closures are retained so
+ * that memory use is bounded.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class ClosureCache {
+
+    private final NeighborProvider provider;
+    private final ShapeIdTable table;
+    private final Shape[] shapes;
+    private final Map<Integer, BitSet> closures;
+
+    // Strongly connected components discovered so far. Components are
+    // numbered in the order they complete, so a component only connects to
+    // components with lower numbers.
+    private final int[] componentOf;
+    private final List<int[]> members = new ArrayList<>();
+    private final List<int[]> successors = new ArrayList<>();
+
+    // Working state of the component search. The neighbors of a shape are
+    // only kept until the shape's component is complete.
+    private final int[] index;
+    private final int[] lowLink;
+    private final int[][] edges;
+    private final BitSet onStack;
+    private int nextIndex = 1;
+
+    /**
+     * @param model Model that contains the shapes to compute closures for.
+     * @param provider Provider used to find the neighbors of each shape.
+     * @param maximumSize Maximum number of closures to retain.
+     */
+    public ClosureCache(Model model, NeighborProvider provider, int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be greater than 0: " + maximumSize);
+        }
+
+        this.provider = provider;
+        table = model.getShapeIdTable();
+        shapes = new Shape[table.size()];
+        for (Shape shape : model.toSet()) {
+            shapes[table.getOrdinal(shape)] = shape;
+        }
+
+        componentOf = new int[shapes.length];
+        Arrays.fill(componentOf, -1);
+        index = new int[shapes.length];
+        lowLink = new int[shapes.length];
+        edges = new int[shapes.length][];
+        onStack = new BitSet(shapes.length);
+        closures = new LinkedHashMap<Integer, BitSet>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, BitSet> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Gets the closure of a shape.
+     *
+     * <p>The closure contains the given shape and every shape that can be
+     * reached from it through the neighbor provider. Shapes are returned in
+     * shape ID order.
+     *
+     * @param shape Shape to get the closure of.
+     * @return Returns the immutable closure of the shape.
+     */
+    public Set<Shape> getClosure(Shape shape) {
+        int ordinal = table.getOrdinal(shape);
+        if (ordinal == -1 || shapes[ordinal] != shape) {
+            // Shapes that aren't part of the model are walked directly.
+            return Collections.unmodifiableSet(new Walker(provider).walkShapes(shape));
+        }
+
+        return new ClosureSet(table, shapes, computeClosure(ordinal));
+    }
+
+    private synchronized BitSet computeClosure(int ordinal) {
+        if (componentOf[ordinal] == -1) {
+            discoverComponents(ordinal);
+        }
+
+        int component = componentOf[ordinal];
+        BitSet result = closures.get(component);
+        if (result != null) {
+            return result;
+        }
+
+        result = new BitSet(shapes.length);
+        BitSet visited = new BitSet(members.size());
+        Deque<Integer> stack = new ArrayDeque<>();
+        stack.push(component);
+
+        while (!stack.isEmpty()) {
+            int current = stack.pop();
+            if (visited.get(current)) {
+                continue;
+            }
+            visited.set(current);
+
+            BitSet cached = current == component ? null : closures.get(current);
+            if (cached != null) {
+                result.or(cached);
+                continue;
+            }
+
+            for (int member : members.get(current)) {
+                result.set(member);
+            }
+            for (int successor : successors.get(current)) {
+                if (!visited.get(successor)) {
+                    stack.push(successor);
+                }
+            }
+        }
+
+        closures.put(component, result);
+        return result;
+    }
+
+    // An iterative version of Tarjan's algorithm that only visits shapes that
+    // are not already part of a component. Shapes in existing components are
+    // complete and can't be part of a new component.
+    private void discoverComponents(int root) {
+        Deque<Integer> componentStack = new ArrayDeque<>();
+        Deque<int[]> callStack = new ArrayDeque<>();
+        visit(root, componentStack, callStack);
+
+        while (!callStack.isEmpty()) {
+            int[] frame = callStack.peek();
+            int node = frame[0];
+
+            if (frame[1] < edges[node].length) {
+                int target = edges[node][frame[1]++];
+                if (componentOf[target] != -1) {
+                    continue;
+                } else if (index[target] == 0) {
+                    visit(target, componentStack, callStack);
+                } else if (onStack.get(target)) {
+                    lowLink[node] = Math.min(lowLink[node], index[target]);
+                }
+                continue;
+            }
+
+            callStack.pop();
+            if (!callStack.isEmpty()) {
+                int parent = callStack.peek()[0];
+                lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+            }
+
+            if (lowLink[node] == index[node]) {
+                completeComponent(node, componentStack);
+            }
+        }
+    }
+
+    private void visit(int node, Deque<Integer> componentStack, Deque<int[]> callStack) {
+        index[node] = nextIndex;
+        lowLink[node] = nextIndex;
+        nextIndex++;
+        edges[node] = neighbors(node);
+        componentStack.push(node);
+        onStack.set(node);
+        callStack.push(new int[]{node, 0});
+    }
+
+    private void completeComponent(int node, Deque<Integer> componentStack) {
+        int component = members.size();
+        List<Integer> componentMembers = new ArrayList<>();
+        int member;
+        do {
+            member = componentStack.pop();
+            onStack.clear(member);
+            componentOf[member] = component;
+            componentMembers.add(member);
+        } while (member != node);
+
+        BitSet componentSuccessors = new BitSet();
+        int[] memberArray = new int[componentMembers.size()];
+        for (int i = 0; i < memberArray.length; i++) {
+            memberArray[i] = componentMembers.get(i);
+            for (int target : edges[memberArray[i]]) {
+                if (componentOf[target] != component) {
+                    componentSuccessors.set(componentOf[target]);
+                }
+            }
+            edges[memberArray[i]] = null;
+        }
+
+        members.add(memberArray);
+        successors.add(componentSuccessors.stream().toArray());
+    }
+
+    private int[] neighbors(int ordinal) {
+        List<Relationship> relationships = provider.getNeighbors(shapes[ordinal]);
+        int[] result = new int[relationships.size()];
+        int size = 0;
+        for (Relationship relationship : relationships) {
+            // Like a Walker, only relationships to shapes in the model are traversed.
+            if (relationship.getNeighborShape().isPresent()) {
+                int target = table.getOrdinal(relationship.getNeighborShapeId());
+                if (target != -1) {
+                    result[size++] = target;
+                }
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    private static final class ClosureSet extends AbstractSet<Shape> {
+        private final ShapeIdTable table;
+        private final Shape[] shapes;
+        private final BitSet ordinals;
+        private final int size;
+
+        ClosureSet(ShapeIdTable table, Shape[] shapes, BitSet ordinals) {
+            this.table = table;
+            this.shapes = shapes;
+            this.ordinals = ordinals;
+            this.size = ordinals.cardinality();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Shape)) {
+                return false;
+            }
+            Shape shape = (Shape) o;
+            int ordinal = table.getOrdinal(shape);
+            return ordinal != -1 && ordinals.get(ordinal) && shapes[ordinal].equals(shape);
+        }
+
+        @Override
+        public Iterator<Shape> iterator() {
+            return new Iterator<Shape>() {
+                private int next = ordinals.nextSetBit(0);
+
+                @Override
+                public boolean hasNext() {
+                    return next >= 0;
+                }
+
+                @Override
+                public Shape next() {
+                    if (next < 0) {
+                        throw new NoSuchElementException();
+                    }
+                    Shape result = shapes[next];
+                    next = ordinals.nextSetBit(next + 1);
+                    return result;
+                }
+            };
+        }
+    }
+}
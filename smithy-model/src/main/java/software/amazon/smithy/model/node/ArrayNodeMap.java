@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.node;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An immutable, insertion-ordered map backed by parallel arrays.
+ *
+ * <p>This map is used by compact {@link ObjectNode}s to avoid the per-entry
+ * overhead of a {@link java.util.LinkedHashMap}. Lookups are a linear scan,
+ * so it is only used for small maps.
+ *
+ * @param <K> Type of key.
+ * @param <V> Type of value.
+ */
+final class ArrayNodeMap<K, V> extends AbstractMap<K, V> {
+    private final Object[] keys;
+    private final Object[] values;
+    private transient Set<Map.Entry<K, V>> entrySet;
+
+    private ArrayNodeMap(Object[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Creates an array-backed copy of the given map.
+     *
+     * @param map Map to copy.
+     * @param <K> Type of key.
+     * @param <V> Type of value.
+     * @return Returns the created map.
+     */
+    static <K, V> ArrayNodeMap<K, V> copyOf(Map<K, V> map) {
+        Object[] keys = new Object[map.size()];
+        Object[] values = new Object[map.size()];
+        int i = 0;
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            keys[i] = entry.getKey();
+            values[i++] = entry.getValue();
+        }
+        return new ArrayNodeMap<>(keys, values);
+    }
+
+    /**
+     * Creates a map with the same values in the same order, but with each
+     * key converted using the given mapper.
+     *
+     * <p>The values array is shared with the returned map.
+     *
+     * @param mapper Function used to convert each key.
+     * @param <T> Type of key to create.
+     * @return Returns the created map.
+     */
+    @SuppressWarnings("unchecked")
+    <T> ArrayNodeMap<T, V> mapKeys(Function<K, T> mapper) {
+        Object[] mappedKeys = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            mappedKeys[i] = mapper.apply((K) keys[i]);
+        }
+        return new ArrayNodeMap<>(mappedKeys, values);
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) != -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int index = indexOf(key);
+        return index == -1 ? null : (V) values[index];
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> result = entrySet;
+        if (result == null) {
+            result = new EntrySet();
+            entrySet = result;
+        }
+        return result;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new Iterator<Map.Entry<K, V>>() {
+                private int position;
+
+                @Override
+                public boolean hasNext() {
+                    return position < keys.length;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public Map.Entry<K, V> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    int i = position++;
+                    return new SimpleImmutableEntry<>((K) keys[i], (V) values[i]);
+                }
+            };
+        }
+    }
+}
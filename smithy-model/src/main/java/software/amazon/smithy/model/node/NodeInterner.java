@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.node;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Creates compact {@link Node} values that share memory with other nodes
+ * created by the same interner.
+ *
+ * <p>Nodes created by an interner use the following techniques to reduce
+ * the amount of retained heap used by parsed models:
+ *
+ * <ul>
+ *     <li>Object keys and short string values are interned so that
+ *     identical strings across files share a single {@code String}.</li>
+ *     <li>Small objects are backed by arrays rather than a
+ *     {@link java.util.LinkedHashMap}.</li>
+ * </ul>
+ *
+ * <p>Source locations are used as-is since nodes rarely share an exact
+ * position, so pooling them would cost more memory than it saves.
+ *
+ * <p>An interner is thread-safe and is intended to be shared across every
+ * file loaded into a single model.
+ */
+@SmithyInternalApi
+public final class NodeInterner {
+    /** Objects with more members than this use a hash-based map. */
+    static final int MAX_ARRAY_MAP_SIZE = 16;
+
+    /** String values longer than this are not interned since they are unlikely to be repeated. */
+    private static final int MAX_INTERNED_VALUE_LENGTH = 64;
+
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+
+    /**
+     * Interns a string.
+     *
+     * @param value String to intern.
+     * @return Returns the canonical instance of the string.
+     */
+    public String intern(String value) {
+        String existing = strings.putIfAbsent(value, value);
+        return existing == null ? value : existing;
+    }
+
+    /**
+     * Creates a string node used as the key of an object node.
+     *
+     * @param key Key to create.
+     * @param location Location of the key.
+     * @return Returns the created node.
+     */
+    public StringNode key(String key, SourceLocation location) {
+        return new StringNode(intern(key), location);
+    }
+
+    /**
+     * Creates a string node value.
+     *
+     * <p>The value is interned if it is short enough to be likely to be
+     * repeated, like shape IDs, enum values, and member names.
+     *
+     * @param value Value to create.
+     * @param location Location of the value.
+     * @return Returns the created node.
+     */
+    public StringNode string(String value, SourceLocation location) {
+        String interned = value.length() <= MAX_INTERNED_VALUE_LENGTH ? intern(value) : value;
+        return new StringNode(interned, location);
+    }
+
+    /**
+     * Creates a compact object node.
+     *
+     * <p>The given members are copied; keys are expected to have already
+     * been created using {@link #key}.
+     *
+     * @param members Members of the object.
+     * @param location Location of the object.
+     * @return Returns the created node.
+     */
+    public ObjectNode objectNode(Map<StringNode, Node> members, SourceLocation location) {
+        if (members.size() <= MAX_ARRAY_MAP_SIZE) {
+            return new ObjectNode(ArrayNodeMap.copyOf(members), location, false);
+        } else {
+            return new ObjectNode(members, location);
+        }
+    }
+}
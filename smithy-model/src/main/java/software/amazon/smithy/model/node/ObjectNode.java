@@ -53,9 +53,14 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
     // Constructor used internally to reduce copies.
     ObjectNode(Map<StringNode, Node> nodeMap, SourceLocation sourceLocation, boolean defensiveCopy) {
         super(sourceLocation);
-        this.nodeMap = defensiveCopy
-                ? Collections.unmodifiableMap(new LinkedHashMap<>(nodeMap))
-                : Collections.unmodifiableMap(nodeMap);
+        if (nodeMap instanceof ArrayNodeMap) {
+            // Array-backed maps are already immutable, so there's no need to copy or wrap them.
+            this.nodeMap = nodeMap;
+        } else {
+            this.nodeMap = defensiveCopy
+                    ? Collections.unmodifiableMap(new LinkedHashMap<>(nodeMap))
+                    : Collections.unmodifiableMap(nodeMap);
+        }
     }
 
     public static ObjectNode fromStringMap(Map<String, String> map) {
@@ -219,7 +224,10 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      */
     public Map<String, Node> getStringMap() {
         Map<String, Node> map = stringMap;
-        if (map == null) {
+        if (map == null && nodeMap instanceof ArrayNodeMap) {
+            // Compact nodes share the same values array with their string map.
+            stringMap = ((ArrayNodeMap<StringNode, Node>) nodeMap).mapKeys(StringNode::getValue);
+        } else if (map == null) {
             map = new LinkedHashMap<>(nodeMap.size());
             for (Map.Entry<StringNode, Node> entry : nodeMap.entrySet()) {
                 map.put(entry.getKey().getValue(), entry.getValue());
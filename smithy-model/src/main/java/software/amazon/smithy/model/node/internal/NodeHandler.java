@@ -25,6 +25,7 @@ import software.amazon.smithy.model.SourceLocation;
 import software.amazon.smithy.model.node.ArrayNode;
 import software.amazon.smithy.model.node.BooleanNode;
 import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.NodeInterner;
 import software.amazon.smithy.model.node.NullNode;
 import software.amazon.smithy.model.node.NumberNode;
 import software.amazon.smithy.model.node.ObjectNode;
@@ -34,11 +35,30 @@ import software.amazon.smithy.utils.SmithyInternalApi;
 @SmithyInternalApi
 public final class NodeHandler extends JsonHandler<List<Node>, Map<StringNode, Node>> {
 
+    private final NodeInterner interner;
     private Node value;
 
+    private NodeHandler(NodeInterner interner) {
+        this.interner = interner;
+    }
+
     @SmithyInternalApi
     public static Node parse(String filename, String content, boolean allowComments) {
-        NodeHandler handler = new NodeHandler();
+        return parse(filename, content, allowComments, null);
+    }
+
+    /**
+     * Parses JSON into a Node, optionally creating compact nodes.
+     *
+     * @param filename Filename to use in source locations.
+     * @param content Content to parse.
+     * @param allowComments Set to true to allow comments.
+     * @param interner Interner used to create compact nodes, or null.
+     * @return Returns the parsed node.
+     */
+    @SmithyInternalApi
+    public static Node parse(String filename, String content, boolean allowComments, NodeInterner interner) {
+        NodeHandler handler = new NodeHandler(interner);
         new JsonParser(filename, handler, allowComments).parse(content);
         return handler.value;
     }
@@ -71,7 +91,7 @@ public final class NodeHandler extends JsonHandler<List<Node>, Map<StringNode, N
 
     @Override
     void endString(String string, SourceLocation location) {
-        value = new StringNode(string, location);
+        value = interner == null ? new StringNode(string, location) : interner.string(string, location);
     }
 
     @Override
@@ -105,12 +125,12 @@ public final class NodeHandler extends JsonHandler<List<Node>, Map<StringNode, N
 
     @Override
     void endObjectValue(Map<StringNode, Node> object, String name, SourceLocation keyLocation) {
-        StringNode key = new StringNode(name, keyLocation);
+        StringNode key = interner == null ? new StringNode(name, keyLocation) : interner.key(name, keyLocation);
         object.put(key, value);
     }
 
     @Override
     void endObject(Map<StringNode, Node> object, SourceLocation location) {
-        value = new ObjectNode(object, location);
+        value = interner == null ? new ObjectNode(object, location) : interner.objectNode(object, location);
     }
 }
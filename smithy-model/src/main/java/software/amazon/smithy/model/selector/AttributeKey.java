@@ -0,0 +1,253 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.selector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ShapeIdSyntaxException;
+import software.amazon.smithy.model.traits.Trait;
+
+/**
+ * Resolves an attribute path from a shape using accessors that are
+ * compiled when a selector is parsed.
+ *
+ * <p>Evaluating a path through {@link AttributeValue#getPath} dispatches
+ * on the name of each segment and creates an intermediate attribute value
+ * for every segment of every shape. The well-known leading segments of a
+ * path ({@code id}, {@code trait}, {@code service}, and {@code var}) are
+ * instead resolved once into an accessor that reads directly from the
+ * shape, and only the remaining segments are evaluated generically.
+ */
+abstract class AttributeKey implements BiFunction<Shape, Map<String, Set<Shape>>, AttributeValue> {
+
+    /**
+     * Checks if the attribute is present on a shape.
+     *
+     * <p>Keys override this method when presence can be determined
+     * without creating the attribute value.
+     *
+     * @param shape Shape to check.
+     * @param vars Variables available to the shape.
+     * @return Returns true if the attribute is present.
+     */
+    boolean isPresent(Shape shape, Map<String, Set<Shape>> vars) {
+        return apply(shape, vars).isPresent();
+    }
+
+    /**
+     * Compiles an attribute path into a key.
+     *
+     * @param path Path to compile, or null to select the shape itself.
+     * @return Returns the compiled key.
+     */
+    static AttributeKey compile(List<String> path) {
+        if (path == null) {
+            return new Generic(Collections.emptyList());
+        }
+
+        List<String> rest = path.subList(Math.min(2, path.size()), path.size());
+        String property = path.size() > 1 ? path.get(1) : null;
+
+        switch (path.get(0)) {
+            case "id":
+                return property == null ? new Id() : compileId(path, property, rest);
+            case "trait":
+                return property == null ? new Generic(path) : compileTrait(path, property, rest);
+            case "service":
+                return compileService(path, property, rest);
+            case "var":
+                return property == null ? new Generic(path) : new Variable(property, rest);
+            default:
+                return new Generic(path);
+        }
+    }
+
+    private static AttributeKey compileId(List<String> path, String property, List<String> rest) {
+        switch (property) {
+            case "namespace":
+                return new IdPart(ShapeId::getNamespace, rest);
+            case "name":
+                return new IdPart(ShapeId::getName, rest);
+            case "member":
+                return new IdPart(id -> id.getMember().orElse(null), rest);
+            default:
+                return new Generic(path);
+        }
+    }
+
+    private static AttributeKey compileTrait(List<String> path, String property, List<String> rest) {
+        // Pseudo-properties like (keys) and (values) aren't trait names.
+        if (property.startsWith("(")) {
+            return new Generic(path);
+        }
+
+        try {
+            return new TraitValue(ShapeId.from(Trait.makeAbsoluteName(property)), rest);
+        } catch (ShapeIdSyntaxException e) {
+            // Invalid trait IDs keep failing when the selector is evaluated.
+            return new Generic(path);
+        }
+    }
+
+    private static AttributeKey compileService(List<String> path, String property, List<String> rest) {
+        if ("version".equals(property) && rest.isEmpty()) {
+            return new ServiceVersion();
+        }
+        return new Generic(path);
+    }
+
+    private static AttributeValue resolveRest(AttributeValue value, List<String> rest) {
+        return rest.isEmpty() ? value : value.getPath(rest);
+    }
+
+    /**
+     * Evaluates a path generically from the shape attribute value.
+     */
+    private static final class Generic extends AttributeKey {
+        private final List<String> path;
+
+        Generic(List<String> path) {
+            this.path = path;
+        }
+
+        @Override
+        public AttributeValue apply(Shape shape, Map<String, Set<Shape>> vars) {
+            return resolveRest(AttributeValue.shape(shape, vars), path);
+        }
+    }
+
+    /**
+     * Resolves {@code id}.
+     */
+    private static final class Id extends AttributeKey {
+        @Override
+        public AttributeValue apply(Shape shape, Map<String, Set<Shape>> vars) {
+            return AttributeValue.id(shape.getId());
+        }
+
+        @Override
+        boolean isPresent(Shape shape, Map<String, Set<Shape>> vars) {
+            return true;
+        }
+    }
+
+    /**
+     * Resolves {@code id|namespace}, {@code id|name}, and {@code id|member}.
+     */
+    private static final class IdPart extends AttributeKey {
+        private final Function<ShapeId, String> getter;
+        private final List<String> rest;
+
+        IdPart(Function<ShapeId, String> getter, List<String> rest) {
+            this.getter = getter;
+            this.rest = rest;
+        }
+
+        @Override
+        public AttributeValue apply(Shape shape, Map<String, Set<Shape>> vars) {
+            String value = getter.apply(shape.getId());
+            return value == null ? AttributeValue.emptyValue() : resolveRest(AttributeValue.literal(value), rest);
+        }
+    }
+
+    /**
+     * Resolves {@code trait|<id>} using a trait ID parsed once.
+     */
+    private static final class TraitValue extends AttributeKey {
+        private final ShapeId trait;
+        private final List<String> rest;
+
+        TraitValue(ShapeId trait, List<String> rest) {
+            this.trait = trait;
+            this.rest = rest;
+        }
+
+        @Override
+        public AttributeValue apply(Shape shape, Map<String, Set<Shape>> vars) {
+            Trait value = shape.findTrait(trait).orElse(null);
+            return value == null ? AttributeValue.emptyValue() : resolveRest(AttributeValue.node(value.toNode()), rest);
+        }
+
+        @Override
+        boolean isPresent(Shape shape, Map<String, Set<Shape>> vars) {
+            if (rest.isEmpty()) {
+                Trait value = shape.findTrait(trait).orElse(null);
+                return value != null && !value.toNode().isNullNode();
+            }
+            return super.isPresent(shape, vars);
+        }
+    }
+
+    /**
+     * Resolves {@code service|version}.
+     */
+    private static final class ServiceVersion extends AttributeKey {
+        @Override
+        public AttributeValue apply(Shape shape, Map<String, Set<Shape>> vars) {
+            return shape.asServiceShape()
+                    .map(service -> AttributeValue.literal(service.getVersion()))
+                    .orElse(AttributeValue.emptyValue());
+        }
+
+        @Override
+        boolean isPresent(Shape shape, Map<String, Set<Shape>> vars) {
+            return shape.isServiceShape();
+        }
+    }
+
+    /**
+     * Resolves {@code var|<name>} without creating a variable attribute value.
+     */
+    private static final class Variable extends AttributeKey {
+        private final String name;
+        private final List<String> rest;
+
+        Variable(String name, List<String> rest) {
+            this.name = name;
+            this.rest = rest;
+        }
+
+        @Override
+        public AttributeValue apply(Shape shape, Map<String, Set<Shape>> vars) {
+            Set<Shape> shapes = vars == null ? null : vars.get(name);
+            if (shapes == null || shapes.isEmpty()) {
+                return AttributeValue.projection(Collections.emptyList());
+            }
+
+            List<AttributeValue> values = new ArrayList<>(shapes.size());
+            for (Shape value : shapes) {
+                values.add(AttributeValue.shape(value, vars));
+            }
+            return resolveRest(AttributeValue.projection(values), rest);
+        }
+
+        @Override
+        boolean isPresent(Shape shape, Map<String, Set<Shape>> vars) {
+            if (rest.isEmpty()) {
+                Set<Shape> shapes = vars == null ? null : vars.get(name);
+                return shapes != null && !shapes.isEmpty();
+            }
+            return super.isPresent(shape, vars);
+        }
+    }
+}
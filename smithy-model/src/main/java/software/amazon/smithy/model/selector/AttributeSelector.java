@@ -15,30 +15,39 @@
 
 package software.amazon.smithy.model.selector;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.function.BiFunction;
+import java.util.Locale;
+import java.util.function.BiPredicate;
 import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ShapeIdSyntaxException;
+import software.amazon.smithy.model.traits.Trait;
 
 /**
  * Matches shapes with a specific attribute or that matches an attribute comparator.
  */
 final class AttributeSelector implements InternalSelector {
 
-    private final BiFunction<Shape, Map<String, Set<Shape>>, AttributeValue> key;
+    private final List<String> path;
+    private final AttributeKey key;
     private final List<AttributeValue> expected;
     private final AttributeComparator comparator;
     private final boolean caseInsensitive;
+    private final BiPredicate<String, String> stringComparator;
+    private final String[] expectedStrings;
+    private final BigDecimal[] expectedNumbers;
 
     AttributeSelector(
-            BiFunction<Shape, Map<String, Set<Shape>>, AttributeValue> key,
+            List<String> path,
+            AttributeKey key,
             List<String> expected,
             AttributeComparator comparator,
             boolean caseInsensitive
     ) {
+        this.path = path;
         this.key = key;
         this.caseInsensitive = caseInsensitive;
         this.comparator = comparator;
@@ -52,10 +61,71 @@ final class AttributeSelector implements InternalSelector {
                 this.expected.add(AttributeValue.literal(validValue));
             }
         }
+
+        // Comparisons of a single value against literals are specialized so
+        // that the literals are normalized or parsed once rather than per shape.
+        stringComparator = expected == null ? null : createStringComparator(comparator);
+        expectedStrings = stringComparator == null ? null : new String[expected.size()];
+        expectedNumbers = expected == null || !isNumeric(comparator) ? null : new BigDecimal[expected.size()];
+        for (int i = 0; expected != null && i < expected.size(); i++) {
+            if (expectedStrings != null) {
+                expectedStrings[i] = normalize(expected.get(i));
+            } else if (expectedNumbers != null) {
+                expectedNumbers[i] = AttributeComparator.parseNumber(expected.get(i));
+            }
+        }
+    }
+
+    private static BiPredicate<String, String> createStringComparator(AttributeComparator comparator) {
+        if (comparator == AttributeComparator.EQUALS) {
+            return String::equals;
+        } else if (comparator == AttributeComparator.NOT_EQUALS) {
+            return (a, b) -> !a.equals(b);
+        } else if (comparator == AttributeComparator.STARTS_WITH) {
+            return String::startsWith;
+        } else if (comparator == AttributeComparator.ENDS_WITH) {
+            return String::endsWith;
+        } else if (comparator == AttributeComparator.CONTAINS) {
+            return String::contains;
+        } else {
+            return null;
+        }
+    }
+
+    private static boolean isNumeric(AttributeComparator comparator) {
+        return comparator == AttributeComparator.GT
+               || comparator == AttributeComparator.GTE
+               || comparator == AttributeComparator.LT
+               || comparator == AttributeComparator.LTE;
+    }
+
+    private String normalize(String value) {
+        return caseInsensitive ? value.toLowerCase(Locale.ENGLISH) : value;
+    }
+
+    static AttributeSelector existence(List<String> path, AttributeKey key) {
+        return new AttributeSelector(path, key, null, null, false);
     }
 
-    static AttributeSelector existence(BiFunction<Shape, Map<String, Set<Shape>>, AttributeValue> key) {
-        return new AttributeSelector(key, null, null, false);
+    /**
+     * Gets the ID of the trait that a shape is required to have in order
+     * to match this selector.
+     *
+     * @return Returns the trait ID, or null if matching doesn't require a specific trait.
+     */
+    ShapeId getRequiredTrait() {
+        // Only [trait|foo] existence checks are detected. (keys), (values),
+        // and (length) are projections rather than trait names.
+        if (!expected.isEmpty() || path == null || path.size() != 2 || !path.get(0).equals("trait")
+                || path.get(1).startsWith("(")) {
+            return null;
+        }
+
+        try {
+            return ShapeId.from(Trait.makeAbsoluteName(path.get(1)));
+        } catch (ShapeIdSyntaxException e) {
+            return null;
+        }
     }
 
     @Override
@@ -68,10 +138,19 @@ final class AttributeSelector implements InternalSelector {
     }
 
     private boolean matchesAttribute(Shape shape, Context stack) {
+        if (expected.isEmpty()) {
+            return key.isPresent(shape, stack.getVars());
+        }
+
         AttributeValue lhs = key.apply(shape, stack.getVars());
 
-        if (expected.isEmpty()) {
-            return lhs.isPresent();
+        // Projections are compared generically using projection semantics.
+        if (!(lhs instanceof AttributeValueImpl.Projection)) {
+            if (expectedStrings != null) {
+                return lhs.isPresent() && matchesStrings(normalize(lhs.toString()));
+            } else if (expectedNumbers != null) {
+                return lhs.isPresent() && matchesNumbers(AttributeComparator.parseNumber(lhs.toString()));
+            }
         }
 
         for (AttributeValue rhs : expected) {
@@ -82,4 +161,39 @@ final class AttributeSelector implements InternalSelector {
 
         return false;
     }
+
+    private boolean matchesStrings(String lhs) {
+        for (String rhs : expectedStrings) {
+            if (stringComparator.test(lhs, rhs)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesNumbers(BigDecimal lhs) {
+        if (lhs == null) {
+            return false;
+        }
+
+        for (BigDecimal rhs : expectedNumbers) {
+            // Invalid numbers never match.
+            if (rhs != null && compareNumbers(lhs.compareTo(rhs))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean compareNumbers(int result) {
+        if (comparator == AttributeComparator.GT) {
+            return result == 1;
+        } else if (comparator == AttributeComparator.GTE) {
+            return result >= 0;
+        } else if (comparator == AttributeComparator.LT) {
+            return result <= -1;
+        } else {
+            return result <= 0;
+        }
+    }
 }
@@ -15,22 +15,17 @@
 
 package software.amazon.smithy.model.selector;
 
-import java.util.Iterator;
-import software.amazon.smithy.model.neighbor.Walker;
+import software.amazon.smithy.model.neighbor.ClosureCache;
 import software.amazon.smithy.model.shapes.Shape;
 
 /**
- * Uses a {@link Walker} to find all shapes connected to the set of
+ * Uses a {@link ClosureCache} to find all shapes connected to the set of
  * given shapes.
  */
 final class RecursiveNeighborSelector implements InternalSelector {
     @Override
     public boolean push(Context context, Shape shape, Receiver next) {
-        Walker walker = new Walker(context.neighborIndex.getProvider());
-        Iterator<Shape> shapeIterator = walker.iterateShapes(shape);
-
-        while (shapeIterator.hasNext()) {
-            Shape nextShape = shapeIterator.next();
+        for (Shape nextShape : context.neighborIndex.getClosureCache().getClosure(shape)) {
             // Don't include the shape being visited.
             if (!nextShape.equals(shape)) {
                 if (!next.apply(context, nextShape)) {
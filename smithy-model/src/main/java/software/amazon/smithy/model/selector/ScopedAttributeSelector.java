@@ -18,7 +18,6 @@ package software.amazon.smithy.model.selector;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.BiFunction;
 import software.amazon.smithy.model.shapes.Shape;
 
 /**
@@ -56,14 +55,10 @@ final class ScopedAttributeSelector implements InternalSelector {
         AttributeValue create(AttributeValue value);
     }
 
-    private final BiFunction<Shape, Map<String, Set<Shape>>, AttributeValue> keyScope;
+    private final AttributeKey keyScope;
     private final List<Assertion> assertions;
 
-    ScopedAttributeSelector(
-            BiFunction<Shape, Map<String, Set<Shape>>,
-                    AttributeValue> keyScope,
-            List<Assertion> assertions
-    ) {
+    ScopedAttributeSelector(AttributeKey keyScope, List<Assertion> assertions) {
         this.keyScope = keyScope;
         this.assertions = assertions;
     }
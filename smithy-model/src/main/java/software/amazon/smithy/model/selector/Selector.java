@@ -33,7 +33,7 @@ import software.amazon.smithy.utils.SmithyBuilder;
 public interface Selector {
 
     /** A selector that always returns all provided values. */
-    Selector IDENTITY = new WrappedSelector("*", ListUtils.of(InternalSelector.IDENTITY));
+    Selector IDENTITY = new WrappedSelector("*", ListUtils.of(InternalSelector.IDENTITY), ListUtils.of("*"));
 
     /**
      * Parses a selector expression.
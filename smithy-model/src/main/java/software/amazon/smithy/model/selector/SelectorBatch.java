@@ -0,0 +1,224 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.selector;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.NeighborProviderIndex;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ShapeType;
+import software.amazon.smithy.utils.TriConsumer;
+
+/**
+ * Evaluates many selectors against a model in a single pass.
+ *
+ * <p>The selectors of a batch are combined into a tree where selectors
+ * that start with the same sequence of steps share the evaluation of
+ * those steps. For example, {@code operation -[input]-> structure} and
+ * {@code operation -[input]-> [trait|sensitive]} only traverse from each
+ * operation to its input once. The shapes of the model are then scanned
+ * once, and each shape is only sent to the selectors that can match it
+ * based on the shape type or trait that each selector starts with.
+ *
+ * <p>Selectors that were not created by {@link Selector#parse} are
+ * evaluated independently.
+ */
+public final class SelectorBatch {
+
+    private final List<Selector> selectors;
+    private final Step root = new Step(null);
+    private final Map<ShapeType, List<Step>> stepsByType = new EnumMap<>(ShapeType.class);
+    private final Map<ShapeId, List<Step>> stepsByTrait = new HashMap<>();
+    private final List<Step> unindexedSteps = new ArrayList<>();
+    private final List<Selector> opaqueSelectors = new ArrayList<>();
+
+    private SelectorBatch(Collection<Selector> selectors) {
+        this.selectors = Collections.unmodifiableList(new ArrayList<>(new LinkedHashSet<>(selectors)));
+
+        for (Selector selector : this.selectors) {
+            if (selector instanceof WrappedSelector) {
+                add((WrappedSelector) selector);
+            } else {
+                opaqueSelectors.add(selector);
+            }
+        }
+
+        // Index the first step of each selector so that shapes are only sent
+        // to the selectors that can match them.
+        for (Step step : root.children.values()) {
+            if (step.selector instanceof ShapeTypeSelector) {
+                ShapeType type = ((ShapeTypeSelector) step.selector).shapeType;
+                stepsByType.computeIfAbsent(type, t -> new ArrayList<>()).add(step);
+            } else if (step.selector instanceof AttributeSelector
+                       && ((AttributeSelector) step.selector).getRequiredTrait() != null) {
+                ShapeId trait = ((AttributeSelector) step.selector).getRequiredTrait();
+                stepsByTrait.computeIfAbsent(trait, t -> new ArrayList<>()).add(step);
+            } else {
+                unindexedSteps.add(step);
+            }
+        }
+    }
+
+    /**
+     * Creates a batch of selectors.
+     *
+     * <p>Duplicate selectors are only evaluated once.
+     *
+     * @param selectors Selectors to evaluate together.
+     * @return Returns the created batch.
+     */
+    public static SelectorBatch of(Collection<Selector> selectors) {
+        return new SelectorBatch(selectors);
+    }
+
+    /**
+     * Gets the selectors of the batch.
+     *
+     * @return Returns the distinct selectors in the order they were given.
+     */
+    public List<Selector> getSelectors() {
+        return selectors;
+    }
+
+    /**
+     * Matches every selector of the batch to a model.
+     *
+     * @param model Model used to resolve shapes with.
+     * @return Returns the matching shapes of each selector.
+     */
+    public Map<Selector, Set<Shape>> select(Model model) {
+        Map<Selector, Set<Shape>> result = new LinkedHashMap<>();
+        for (Selector selector : selectors) {
+            result.put(selector, new LinkedHashSet<>());
+        }
+
+        selectMatches(model, (selector, shape, vars) -> result.get(selector).add(shape));
+        return result;
+    }
+
+    /**
+     * Matches every selector of the batch to a model and receives each
+     * matched shape with the variables that were set when the shape was
+     * matched.
+     *
+     * <p>A shape is received once for each way that it matches a
+     * selector, like {@link Selector.Runner#selectMatches}.
+     *
+     * @param model Model used to resolve shapes with.
+     * @param matchConsumer Receives the selector, each matched shape, and the vars available when it was matched.
+     */
+    public void selectMatches(Model model, TriConsumer<Selector, Shape, Map<String, Set<Shape>>> matchConsumer) {
+        Context context = new Context(NeighborProviderIndex.of(model));
+        Map<Step, InternalSelector.Receiver> receivers = new HashMap<>();
+        createReceivers(root, matchConsumer, receivers);
+
+        for (Shape shape : model.toSet()) {
+            push(context, shape, stepsByType.get(shape.getType()), receivers);
+            for (ShapeId trait : shape.getAllTraits().keySet()) {
+                push(context, shape, stepsByTrait.get(trait), receivers);
+            }
+            push(context, shape, unindexedSteps, receivers);
+        }
+
+        for (Selector selector : opaqueSelectors) {
+            selector.runner().model(model).selectMatches((shape, vars) -> {
+                matchConsumer.accept(selector, shape, vars);
+            });
+        }
+    }
+
+    private void add(WrappedSelector selector) {
+        Step current = root;
+        for (int i = 0; i < selector.steps.size(); i++) {
+            InternalSelector stepSelector = selector.steps.get(i);
+            current = current.children.computeIfAbsent(selector.stepExpressions.get(i), e -> new Step(stepSelector));
+        }
+        current.terminals.add(selector);
+    }
+
+    private static void push(
+            Context context,
+            Shape shape,
+            List<Step> steps,
+            Map<Step, InternalSelector.Receiver> receivers
+    ) {
+        if (steps != null) {
+            for (Step step : steps) {
+                // Each selector starts evaluating a shape without any variables.
+                step.selector.push(context.clearVars(), shape, receivers.get(step));
+            }
+        }
+    }
+
+    private static void createReceivers(
+            Step step,
+            TriConsumer<Selector, Shape, Map<String, Set<Shape>>> matchConsumer,
+            Map<Step, InternalSelector.Receiver> receivers
+    ) {
+        for (Step child : step.children.values()) {
+            createReceivers(child, matchConsumer, receivers);
+        }
+
+        List<Selector> terminals = step.terminals;
+        List<Step> children = new ArrayList<>(step.children.values());
+        List<InternalSelector.Receiver> childReceivers = new ArrayList<>(children.size());
+        for (Step child : children) {
+            childReceivers.add(receivers.get(child));
+        }
+
+        receivers.put(step, (context, shape) -> {
+            for (Selector terminal : terminals) {
+                matchConsumer.accept(terminal, shape, context.copyVars());
+            }
+
+            if (children.size() == 1) {
+                children.get(0).selector.push(context, shape, childReceivers.get(0));
+                return true;
+            }
+
+            // Each branch sees the variables that were set by the shared steps
+            // before it, and not the variables set by other branches.
+            Map<String, Set<Shape>> vars = new HashMap<>(context.getVars());
+            for (int i = 0; i < children.size(); i++) {
+                children.get(i).selector.push(context, shape, childReceivers.get(i));
+                context.getVars().clear();
+                context.getVars().putAll(vars);
+            }
+
+            return true;
+        });
+    }
+
+    private static final class Step {
+        private final InternalSelector selector;
+        private final Map<String, Step> children = new LinkedHashMap<>();
+        private final List<Selector> terminals = new ArrayList<>();
+
+        private Step(InternalSelector selector) {
+            this.selector = selector;
+        }
+    }
+}
@@ -19,15 +19,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.function.BiFunction;
 import java.util.logging.Logger;
 import software.amazon.smithy.model.loader.ParserUtils;
 import software.amazon.smithy.model.neighbor.RelationshipType;
 import software.amazon.smithy.model.shapes.CollectionShape;
 import software.amazon.smithy.model.shapes.NumberShape;
-import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.shapes.ShapeType;
 import software.amazon.smithy.model.shapes.SimpleShape;
 import software.amazon.smithy.utils.ListUtils;
@@ -55,32 +52,52 @@ final class SelectorParser extends SimpleParser {
     }
 
     static Selector parse(String selector) {
-        return new WrappedSelector(selector, new SelectorParser(selector).parse());
+        List<String> stepExpressions = new ArrayList<>();
+        List<InternalSelector> steps = new SelectorParser(selector).parse(stepExpressions);
+        return new WrappedSelector(selector, steps, stepExpressions);
     }
 
-    List<InternalSelector> parse() {
-        return recursiveParse();
+    List<InternalSelector> parse(List<String> stepExpressions) {
+        return recursiveParse(stepExpressions);
     }
 
     private List<InternalSelector> recursiveParse() {
+        return recursiveParse(null);
+    }
+
+    // Parses a sequence of selectors. The expression of each parsed selector
+    // is added to stepExpressions if it is not null.
+    private List<InternalSelector> recursiveParse(List<String> stepExpressions) {
         List<InternalSelector> selectors = new ArrayList<>();
 
-        // createSelector() will strip leading ws.
-        selectors.add(createSelector());
+        // createStep() will strip leading ws.
+        selectors.add(createStep(stepExpressions));
 
-        // Need to always strip after calling createSelector in case we are at EOF.
+        // Need to always strip after calling createStep in case we are at EOF.
         ws();
 
         // Parse until a break token: ",", "]", and ")".
         while (!eof() && !BREAK_TOKENS.contains(peek())) {
-            selectors.add(createSelector());
-            // Always skip ws after calling createSelector.
+            selectors.add(createStep(stepExpressions));
+            // Always skip ws after calling createStep.
             ws();
         }
 
         return selectors;
     }
 
+    private InternalSelector createStep(List<String> stepExpressions) {
+        ws();
+        int start = position();
+        InternalSelector selector = createSelector();
+
+        if (stepExpressions != null) {
+            stepExpressions.add(sliceFrom(start));
+        }
+
+        return selector;
+    }
+
     private InternalSelector createSelector() {
         ws();
 
@@ -264,19 +281,20 @@ final class SelectorParser extends SimpleParser {
 
     private InternalSelector parseAttribute() {
         ws();
-        BiFunction<Shape, Map<String, Set<Shape>>, AttributeValue> keyFactory = parseAttributePath();
+        List<String> path = parseAttributePath();
+        AttributeKey keyFactory = AttributeKey.compile(path);
         ws();
         char next = expect(']', '=', '!', '^', '$', '*', '?', '>', '<');
 
         if (next == ']') {
-            return AttributeSelector.existence(keyFactory);
+            return AttributeSelector.existence(path, keyFactory);
         }
 
         AttributeComparator comparator = parseComparator(next);
         List<String> values = parseAttributeValues();
         boolean insensitive = parseCaseInsensitiveToken();
         expect(']');
-        return new AttributeSelector(keyFactory, values, comparator, insensitive);
+        return new AttributeSelector(path, keyFactory, values, comparator, insensitive);
     }
 
     private boolean parseCaseInsensitiveToken() {
@@ -360,7 +378,7 @@ final class SelectorParser extends SimpleParser {
     // "[@" selector_key ":" selector_scoped_comparisons "]"
     private InternalSelector parseScopedAttribute() {
         ws();
-        BiFunction<Shape, Map<String, Set<Shape>>, AttributeValue> keyScope = parseAttributePath();
+        AttributeKey keyScope = AttributeKey.compile(parseAttributePath());
         ws();
         expect(':');
         ws();
@@ -415,12 +433,13 @@ final class SelectorParser extends SimpleParser {
         }
     }
 
-    private BiFunction<Shape, Map<String, Set<Shape>>, AttributeValue> parseAttributePath() {
+    // Returns null when the attribute is the current shape rather than a path.
+    private List<String> parseAttributePath() {
         ws();
 
         // '[@:' binds the current shape as the context.
         if (peek() == ':') {
-            return AttributeValue::shape;
+            return null;
         }
 
         List<String> path = new ArrayList<>();
@@ -430,7 +449,7 @@ final class SelectorParser extends SimpleParser {
         // It is optionally followed by "|" delimited path keys.
         path.addAll(parseSelectorPath(this));
 
-        return (shape, variables) -> AttributeValue.shape(shape, variables).getPath(path);
+        return path;
     }
 
     private List<String> parseAttributeValues() {
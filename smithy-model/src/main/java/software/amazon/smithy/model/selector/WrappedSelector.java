@@ -28,9 +28,18 @@ final class WrappedSelector implements Selector {
     private final String expression;
     private final InternalSelector delegate;
     private final Class<? extends Shape> startingShapeType;
+    final List<InternalSelector> steps;
+    final List<String> stepExpressions;
 
-    WrappedSelector(String expression, List<InternalSelector> selectors) {
+    /**
+     * @param expression Expression of the selector.
+     * @param selectors Top-level selectors that are evaluated in sequence.
+     * @param stepExpressions Expression of each top-level selector, used to detect shared prefixes.
+     */
+    WrappedSelector(String expression, List<InternalSelector> selectors, List<String> stepExpressions) {
         this.expression = expression;
+        this.steps = selectors;
+        this.stepExpressions = stepExpressions;
 
         if (selectors.get(0) instanceof ShapeTypeSelector) {
             // If the starting selector filters based on type, then that can be
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.shapes;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import software.amazon.smithy.model.traits.LazyTrait;
+import software.amazon.smithy.model.traits.Trait;
+
+/**
+ * An immutable map of traits that resolves {@link LazyTrait}s as they
+ * are accessed.
+ *
+ * <p>Checking for the presence of a trait by ID and iterating over the keys
+ * of the map never creates typed traits.
+ */
+final class LazyTraitMap extends AbstractMap<ShapeId, Trait> {
+
+    private final Map<ShapeId, Trait> traits;
+    private transient Set<Map.Entry<ShapeId, Trait>> entrySet;
+
+    private LazyTraitMap(Map<ShapeId, Trait> traits) {
+        this.traits = traits;
+    }
+
+    /**
+     * Wraps the given immutable map of traits if it contains any lazy traits.
+     *
+     * @param traits Traits to wrap.
+     * @return Returns the wrapped map, or the given map if it contains no lazy traits.
+     */
+    static Map<ShapeId, Trait> wrap(Map<ShapeId, Trait> traits) {
+        for (Trait trait : traits.values()) {
+            if (trait instanceof LazyTrait) {
+                return new LazyTraitMap(traits);
+            }
+        }
+        return traits;
+    }
+
+    /**
+     * Finds the first trait that is an instance of the given class.
+     *
+     * <p>Only lazy traits that might be an instance of the given class are
+     * resolved.
+     *
+     * @param traitClass Class of trait to find.
+     * @param <T> Type of trait to find.
+     * @return Returns the optionally found trait.
+     */
+    @SuppressWarnings("unchecked")
+    <T extends Trait> Optional<T> findByClass(Class<T> traitClass) {
+        for (Trait trait : traits.values()) {
+            if (trait instanceof LazyTrait) {
+                LazyTrait lazy = (LazyTrait) trait;
+                if (!lazy.mayBeInstanceOf(traitClass)) {
+                    continue;
+                }
+                trait = lazy.get();
+            }
+            if (traitClass.isInstance(trait)) {
+                return Optional.of((T) trait);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public int size() {
+        return traits.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return traits.containsKey(key);
+    }
+
+    @Override
+    public Trait get(Object key) {
+        return resolve(traits.get(key));
+    }
+
+    @Override
+    public Set<ShapeId> keySet() {
+        return Collections.unmodifiableSet(traits.keySet());
+    }
+
+    @Override
+    public Set<Map.Entry<ShapeId, Trait>> entrySet() {
+        Set<Map.Entry<ShapeId, Trait>> result = entrySet;
+        if (result == null) {
+            result = new EntrySet();
+            entrySet = result;
+        }
+        return result;
+    }
+
+    private static Trait resolve(Trait trait) {
+        return trait instanceof LazyTrait ? ((LazyTrait) trait).get() : trait;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<ShapeId, Trait>> {
+        @Override
+        public int size() {
+            return traits.size();
+        }
+
+        @Override
+        public Iterator<Map.Entry<ShapeId, Trait>> iterator() {
+            Iterator<Map.Entry<ShapeId, Trait>> delegate = traits.entrySet().iterator();
+            return new Iterator<Map.Entry<ShapeId, Trait>>() {
+                @Override
+                public boolean hasNext() {
+                    return delegate.hasNext();
+                }
+
+                @Override
+                public Map.Entry<ShapeId, Trait> next() {
+                    Map.Entry<ShapeId, Trait> entry = delegate.next();
+                    return new SimpleImmutableEntry<>(entry.getKey(), resolve(entry.getValue()));
+                }
+            };
+        }
+    }
+}
@@ -61,7 +61,7 @@ public abstract class Shape implements FromSourceLocation, Tagged, ToShapeId, Co
         type = builder.getShapeType();
         source = builder.getSourceLocation();
         id = SmithyBuilder.requiredState("id", builder.getId());
-        traits = builder.copyTraits();
+        traits = LazyTraitMap.wrap(builder.copyTraits());
         validateShapeId(expectMemberSegments);
     }
 
@@ -135,7 +135,7 @@ public abstract class Shape implements FromSourceLocation, Tagged, ToShapeId, Co
      * @return Returns true if the shape has the given trait.
      */
     public boolean hasTrait(String id) {
-        return findTrait(id).isPresent();
+        return hasTrait(ShapeId.from(Trait.makeAbsoluteName(id)));
     }
 
     /**
@@ -145,7 +145,7 @@ public abstract class Shape implements FromSourceLocation, Tagged, ToShapeId, Co
      * @return Returns true if the shape has the given trait.
      */
     public boolean hasTrait(ShapeId id) {
-        return findTrait(id).isPresent();
+        return traits.containsKey(id);
     }
 
     /**
@@ -192,6 +192,10 @@ public abstract class Shape implements FromSourceLocation, Tagged, ToShapeId, Co
      */
     @SuppressWarnings("unchecked")
     public final <T extends Trait> Optional<T> getTrait(Class<T> traitClass) {
+        if (traits instanceof LazyTraitMap) {
+            return ((LazyTraitMap) traits).findByClass(traitClass);
+        }
+
         for (Trait trait : traits.values()) {
             if (traitClass.isInstance(trait)) {
                 return Optional.of((T) trait);
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.shapes;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * An immutable symbol table that interns a set of shape IDs and assigns
+ * each shape ID a dense int ordinal.
+ *
+ * <p>Ordinals range from 0 (inclusive) to {@link #size()} (exclusive) and
+ * are assigned in sorted shape ID order, so the same set of shape IDs always
+ * produces the same ordinals. Indexes and validators can use ordinals to
+ * store information about shapes in arrays and {@link BitSet}s rather than
+ * in maps and sets keyed by {@code ShapeId}.
+ *
+ * <p>The symbol table of a model is available from
+ * {@link software.amazon.smithy.model.Model#getShapeIdTable()}.
+ */
+public final class ShapeIdTable {
+
+    private final ShapeId[] ids;
+
+    // An open-addressing hash table of ordinal + 1, where 0 is an empty slot.
+    private final int[] slots;
+    private final int mask;
+    private final int shift;
+
+    private ShapeIdTable(ShapeId[] ids) {
+        this.ids = ids;
+
+        int capacity = Integer.highestOneBit(Math.max(ids.length, 1) * 2 - 1) << 1;
+        slots = new int[capacity];
+        mask = capacity - 1;
+        shift = Integer.numberOfLeadingZeros(mask);
+        for (int i = 0; i < ids.length; i++) {
+            int slot = slot(ids[i].toString());
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = i + 1;
+        }
+    }
+
+    /**
+     * Creates a symbol table from a collection of shape IDs.
+     *
+     * @param ids Shape IDs to add to the table. Duplicates are ignored.
+     * @return Returns the created table.
+     */
+    public static ShapeIdTable of(Collection<ShapeId> ids) {
+        return new ShapeIdTable(new TreeSet<>(ids).toArray(new ShapeId[0]));
+    }
+
+    // Fibonacci hashing spreads the similar hash codes of shape IDs that
+    // share a namespace and name prefix across the table.
+    private int slot(String value) {
+        return (value.hashCode() * 0x9E3779B9) >>> shift;
+    }
+
+    /**
+     * Gets the number of shape IDs in the table.
+     *
+     * @return Returns the number of shape IDs, which is one greater than the largest ordinal.
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Gets the ordinal of a shape ID.
+     *
+     * @param id Shape ID to get the ordinal of.
+     * @return Returns the ordinal, or -1 if the shape ID is not in the table.
+     */
+    public int getOrdinal(ToShapeId id) {
+        ShapeId shapeId = id.toShapeId();
+        String value = shapeId.toString();
+        int slot = slot(value);
+        for (int entry = slots[slot]; entry != 0; entry = slots[slot]) {
+            ShapeId candidate = ids[entry - 1];
+            // Interned shape IDs are found without comparing strings.
+            if (candidate == shapeId || candidate.toString().equals(value)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the ordinal of an absolute shape ID without parsing the shape ID.
+     *
+     * @param absoluteShapeId Absolute shape ID to get the ordinal of.
+     * @return Returns the ordinal, or -1 if the shape ID is not in the table.
+     */
+    public int getOrdinal(String absoluteShapeId) {
+        int slot = slot(absoluteShapeId);
+        for (int entry = slots[slot]; entry != 0; entry = slots[slot]) {
+            if (ids[entry - 1].toString().equals(absoluteShapeId)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the shape ID of an ordinal.
+     *
+     * @param ordinal Ordinal to get.
+     * @return Returns the shape ID.
+     * @throws IndexOutOfBoundsException if the ordinal is not in the table.
+     */
+    public ShapeId getShapeId(int ordinal) {
+        if (ordinal < 0 || ordinal >= ids.length) {
+            throw new IndexOutOfBoundsException("Invalid shape ID ordinal: " + ordinal);
+        }
+        return ids[ordinal];
+    }
+
+    /**
+     * Checks if the table contains a shape ID.
+     *
+     * @param id Shape ID to check.
+     * @return Returns true if the shape ID is in the table.
+     */
+    public boolean contains(ToShapeId id) {
+        return getOrdinal(id) != -1;
+    }
+
+    /**
+     * Finds the interned shape ID of an absolute shape ID without parsing
+     * the shape ID.
+     *
+     * @param absoluteShapeId Absolute shape ID to find.
+     * @return Returns the optionally found shape ID.
+     */
+    public Optional<ShapeId> find(String absoluteShapeId) {
+        int ordinal = getOrdinal(absoluteShapeId);
+        return ordinal == -1 ? Optional.empty() : Optional.of(ids[ordinal]);
+    }
+
+    /**
+     * Creates a bit set that contains the ordinals of the given shape IDs.
+     *
+     * @param shapes Shapes or shape IDs to add to the bit set. Shape IDs
+     *   that are not in the table are ignored.
+     * @return Returns the created bit set.
+     */
+    public BitSet toBitSet(Collection<? extends ToShapeId> shapes) {
+        BitSet result = new BitSet(ids.length);
+        for (ToShapeId shape : shapes) {
+            int ordinal = getOrdinal(shape);
+            if (ordinal != -1) {
+                result.set(ordinal);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the shape IDs of each ordinal in a bit set.
+     *
+     * @param ordinals Ordinals to get.
+     * @return Returns the shape IDs in ordinal order.
+     * @throws IndexOutOfBoundsException if the bit set contains an ordinal that is not in the table.
+     */
+    public List<ShapeId> getShapeIds(BitSet ordinals) {
+        List<ShapeId> result = new ArrayList<>(ordinals.cardinality());
+        for (int i = ordinals.nextSetBit(0); i >= 0; i = ordinals.nextSetBit(i + 1)) {
+            result.add(getShapeId(i));
+        }
+        return result;
+    }
+}
@@ -18,19 +18,25 @@ package software.amazon.smithy.model.shapes;
 import java.io.Serializable;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.loader.Prelude;
 import software.amazon.smithy.model.node.ArrayNode;
@@ -48,6 +54,7 @@ import software.amazon.smithy.utils.CodeWriter;
 import software.amazon.smithy.utils.FunctionalUtils;
 import software.amazon.smithy.utils.ListUtils;
 import software.amazon.smithy.utils.MapUtils;
+import software.amazon.smithy.utils.ParallelUtils;
 import software.amazon.smithy.utils.SmithyBuilder;
 import software.amazon.smithy.utils.StringUtils;
 
@@ -60,8 +67,10 @@ public final class SmithyIdlModelSerializer {
     private final Predicate<Trait> traitFilter;
     private final Function<Shape, Path> shapePlacer;
     private final Path basePath;
+    private final Executor executor;
 
     private SmithyIdlModelSerializer(Builder builder) {
+        executor = builder.executor;
         metadataFilter = builder.metadataFilter;
         shapeFilter = builder.shapeFilter.and(FunctionalUtils.not(Prelude::isPreludeShape));
         traitFilter = builder.traitFilter;
@@ -90,19 +99,59 @@ public final class SmithyIdlModelSerializer {
      * @return A map of (possibly relative) file paths to Smithy IDL strings.
      */
     public Map<Path, String> serialize(Model model) {
-        Map<Path, String> result = model.shapes()
+        Map<Path, String> result = new HashMap<>();
+        serialize(model, result::put);
+        return result;
+    }
+
+    /**
+     * Serializes a {@link Model} into a set of Smithy IDL files, passing
+     * each file to the given consumer as soon as it has been rendered.
+     *
+     * <p>Files are provided to the consumer in order of their paths, and the
+     * consumer is never invoked concurrently. Files are rendered sequentially
+     * on the calling thread unless an executor was provided with
+     * {@link Builder#executor(Executor)}, in which case files are rendered in
+     * parallel and each file is provided to the consumer, possibly on a
+     * thread of the executor, as soon as it and every file before it have
+     * been rendered. The contents of each file are always the same
+     * regardless of how they were rendered.
+     *
+     * <p>If the model contains no shapes, or all shapes are filtered out, then
+     * a single path "metadata.smithy" is provided to the consumer. This will
+     * contain only any defined metadata.
+     *
+     * @param model The model to serialize.
+     * @param consumer Consumer that receives each (possibly relative) file path and its Smithy IDL contents.
+     */
+    public void serialize(Model model, BiConsumer<Path, String> consumer) {
+        Map<Path, List<Shape>> files = model.shapes()
                 .filter(FunctionalUtils.not(Shape::isMemberShape))
                 .filter(shapeFilter)
-                .collect(Collectors.groupingBy(shapePlacer)).entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, entry -> serialize(model, entry.getValue())));
-        if (result.isEmpty()) {
+                .collect(Collectors.groupingBy(shapePlacer, TreeMap::new, Collectors.toList()));
+
+        if (files.isEmpty()) {
             Path path = Paths.get("metadata.smithy");
             if (basePath != null) {
                 path = basePath.resolve(path);
             }
-            return Collections.singletonMap(path, serializeHeader(model, null));
+            consumer.accept(path, serializeHeader(model, null));
+            return;
         }
-        return result;
+
+        if (executor == null) {
+            files.forEach((path, shapes) -> consumer.accept(path, serialize(model, shapes)));
+            return;
+        }
+
+        List<Map.Entry<Path, List<Shape>>> entries = new ArrayList<>(files.entrySet());
+        List<Integer> fileNumbers = IntStream.range(0, entries.size()).boxed().collect(Collectors.toList());
+        OrderedFileConsumer ordered = new OrderedFileConsumer(consumer);
+        ParallelUtils.map(executor, fileNumbers, number -> {
+            Map.Entry<Path, List<Shape>> entry = entries.get(number);
+            ordered.accept(number, entry.getKey(), serialize(model, entry.getValue()));
+            return null;
+        });
     }
 
     private String serialize(Model fullModel, Collection<Shape> shapes) {
@@ -180,6 +229,30 @@ public final class SmithyIdlModelSerializer {
     /**
      * Comparator used to sort shapes.
      */
+    /**
+     * Passes numbered files to a consumer in the order of their numbers as
+     * soon as every file with a lower number has been passed to it.
+     */
+    private static final class OrderedFileConsumer {
+        private final BiConsumer<Path, String> consumer;
+        private final Map<Integer, Map.Entry<Path, String>> pendingFiles = new HashMap<>();
+        private int nextFile;
+
+        OrderedFileConsumer(BiConsumer<Path, String> consumer) {
+            this.consumer = consumer;
+        }
+
+        synchronized void accept(int number, Path path, String contents) {
+            pendingFiles.put(number, new AbstractMap.SimpleImmutableEntry<>(path, contents));
+            for (Map.Entry<Path, String> next = pendingFiles.remove(nextFile);
+                    next != null;
+                    next = pendingFiles.remove(nextFile)) {
+                nextFile++;
+                consumer.accept(next.getKey(), next.getValue());
+            }
+        }
+    }
+
     private static final class ShapeComparator implements Comparator<Shape>, Serializable {
         private static final Map<ShapeType, Integer> PRIORITY = MapUtils.of(
                 ShapeType.SERVICE, 0,
@@ -234,6 +307,7 @@ public final class SmithyIdlModelSerializer {
         private Predicate<Trait> traitFilter = FunctionalUtils.alwaysTrue();
         private Function<Shape, Path> shapePlacer = SmithyIdlModelSerializer::placeShapesByNamespace;
         private Path basePath = null;
+        private Executor executor;
 
         public Builder() {}
 
@@ -300,6 +374,23 @@ public final class SmithyIdlModelSerializer {
             return this;
         }
 
+        /**
+         * Sets the executor used to render files in parallel.
+         *
+         * <p>Files are rendered sequentially on the calling thread by default.
+         * The calling thread also renders files when an executor is set, so
+         * the executor can be a bounded pool that the caller is itself
+         * running on. The configured filters and shape placer must be
+         * thread-safe when an executor is set.
+         *
+         * @param executor Executor to use, or null to render sequentially.
+         * @return Returns the builder.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         @Override
         public SmithyIdlModelSerializer build() {
             return new SmithyIdlModelSerializer(this);
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.traits;
+
+import static java.lang.String.format;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.smithy.model.SourceException;
+import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * A trait that defers creating its typed value until it is first accessed.
+ *
+ * <p>Lazy traits are created by the {@link TraitFactory} returned from
+ * {@link #createLazyFactory}. Shapes automatically resolve lazy traits when
+ * they are accessed, so lazy traits are never returned from methods like
+ * {@link software.amazon.smithy.model.shapes.Shape#findTrait} or
+ * {@link software.amazon.smithy.model.shapes.Shape#getAllTraits}, and
+ * they are resolved when a shape is converted to a builder. Like other
+ * traits, lazy traits are compared using their shape ID and node value.
+ *
+ * <p>The typed trait is created at most once, even when accessed
+ * concurrently. Errors encountered while creating the typed trait are
+ * thrown as a {@link SourceException} when the trait is first accessed.
+ */
+@SmithyInternalApi
+public final class LazyTrait implements Trait {
+
+    private final ShapeId id;
+    private final ShapeId target;
+    private final Node value;
+    private final LazyFactory factory;
+    private volatile Trait trait;
+
+    private LazyTrait(ShapeId id, ShapeId target, Node value, LazyFactory factory) {
+        this.id = id;
+        this.target = target;
+        this.value = value;
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a trait factory that creates lazy traits that are resolved
+     * using the given factory.
+     *
+     * @param delegate Factory used to create typed traits when they are accessed.
+     * @return Returns the created factory.
+     */
+    public static TraitFactory createLazyFactory(TraitFactory delegate) {
+        return new LazyFactory(delegate);
+    }
+
+    /**
+     * Gets the typed trait, creating it if necessary.
+     *
+     * @return Returns the typed trait.
+     * @throws SourceException if the trait cannot be created.
+     */
+    public Trait get() {
+        Trait result = trait;
+        if (result == null) {
+            synchronized (this) {
+                result = trait;
+                if (result == null) {
+                    result = factory.create(id, target, value);
+                    trait = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the typed trait might be an instance of the given class
+     * without creating the typed trait.
+     *
+     * <p>This returns true if the class of the typed trait is not known
+     * yet. The class of a trait becomes known once any lazy trait with the
+     * same shape ID and trait factory has been created.
+     *
+     * @param type Type to check.
+     * @return Returns false if the trait is definitely not of the given type.
+     */
+    public boolean mayBeInstanceOf(Class<?> type) {
+        Trait result = trait;
+        if (result != null) {
+            return type.isInstance(result);
+        }
+        Class<?> known = factory.classes.get(id);
+        return known == null || type.isAssignableFrom(known);
+    }
+
+    @Override
+    public ShapeId toShapeId() {
+        return id;
+    }
+
+    @Override
+    public SourceLocation getSourceLocation() {
+        return value.getSourceLocation();
+    }
+
+    /**
+     * Gets the raw, unresolved value of the trait.
+     *
+     * <p>This does not create the typed trait, so the returned node might
+     * not be normalized in the same way as the typed trait's node.
+     *
+     * @return Returns the raw trait value.
+     */
+    @Override
+    public Node toNode() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof Trait)) {
+            return false;
+        }
+
+        Trait b = (Trait) other;
+        return this == other || (id.equals(b.toShapeId()) && value.equals(b.toNode()));
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode() * 17 + value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Lazy trait `%s`, defined at %s", id, getSourceLocation());
+    }
+
+    private static final class LazyFactory implements TraitFactory {
+        private final TraitFactory delegate;
+        private final Map<ShapeId, Class<? extends Trait>> classes = new ConcurrentHashMap<>();
+
+        LazyFactory(TraitFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Optional<Trait> createTrait(ShapeId id, ShapeId target, Node value) {
+            return Optional.of(new LazyTrait(id, target, value, this));
+        }
+
+        private Trait create(ShapeId id, ShapeId target, Node value) {
+            try {
+                Trait result = delegate.createTrait(id, target, value).orElseGet(() -> new DynamicTrait(id, value));
+                classes.putIfAbsent(id, result.getClass());
+                return result;
+            } catch (SourceException e) {
+                String message = format("Error creating trait `%s` on `%s`: %s",
+                                        Trait.getIdiomaticTraitName(id), target, e.getMessageWithoutLocation());
+                throw new SourceException(message, value, e);
+            }
+        }
+    }
+}
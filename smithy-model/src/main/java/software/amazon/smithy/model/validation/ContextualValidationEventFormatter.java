@@ -15,14 +15,8 @@
 
 package software.amazon.smithy.model.validation;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.StringWriter;
-import java.net.URL;
-import java.net.URLConnection;
-import java.nio.charset.StandardCharsets;
 import java.util.Formatter;
 import software.amazon.smithy.model.SourceLocation;
 import software.amazon.smithy.model.shapes.ShapeId;
@@ -44,6 +38,11 @@ import software.amazon.smithy.model.shapes.ShapeId;
  *      |                                  ^
  *      = Unable to resolve trait `smithy.test#httpResponseTests`. If this is a custom trait, [...]
  * }</pre>
+ *
+ * <p>The lines of model files are indexed and cached across formatters so
+ * that formatting many events that refer to the same file does not reload
+ * the file for each event. This formatter is thread-safe and can be used
+ * to format events from validators running in parallel.
  */
 public final class ContextualValidationEventFormatter implements ValidationEventFormatter {
     @Override
@@ -99,24 +98,6 @@ public final class ContextualValidationEventFormatter implements ValidationEvent
 
     // Attempts to load a specific line from the model.
     private String loadContextualLine(SourceLocation source) throws IOException {
-        // Ensure that there's a scheme.
-        String normalizedFile = source.getFilename();
-        if (!source.getFilename().startsWith("file:") && !source.getFilename().startsWith("jar:")) {
-            normalizedFile = "file:" + normalizedFile;
-        }
-
-        // Loading from a JAR needs special treatment, but this can
-        // all actually be handled in a uniform way using URLs.
-        URL url = new URL(normalizedFile);
-        URLConnection connection = url.openConnection();
-        connection.setUseCaches(false);
-
-        try (InputStream input = connection.getInputStream();
-             BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
-            return reader.lines()
-                    .skip(source.getLine() - 1)
-                    .findFirst()
-                    .orElse(null);
-        }
+        return SourceLineCache.INSTANCE.getLine(source.getFilename(), source.getLine());
     }
 }
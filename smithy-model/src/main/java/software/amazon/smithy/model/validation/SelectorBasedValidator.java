@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.validation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.selector.Selector;
+import software.amazon.smithy.model.selector.SelectorBatch;
+import software.amazon.smithy.model.shapes.Shape;
+
+/**
+ * A validator that creates validation events from the shapes matched by a
+ * {@link Selector}.
+ *
+ * <p>When a model is validated, the selectors of every selector-based
+ * validator are evaluated together in a single pass over the model using
+ * a {@link SelectorBatch}, and the matches of each selector are then given
+ * to its validator.
+ */
+public interface SelectorBasedValidator extends Validator {
+
+    /**
+     * Gets the selector that the validator matches shapes with.
+     *
+     * @return Returns the selector.
+     */
+    Selector getSelector();
+
+    /**
+     * Validates a model using matches of the selector that were already
+     * computed.
+     *
+     * <p>The given {@code matches} function sends each match of the
+     * selector, made up of the matched shape and the variables that were
+     * set when the shape was matched, to the consumer it is given.
+     *
+     * @param model Model to validate.
+     * @param matches Function that sends each match of the selector to the given consumer.
+     * @return List of validation events.
+     */
+    List<ValidationEvent> validateMatches(
+            Model model,
+            Consumer<BiConsumer<Shape, Map<String, Set<Shape>>>> matches
+    );
+
+    /**
+     * Validates a model by evaluating the selector independently of other
+     * selector-based validators.
+     *
+     * @param model Model to validate.
+     * @return List of validation events.
+     */
+    @Override
+    default List<ValidationEvent> validate(Model model) {
+        return validateMatches(model, consumer -> getSelector().runner().model(model).selectMatches(consumer));
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.validation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import software.amazon.smithy.utils.IoUtils;
+
+/**
+ * A shared, bounded cache of model files used to load the source code
+ * line that triggered a validation event.
+ *
+ * <p>Each cached file is indexed by the offset of every line so that a
+ * line can be loaded without rescanning the file. Files are read into
+ * memory rather than memory-mapped so that the cache never holds files
+ * open. Local files are re-read if they are modified, and files loaded
+ * from other URLs, like files in JARs, are read once. The least recently
+ * used file is evicted when the cache is full.
+ *
+ * <p>Lines can be terminated by "\n", "\r\n", or "\r".
+ *
+ * <p>This class is thread-safe.
+ */
+final class SourceLineCache {
+
+    static final SourceLineCache INSTANCE = new SourceLineCache(32);
+
+    private final Map<String, LineIndex> files;
+
+    SourceLineCache(int maxFiles) {
+        files = new LinkedHashMap<String, LineIndex>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LineIndex> eldest) {
+                return size() > maxFiles;
+            }
+        };
+    }
+
+    /**
+     * Loads a line from a file.
+     *
+     * @param filename Filename or URL of the file to load.
+     * @param line Line number to load, starting at 1.
+     * @return Returns the line, or null if the file does not contain the line.
+     * @throws IOException if the file can't be read.
+     */
+    String getLine(String filename, int line) throws IOException {
+        LineIndex index;
+        synchronized (files) {
+            index = files.get(filename);
+        }
+
+        if (index == null || index.isStale()) {
+            // Files are indexed outside of the lock so that slow reads don't block other files.
+            index = LineIndex.load(filename);
+            synchronized (files) {
+                files.put(filename, index);
+            }
+        }
+
+        return index.getLine(line);
+    }
+
+    private static final class LineIndex {
+        private final byte[] content;
+        private final int[] lineOffsets;
+        private final int lineCount;
+        private final Path path;
+        private final FileTime lastModified;
+
+        private LineIndex(byte[] content, Path path, FileTime lastModified) {
+            this.content = content;
+            this.path = path;
+            this.lastModified = lastModified;
+
+            // Record the offset at which each line starts.
+            int[] offsets = new int[64];
+            int count = 1;
+            int limit = content.length;
+            for (int i = 0; i < limit; i++) {
+                // A "\r" that is followed by "\n" is part of the same line terminator.
+                if (content[i] == '\n' || (content[i] == '\r' && (i + 1 == limit || content[i + 1] != '\n'))) {
+                    if (count == offsets.length) {
+                        offsets = Arrays.copyOf(offsets, count * 2);
+                    }
+                    offsets[count++] = i + 1;
+                }
+            }
+
+            // A trailing newline does not start another line.
+            if (count > 1 && offsets[count - 1] == limit) {
+                count--;
+            }
+
+            lineOffsets = offsets;
+            lineCount = limit == 0 ? 0 : count;
+        }
+
+        static LineIndex load(String filename) throws IOException {
+            if (filename.startsWith("jar:")) {
+                return read(new URL(filename));
+            }
+
+            Path path = getLocalPath(filename);
+            FileTime lastModified = Files.readAttributes(path, BasicFileAttributes.class).lastModifiedTime();
+            return new LineIndex(Files.readAllBytes(path), path, lastModified);
+        }
+
+        // Loading from a JAR needs special treatment, but this can be
+        // handled in a uniform way using URLs.
+        private static LineIndex read(URL url) throws IOException {
+            URLConnection connection = url.openConnection();
+            connection.setUseCaches(false);
+            try (InputStream input = connection.getInputStream()) {
+                return new LineIndex(IoUtils.toByteArray(input), null, null);
+            }
+        }
+
+        private static Path getLocalPath(String filename) throws IOException {
+            if (!filename.startsWith("file:")) {
+                return Paths.get(filename);
+            }
+
+            URL url = new URL(filename);
+            try {
+                return Paths.get(url.toURI());
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                // File URLs created from paths that contain spaces, etc. are not valid URIs.
+                return Paths.get(url.getPath());
+            }
+        }
+
+        boolean isStale() throws IOException {
+            if (path == null) {
+                return false;
+            }
+
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return !lastModified.equals(attributes.lastModifiedTime()) || attributes.size() != content.length;
+        }
+
+        String getLine(int line) {
+            if (line < 1 || line > lineCount) {
+                return null;
+            }
+
+            int start = lineOffsets[line - 1];
+            int end = line < lineCount ? lineOffsets[line] : content.length;
+            if (end > start && content[end - 1] == '\n') {
+                end--;
+            }
+            if (end > start && content[end - 1] == '\r') {
+                end--;
+            }
+
+            return new String(content, start, end - start, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -17,11 +17,14 @@ package software.amazon.smithy.model.validation.linters;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import software.amazon.smithy.model.FromSourceLocation;
@@ -33,6 +36,7 @@ import software.amazon.smithy.model.selector.Selector;
 import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.validation.AbstractValidator;
+import software.amazon.smithy.model.validation.SelectorBasedValidator;
 import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.model.validation.ValidatorService;
 import software.amazon.smithy.utils.OptionalUtils;
@@ -41,7 +45,7 @@ import software.amazon.smithy.utils.SimpleParser;
 /**
  * Emits a validation event for each shape that matches a selector.
  */
-public final class EmitEachSelectorValidator extends AbstractValidator {
+public final class EmitEachSelectorValidator extends AbstractValidator implements SelectorBasedValidator {
 
     /**
      * EmitEachSelector configuration settings.
@@ -124,19 +128,32 @@ public final class EmitEachSelectorValidator extends AbstractValidator {
     }
 
     @Override
-    public List<ValidationEvent> validate(Model model) {
+    public Selector getSelector() {
+        return config.getSelector();
+    }
+
+    @Override
+    public List<ValidationEvent> validateMatches(
+            Model model,
+            Consumer<BiConsumer<Shape, Map<String, Set<Shape>>>> matches
+    ) {
         // Short-circuit the validation if the binding trait is never used.
         if (config.bindToTrait != null && !model.getAppliedTraits().contains(config.getBindToTrait())) {
             return Collections.emptyList();
         } else if (config.messageTemplate == null) {
-            return validateWithSimpleMessages(model);
+            return validateWithSimpleMessages(matches);
         } else {
-            return validateWithTemplate(model);
+            return validateWithTemplate(matches);
         }
     }
 
-    private List<ValidationEvent> validateWithSimpleMessages(Model model) {
-        return config.getSelector().select(model).stream()
+    private List<ValidationEvent> validateWithSimpleMessages(
+            Consumer<BiConsumer<Shape, Map<String, Set<Shape>>>> matches
+    ) {
+        // A shape can match a selector more than once, but only one event is emitted for it.
+        Set<Shape> shapes = new LinkedHashSet<>();
+        matches.accept((shape, vars) -> shapes.add(shape));
+        return shapes.stream()
                 .flatMap(shape -> OptionalUtils.stream(createSimpleEvent(shape)))
                 .collect(Collectors.toList());
     }
@@ -161,12 +178,11 @@ public final class EmitEachSelectorValidator extends AbstractValidator {
 
     // Created events with a message template requires emitting matches
     // into a BiConsumer and building up a mutated List of events.
-    private List<ValidationEvent> validateWithTemplate(Model model) {
+    private List<ValidationEvent> validateWithTemplate(
+            Consumer<BiConsumer<Shape, Map<String, Set<Shape>>>> matches
+    ) {
         List<ValidationEvent> events = new ArrayList<>();
-        config.getSelector()
-                .runner()
-                .model(model)
-                .selectMatches((shape, vars) -> createTemplatedEvent(shape, vars).ifPresent(events::add));
+        matches.accept((shape, vars) -> createTemplatedEvent(shape, vars).ifPresent(events::add));
         return events;
     }
 
@@ -15,16 +15,20 @@
 
 package software.amazon.smithy.model.validation.linters;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.loader.Prelude;
 import software.amazon.smithy.model.node.NodeMapper;
 import software.amazon.smithy.model.selector.Selector;
 import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.validation.AbstractValidator;
+import software.amazon.smithy.model.validation.SelectorBasedValidator;
 import software.amazon.smithy.model.validation.Severity;
 import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.model.validation.ValidatorService;
@@ -33,7 +37,7 @@ import software.amazon.smithy.utils.ListUtils;
 /**
  * Emits a validation event if no shapes match the given selector.
  */
-public final class EmitNoneSelectorValidator extends AbstractValidator {
+public final class EmitNoneSelectorValidator extends AbstractValidator implements SelectorBasedValidator {
 
     /**
      * EmitNoneSelector configuration settings.
@@ -74,11 +78,22 @@ public final class EmitNoneSelectorValidator extends AbstractValidator {
     }
 
     @Override
-    public List<ValidationEvent> validate(Model model) {
+    public Selector getSelector() {
+        return config.getSelector();
+    }
+
+    @Override
+    public List<ValidationEvent> validateMatches(
+            Model model,
+            Consumer<BiConsumer<Shape, Map<String, Set<Shape>>>> matches
+    ) {
         // Filter out prelude types.
-        Set<Shape> shapes = config.getSelector().select(model).stream()
-                .filter(shape -> !Prelude.isPreludeShape(shape.getId()))
-                .collect(Collectors.toSet());
+        Set<Shape> shapes = new HashSet<>();
+        matches.accept((shape, vars) -> {
+            if (!Prelude.isPreludeShape(shape.getId())) {
+                shapes.add(shape);
+            }
+        });
 
         if (shapes.isEmpty()) {
             return ListUtils.of(ValidationEvent.builder()
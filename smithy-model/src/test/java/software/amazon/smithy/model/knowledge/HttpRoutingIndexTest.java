@@ -0,0 +1,160 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.knowledge;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+public class HttpRoutingIndexTest {
+
+    private static final ShapeId SERVICE = ShapeId.from("smithy.example#Service");
+    private static Model model;
+
+    @BeforeAll
+    public static void before() {
+        model = Model.assembler()
+                .addUnparsedModel("routing.smithy", String.join("\n",
+                        "namespace smithy.example",
+                        "service Service {",
+                        "    version: \"2020-01-01\",",
+                        "    operations: [ListFoos, GetFoo, GetFooMetadata, GetObject, GetObjectAcl, PutFoo, QueryFoo]",
+                        "}",
+                        "@readonly @http(method: \"GET\", uri: \"/foos\")",
+                        "operation ListFoos {}",
+                        "@readonly @http(method: \"GET\", uri: \"/foos/{id}\")",
+                        "operation GetFoo { input: IdInput }",
+                        "@readonly @http(method: \"GET\", uri: \"/foos/{id}/metadata\")",
+                        "operation GetFooMetadata { input: IdInput }",
+                        "@readonly @http(method: \"GET\", uri: \"/objects/{key+}\")",
+                        "operation GetObject { input: KeyInput }",
+                        "@readonly @http(method: \"GET\", uri: \"/objects/{key+}/acl\")",
+                        "operation GetObjectAcl { input: KeyInput }",
+                        "@idempotent @http(method: \"PUT\", uri: \"/foos/{id}\")",
+                        "operation PutFoo { input: IdInput }",
+                        "@readonly @http(method: \"GET\", uri: \"/foos/{id}?query\")",
+                        "operation QueryFoo { input: IdInput }",
+                        "structure IdInput { @required @httpLabel id: String }",
+                        "structure KeyInput { @required @httpLabel key: String }"))
+                .assemble()
+                .unwrap();
+    }
+
+    private static Optional<HttpRoutingIndex.Match> match(String method, String requestTarget) {
+        return HttpRoutingIndex.of(model).match(SERVICE, method, requestTarget);
+    }
+
+    private static void assertMatches(String method, String requestTarget, String operation, String... labels) {
+        Optional<HttpRoutingIndex.Match> match = match(method, requestTarget);
+        Map<String, String> expectedLabels = new HashMap<>();
+        for (int i = 0; i < labels.length; i += 2) {
+            expectedLabels.put(labels[i], labels[i + 1]);
+        }
+
+        assertThat(match.isPresent(), equalTo(true));
+        assertThat(match.get().getOperation(), equalTo(ShapeId.fromParts("smithy.example", operation)));
+        assertThat(match.get().getLabels(), equalTo(expectedLabels));
+    }
+
+    @Test
+    public void matchesLiteralPaths() {
+        assertMatches("GET", "/foos", "ListFoos");
+    }
+
+    @Test
+    public void matchesLabels() {
+        assertMatches("GET", "/foos/abc", "GetFoo", "id", "abc");
+        assertMatches("GET", "/foos/abc/metadata", "GetFooMetadata", "id", "abc");
+        assertMatches("PUT", "/foos/abc", "PutFoo", "id", "abc");
+    }
+
+    @Test
+    public void prefersLiteralsOverLabels() {
+        // Conflicting patterns are invalid, but are still routed deterministically.
+        Model conflicting = Model.assembler()
+                .addUnparsedModel("conflicts.smithy", String.join("\n",
+                        "namespace smithy.example",
+                        "service Service { version: \"2020-01-01\", operations: [GetFoo, GetSpecialFoo] }",
+                        "@readonly @http(method: \"GET\", uri: \"/foos/{id}\")",
+                        "operation GetFoo { input: IdInput }",
+                        "@readonly @http(method: \"GET\", uri: \"/foos/special\")",
+                        "operation GetSpecialFoo {}",
+                        "structure IdInput { @required @httpLabel id: String }"))
+                .disableValidation()
+                .assemble()
+                .unwrap();
+        HttpRoutingIndex index = HttpRoutingIndex.of(conflicting);
+
+        assertThat(index.match(SERVICE, "GET", "/foos/special").get().getOperation(),
+                   equalTo(ShapeId.from("smithy.example#GetSpecialFoo")));
+        assertThat(index.match(SERVICE, "GET", "/foos/other").get().getOperation(),
+                   equalTo(ShapeId.from("smithy.example#GetFoo")));
+    }
+
+    @Test
+    public void decodesLabels() {
+        assertMatches("GET", "/foos/a%20b%2Fc", "GetFoo", "id", "a b/c");
+    }
+
+    @Test
+    public void decodesLabelsWithNonBmpCharacters() {
+        assertMatches("GET", "/foos/\uD83D\uDE00%20x", "GetFoo", "id", "\uD83D\uDE00 x");
+        assertMatches("GET", "/foos/%F0%9F%98%80x", "GetFoo", "id", "\uD83D\uDE00x");
+    }
+
+    @Test
+    public void doesNotMatchInvalidEscapes() {
+        assertThat(match("GET", "/foos/a%2").isPresent(), equalTo(false));
+        assertThat(match("GET", "/foos/a%zz").isPresent(), equalTo(false));
+    }
+
+    @Test
+    public void matchesGreedyLabels() {
+        assertMatches("GET", "/objects/a", "GetObject", "key", "a");
+        assertMatches("GET", "/objects/a/b/c", "GetObject", "key", "a/b/c");
+        assertMatches("GET", "/objects/a/b/acl", "GetObjectAcl", "key", "a/b");
+    }
+
+    @Test
+    public void prefersRoutesWithMatchingQueryLiterals() {
+        assertMatches("GET", "/foos/abc?query", "QueryFoo", "id", "abc");
+        assertMatches("GET", "/foos/abc?other=1&query=", "QueryFoo", "id", "abc");
+        assertMatches("GET", "/foos/abc?other=1", "GetFoo", "id", "abc");
+    }
+
+    @Test
+    public void returnsEmptyWhenNothingMatches() {
+        assertThat(match("GET", "/foos/abc/other").isPresent(), equalTo(false));
+        assertThat(match("GET", "/foos/").isPresent(), equalTo(false));
+        assertThat(match("GET", "/objects").isPresent(), equalTo(false));
+        assertThat(match("DELETE", "/foos/abc").isPresent(), equalTo(false));
+        assertThat(match("GET", "foos").isPresent(), equalTo(false));
+        assertThat(match("GET", "/foos/%zz").isPresent(), equalTo(false));
+    }
+
+    @Test
+    public void returnsEmptyForUnknownServices() {
+        assertThat(HttpRoutingIndex.of(model).match(ShapeId.from("smithy.example#Missing"), "GET", "/foos")
+                           .isPresent(), equalTo(false));
+    }
+}
@@ -21,6 +21,10 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -142,6 +146,40 @@ public class IdlModelLoaderTest {
         assertThat(docs, equalTo("This is the first line.\nThis is the second line."));
     }
 
+    @Test
+    public void decodesMultiByteTextAndReportsCharacterColumns() {
+        ValidatedResult<Model> result = Model.assembler()
+                .addUnparsedModel("foo.smithy", "namespace smithy.example\n"
+                                                + "/// D\u00e9j\u00e0 vu \ud83d\ude00\n"
+                                                + "@tags([\"\u00fc\", \"\ud83d\ude00\"])\n"
+                                                + "string Foo\n"
+                                                + "@tags([\"\u00e9\"]) @foo(\ud83d\ude00)\n")
+                .assemble();
+
+        ValidationEvent event = result.getValidationEvents(Severity.ERROR).get(0);
+        assertThat(event.getMessage(), containsString("but found '\ud83d\ude00'"));
+        assertThat(event.getSourceLocation().getLine(), equalTo(5));
+        assertThat(event.getSourceLocation().getColumn(), equalTo(19));
+    }
+
+    @Test
+    public void parsesLargeFilesFromDisk() throws IOException {
+        StringBuilder contents = new StringBuilder("namespace smithy.example\n");
+        for (int i = 0; contents.length() < 2 * 1024 * 1024; i++) {
+            contents.append("/// Docs \u00e9 ").append(i).append("\nstring Shape").append(i).append('\n');
+        }
+        Path file = Files.createTempFile("large", ".smithy");
+        Files.write(file, contents.toString().getBytes(StandardCharsets.UTF_8));
+
+        Model model = Model.assembler().addImport(file).assemble().unwrap();
+        // Files aren't kept open after they're loaded, so they can be deleted on every platform.
+        Files.delete(file);
+        Shape shape = model.expectShape(ShapeId.from("smithy.example#Shape1"));
+
+        assertThat(shape.expectTrait(DocumentationTrait.class).getValue(), equalTo("Docs \u00e9 1"));
+        assertThat(shape.getSourceLocation().getLine(), equalTo(5));
+    }
+
     @Test
     public void warnsWhenInvalidSyntacticShapeIdIsFound() {
         ValidatedResult<Model> result = Model.assembler()
@@ -21,6 +21,8 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
@@ -37,12 +39,18 @@ import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Assumptions;
@@ -65,6 +73,8 @@ import software.amazon.smithy.model.traits.DynamicTrait;
 import software.amazon.smithy.model.traits.MediaTypeTrait;
 import software.amazon.smithy.model.traits.SensitiveTrait;
 import software.amazon.smithy.model.traits.SuppressTrait;
+import software.amazon.smithy.model.traits.Trait;
+import software.amazon.smithy.model.traits.TraitFactory;
 import software.amazon.smithy.model.validation.Severity;
 import software.amazon.smithy.model.validation.ValidatedResult;
 import software.amazon.smithy.model.validation.ValidationEvent;
@@ -149,6 +159,138 @@ public class ModelAssemblerTest {
         assertThat(result.getValidationEvents(), contains(event));
     }
 
+    @Test
+    public void runsValidatorsOnExecutor() {
+        ValidationEvent event1 = ValidationEvent.builder()
+                .severity(Severity.ERROR).id("Foo").message("bar").build();
+        ValidationEvent event2 = ValidationEvent.builder()
+                .severity(Severity.ERROR).id("Baz").message("qux").build();
+        AtomicInteger tasks = new AtomicInteger();
+        ValidatedResult<Model> result = new ModelAssembler()
+                .addValidator(index -> Collections.singletonList(event1))
+                .addValidator(index -> Collections.singletonList(event2))
+                .executor(runnable -> {
+                    tasks.incrementAndGet();
+                    new Thread(runnable).start();
+                })
+                .assemble();
+
+        assertThat(result.getValidationEvents(), hasItems(event1, event2));
+        assertThat(tasks.get(), greaterThan(0));
+    }
+
+    @Test
+    public void sendsValidationEventsToListener() {
+        ValidationEvent event1 = ValidationEvent.builder()
+                .severity(Severity.ERROR).id("Foo").message("bar").build();
+        ValidationEvent event2 = ValidationEvent.builder()
+                .severity(Severity.WARNING).id("Baz").message("qux").build();
+        List<ValidationEvent> received = new ArrayList<>();
+        ValidatedResult<Model> result = new ModelAssembler()
+                .addValidator(index -> Collections.singletonList(event1))
+                .addValidator(index -> Collections.singletonList(event2))
+                .validationEventListener(received::add)
+                .assemble();
+
+        assertThat(received, containsInAnyOrder(result.getValidationEvents().toArray()));
+        assertThat(received, hasItems(event1, event2));
+    }
+
+    @Test
+    public void sendsValidatorEventsInOrder() throws Exception {
+        ValidationEvent event1 = ValidationEvent.builder()
+                .severity(Severity.WARNING).id("Foo").message("first").build();
+        ValidationEvent event2 = ValidationEvent.builder()
+                .severity(Severity.WARNING).id("Foo").message("second").build();
+        CountDownLatch secondValidated = new CountDownLatch(1);
+        List<ValidationEvent> received = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            new ModelAssembler()
+                    .executor(executor)
+                    .addValidator(index -> {
+                        // Finish after the second validator to ensure that events are still sent in order.
+                        try {
+                            secondValidated.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return Collections.singletonList(event1);
+                    })
+                    .addValidator(index -> {
+                        secondValidated.countDown();
+                        return Collections.singletonList(event2);
+                    })
+                    .validationEventListener(received::add)
+                    .assemble();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(received, contains(event1, event2));
+    }
+
+    @Test
+    public void resultListsValidatorEventsBeforeLoadEvents() {
+        ValidationEvent validatorEvent = ValidationEvent.builder()
+                .severity(Severity.ERROR).id("Foo").message("bar").build();
+        List<ValidationEvent> received = new ArrayList<>();
+        ValidatedResult<Model> result = new ModelAssembler()
+                .addUnparsedModel("a.smithy", "namespace foo\n@baz\nstring Bar\n")
+                .addValidator(index -> Collections.singletonList(validatorEvent))
+                .validationEventListener(received::add)
+                .assemble();
+
+        assertThat(received.get(received.size() - 1), equalTo(validatorEvent));
+        assertThat(result.getValidationEvents().get(0), equalTo(validatorEvent));
+        assertThat(result.getValidationEvents(), hasSize(received.size()));
+    }
+
+    @Test
+    public void discardsValidationEventsSentToListener() {
+        ValidationEvent event = ValidationEvent.builder()
+                .severity(Severity.ERROR).id("Foo").message("bar").build();
+        List<ValidationEvent> received = new ArrayList<>();
+        ValidatedResult<Model> result = new ModelAssembler()
+                .addValidator(index -> Collections.singletonList(event))
+                .validationEventListener(received::add)
+                .discardValidationEvents()
+                .assemble();
+
+        assertThat(received, contains(event));
+        assertThat(result.getValidationEvents(), empty());
+        assertTrue(result.getResult().isPresent());
+    }
+
+    @Test
+    public void stopsValidatingAfterMaxErrors() {
+        List<ValidationEvent> errors = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            errors.add(ValidationEvent.builder().severity(Severity.ERROR).id("Foo").message("bar" + i).build());
+        }
+        AtomicInteger validated = new AtomicInteger();
+        // Run validators one at a time so that the validators skipped after the limit are predictable.
+        ModelAssembler assembler = new ModelAssembler().maxValidationErrors(2).executor(Runnable::run);
+        for (int i = 0; i < 10; i++) {
+            assembler.addValidator(index -> {
+                validated.incrementAndGet();
+                return errors;
+            });
+        }
+        List<ValidationEvent> received = new ArrayList<>();
+        ValidatedResult<Model> result = assembler.validationEventListener(received::add).assemble();
+
+        assertThat(result.getValidationEvents(Severity.ERROR), hasSize(2));
+        assertThat(received, equalTo(result.getValidationEvents()));
+        assertThat(validated.get(), equalTo(1));
+    }
+
+    @Test
+    public void maxValidationErrorsMustBePositive() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ModelAssembler().maxValidationErrors(0));
+    }
+
     @Test
     public void detectsTraitsOnUnknownShape() {
         String document = "{\"smithy\": \"" + Model.MODEL_VERSION + "\", \"shapes\": {\"ns.foo#Unknown\": {\"type\": \"apply\", \"traits\": {\"smithy.api#documentation\": \"foo\"}}}}";
@@ -642,4 +784,144 @@ public class ModelAssemblerTest {
 
         assertThat(model, equalTo(model2));
     }
+
+    @Test
+    public void compactNodesCreateEquivalentModels() {
+        Model model = Model.assembler()
+                .addImport(getClass().getResource("main.json"))
+                .addImport(getClass().getResource("dedupe-models.smithy"))
+                .assemble()
+                .unwrap();
+        Model compact = Model.assembler()
+                .addImport(getClass().getResource("main.json"))
+                .addImport(getClass().getResource("dedupe-models.smithy"))
+                .putProperty(ModelAssembler.COMPACT_NODES, true)
+                .assemble()
+                .unwrap();
+
+        assertThat(model, equalTo(compact));
+    }
+
+    @Test
+    public void compactNodesPreserveSourceLocations() {
+        String contents = "namespace smithy.example\n"
+                          + "structure Foo { @required a: String, @documentation(\"B\") @sensitive b: Bar }\n"
+                          + "@tags([\"a\"]) string Bar\n";
+        Model model = Model.assembler()
+                .addUnparsedModel("foo.smithy", contents)
+                .assemble()
+                .unwrap();
+        Model compact = Model.assembler()
+                .addUnparsedModel("foo.smithy", contents)
+                .putProperty(ModelAssembler.COMPACT_NODES, true)
+                .assemble()
+                .unwrap();
+
+        for (Shape shape : model.toSet()) {
+            Shape other = compact.expectShape(shape.getId());
+            assertThat(other.getSourceLocation(), equalTo(shape.getSourceLocation()));
+            for (Trait trait : shape.getAllTraits().values()) {
+                assertThat(other.findTrait(trait.toShapeId()).get().getSourceLocation(),
+                           equalTo(trait.getSourceLocation()));
+            }
+        }
+    }
+
+    @Test
+    public void lazyTraitsCreateEquivalentModels() {
+        Model model = Model.assembler()
+                .addImport(getClass().getResource("main.json"))
+                .assemble()
+                .unwrap();
+        Model lazy = Model.assembler()
+                .addImport(getClass().getResource("main.json"))
+                .putProperty(ModelAssembler.LAZY_TRAITS, true)
+                .assemble()
+                .unwrap();
+
+        assertThat(model, equalTo(lazy));
+    }
+
+    @Test
+    public void lazyTraitsAreCreatedOnlyWhenAccessed() {
+        List<ShapeId> created = new ArrayList<>();
+        TraitFactory delegate = TraitFactory.createServiceFactory();
+        Model model = Model.assembler()
+                .addUnparsedModel("foo.smithy", "namespace foo\n"
+                                                + "@documentation(\"Hi\")\n"
+                                                + "@sensitive\n"
+                                                + "string MyString\n")
+                .traitFactory((id, target, value) -> {
+                    created.add(id);
+                    return delegate.createTrait(id, target, value);
+                })
+                .putProperty(ModelAssembler.LAZY_TRAITS, true)
+                .disableValidation()
+                .assemble()
+                .unwrap();
+        Shape shape = model.expectShape(ShapeId.from("foo#MyString"));
+
+        assertTrue(shape.hasTrait(SensitiveTrait.ID));
+        assertThat(model.getShapesWithTrait(SensitiveTrait.ID), contains(shape));
+        assertThat(created, empty());
+
+        assertThat(shape.findTrait(DocumentationTrait.ID).get(), instanceOf(DocumentationTrait.class));
+        assertThat(created, contains(DocumentationTrait.ID));
+
+        assertThat(shape.getAllTraits().get(SensitiveTrait.ID), instanceOf(SensitiveTrait.class));
+        assertThat(created, contains(DocumentationTrait.ID, SensitiveTrait.ID));
+    }
+
+    @Test
+    public void gettingShapesWithTraitClassOnlyCreatesTraitsOfThatClass() {
+        List<ShapeId> created = new ArrayList<>();
+        TraitFactory delegate = TraitFactory.createServiceFactory();
+        Model model = Model.assembler()
+                .addUnparsedModel("foo.smithy", "namespace foo\n"
+                                                + "@documentation(\"Hi\")\n"
+                                                + "@sensitive\n"
+                                                + "string MyString\n"
+                                                + "@documentation(\"Bye\")\n"
+                                                + "integer MyInteger\n")
+                .traitFactory((id, target, value) -> {
+                    created.add(id);
+                    return delegate.createTrait(id, target, value);
+                })
+                .putProperty(ModelAssembler.LAZY_TRAITS, true)
+                .disableValidation()
+                .assemble()
+                .unwrap();
+        Shape string = model.expectShape(ShapeId.from("foo#MyString"));
+        Shape integer = model.expectShape(ShapeId.from("foo#MyInteger"));
+
+        assertThat(model.getShapesWithTrait(SensitiveTrait.class), contains(string));
+        assertThat(created, contains(SensitiveTrait.ID));
+        assertThat(model.getShapesWithTrait(DocumentationTrait.class), hasItems(string, integer));
+        assertThat(created, containsInAnyOrder(SensitiveTrait.ID, DocumentationTrait.ID, DocumentationTrait.ID));
+    }
+
+    @Test
+    public void lazyTraitsAreResolvedWhenConvertingShapesToBuilders() {
+        List<ShapeId> created = new ArrayList<>();
+        TraitFactory delegate = TraitFactory.createServiceFactory();
+        Model model = Model.assembler()
+                .addUnparsedModel("foo.smithy", "namespace foo\n"
+                                                + "@documentation(\"Hi\")\n"
+                                                + "string MyString\n")
+                .traitFactory((id, target, value) -> {
+                    created.add(id);
+                    return delegate.createTrait(id, target, value);
+                })
+                .putProperty(ModelAssembler.LAZY_TRAITS, true)
+                .disableValidation()
+                .assemble()
+                .unwrap();
+        StringShape shape = model.expectShape(ShapeId.from("foo#MyString"), StringShape.class);
+        StringShape copy = shape.toBuilder().build();
+
+        assertThat(created, contains(DocumentationTrait.ID));
+        assertThat(copy, equalTo(shape));
+        assertThat(shape, equalTo(copy));
+        assertThat(copy.expectTrait(DocumentationTrait.class).getValue(), equalTo("Hi"));
+    }
 }
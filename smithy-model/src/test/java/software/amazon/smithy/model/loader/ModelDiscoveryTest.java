@@ -2,17 +2,27 @@ package software.amazon.smithy.model.loader;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
 
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import software.amazon.smithy.utils.IoUtils;
 
 public class ModelDiscoveryTest {
     @Test
@@ -141,4 +151,69 @@ public class ModelDiscoveryTest {
         assertThat(ModelDiscovery.createSmithyJarManifestUrl("jar:file:/foo.jar"),
                    equalTo(new URL("jar:file:/foo.jar!/META-INF/smithy/manifest")));
     }
+
+    @Test
+    public void discoversModelsFromClasspathEntries() throws Exception {
+        Path jar = Paths.get(getClass().getResource("jar-import.jar").toURI());
+        Path notJar = Paths.get(getClass().getResource("manifest-valid").toURI());
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, null);
+        List<String> expected = ModelDiscovery.findModels(classLoader).stream()
+                .map(URL::toString)
+                .collect(Collectors.toList());
+        List<String> models = ModelDiscovery.findModels(Arrays.asList(notJar, jar, jar.resolveSibling("missing.jar")))
+                .stream()
+                .map(URL::toString)
+                .collect(Collectors.toList());
+
+        assertThat(models, equalTo(expected));
+    }
+
+    @Test
+    public void usesDiscoveryIndexForUnchangedJars() throws Exception {
+        Path dir = Files.createTempDirectory("discovery");
+        Path jar = dir.resolve("models.jar");
+        Path index = dir.resolve("index.json");
+        Files.copy(getClass().getResourceAsStream("jar-import.jar"), jar);
+
+        try {
+            assertThat(getModelNames(ModelDiscovery.findModels(Collections.singletonList(jar), index)),
+                       contains("a.smithy", "b/b.smithy", "b/c/c.json"));
+            assertThat(IoUtils.readUtf8File(index), containsString("b/c/c.json"));
+
+            // Unchanged JARs are resolved from the index without being opened.
+            Files.write(index, IoUtils.readUtf8File(index).replace("b/c/c.json", "d.json")
+                    .getBytes(StandardCharsets.UTF_8));
+            assertThat(getModelNames(ModelDiscovery.findModels(Collections.singletonList(jar), index)),
+                       contains("a.smithy", "b/b.smithy", "d.json"));
+
+            // Modified JARs are scanned again and the index is updated.
+            Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 1000));
+            assertThat(getModelNames(ModelDiscovery.findModels(Collections.singletonList(jar), index)),
+                       contains("a.smithy", "b/b.smithy", "b/c/c.json"));
+            assertThat(IoUtils.readUtf8File(index), not(containsString("d.json")));
+        } finally {
+            Files.deleteIfExists(index);
+            Files.deleteIfExists(jar);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    @Test
+    public void ignoresInvalidDiscoveryIndex() throws Exception {
+        Path jar = Paths.get(getClass().getResource("jar-import.jar").toURI());
+        Path index = Files.createTempFile("discovery", ".json");
+        Files.write(index, "{\"version\": \"1.0\", \"jars\": [".getBytes(StandardCharsets.UTF_8));
+
+        try {
+            assertThat(getModelNames(ModelDiscovery.findModels(Collections.singletonList(jar), index)),
+                       contains("a.smithy", "b/b.smithy", "b/c/c.json"));
+            assertThat(IoUtils.readUtf8File(index), containsString("jar-import.jar"));
+        } finally {
+            Files.deleteIfExists(index);
+        }
+    }
+
+    private static List<String> getModelNames(List<URL> models) {
+        return models.stream().map(ModelDiscovery::getSmithyModelPathFromJarUrl).collect(Collectors.toList());
+    }
 }
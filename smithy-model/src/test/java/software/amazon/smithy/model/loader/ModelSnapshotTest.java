@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.loader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ShapeType;
+import software.amazon.smithy.model.traits.DocumentationTrait;
+import software.amazon.smithy.model.traits.TraitDefinition;
+
+public class ModelSnapshotTest {
+
+    private Path snapshot;
+
+    @BeforeEach
+    public void before() throws IOException {
+        snapshot = Files.createTempFile(getClass().getSimpleName(), ".snapshot");
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        // Opened snapshots stay mapped for as long as their models are reachable,
+        // and mapped files can't be deleted on Windows.
+        if (System.getProperty("os.name").toLowerCase().contains("windows")) {
+            snapshot.toFile().deleteOnExit();
+        } else {
+            Files.deleteIfExists(snapshot);
+        }
+    }
+
+    private static Model createModel() {
+        return Model.assembler()
+                .addUnparsedModel("snapshot.smithy", "metadata foo = {bar: [1, 2.5, 123456789.12345679, true, null]}\n"
+                        + "namespace smithy.example\n"
+                        + "service Service { version: \"1\", operations: [GetFoo] }\n"
+                        + "/// Gets a foo.\n"
+                        + "@readonly\n"
+                        + "operation GetFoo { input: GetFooInput, errors: [NotFound, Invalid] }\n"
+                        + "structure GetFooInput {\n"
+                        + "    /// The ID.\n"
+                        + "    @required\n"
+                        + "    id: String,\n"
+                        + "    tags: TagMap\n"
+                        + "}\n"
+                        + "map TagMap { key: String, value: String }\n"
+                        + "@error(\"client\") structure NotFound {}\n"
+                        + "@error(\"client\") structure Invalid {}\n"
+                        + "@trait structure custom { value: Double }\n"
+                        + "@custom(value: 123456789.12345679) string Annotated\n")
+                .assemble()
+                .unwrap();
+    }
+
+    @Test
+    public void roundTripsModels() {
+        Model model = createModel();
+        model.writeSnapshot(snapshot);
+        Model opened = Model.openSnapshot(snapshot);
+
+        assertThat(opened.getShapeIds(), equalTo(model.getShapeIds()));
+        assertThat(opened.getMetadata(), equalTo(model.getMetadata()));
+        assertThat(opened, equalTo(model));
+    }
+
+    @Test
+    public void preservesSourceLocations() {
+        Model model = createModel();
+        model.writeSnapshot(snapshot);
+        Model opened = Model.openSnapshot(snapshot);
+
+        for (Shape shape : model.toSet()) {
+            assertThat(opened.expectShape(shape.getId()).getSourceLocation(), equalTo(shape.getSourceLocation()));
+        }
+    }
+
+    @Test
+    public void readsIndexesFromSnapshot() {
+        Model model = createModel();
+        model.writeSnapshot(snapshot);
+        Model opened = Model.openSnapshot(snapshot);
+
+        assertThat(opened.getAppliedTraits(), equalTo(model.getAppliedTraits()));
+        assertThat(opened.getShapesWithTrait(DocumentationTrait.class),
+                   equalTo(model.getShapesWithTrait(DocumentationTrait.class)));
+        assertThat(opened.getShapesWithTrait(TraitDefinition.class),
+                   equalTo(model.getShapesWithTrait(TraitDefinition.class)));
+        for (ShapeType type : ShapeType.values()) {
+            assertThat(opened.shapes(type.getShapeClass()).count(),
+                       equalTo(model.shapes(type.getShapeClass()).count()));
+        }
+    }
+
+    @Test
+    public void preservesOrderOfErrors() {
+        Model model = createModel();
+        model.writeSnapshot(snapshot);
+        Model opened = Model.openSnapshot(snapshot);
+        ShapeId operation = ShapeId.from("smithy.example#GetFoo");
+
+        assertThat(opened.expectShape(operation, OperationShape.class).getErrors(),
+                   equalTo(model.expectShape(operation, OperationShape.class).getErrors()));
+    }
+
+    @Test
+    public void doesNotIncludePreludeWhenModelDidNotContainPrelude() {
+        Model model = Model.assembler()
+                .disablePrelude()
+                .addUnparsedModel("snapshot.smithy", "namespace smithy.example\nstring A\n")
+                .assemble()
+                .unwrap();
+        model.writeSnapshot(snapshot);
+
+        assertThat(Model.openSnapshot(snapshot), equalTo(model));
+    }
+
+    @Test
+    public void failsToOpenInvalidSnapshots() throws IOException {
+        Files.write(snapshot, "namespace smithy.example".getBytes(StandardCharsets.UTF_8));
+
+        Assertions.assertThrows(ModelImportException.class, () -> Model.openSnapshot(snapshot));
+    }
+}
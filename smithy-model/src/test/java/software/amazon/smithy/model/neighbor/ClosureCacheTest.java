@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.neighbor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.HashSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.NeighborProviderIndex;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StringShape;
+
+public class ClosureCacheTest {
+
+    private static Model model;
+
+    @BeforeAll
+    public static void before() {
+        model = Model.assembler()
+                .addUnparsedModel("closures.smithy", "namespace smithy.example\n"
+                        + "service Service { version: \"1\", operations: [GetA], resources: [Parent] }\n"
+                        + "resource Parent { identifiers: { id: String }, resources: [Child] }\n"
+                        + "resource Child { identifiers: { id: String, childId: String } }\n"
+                        + "operation GetA { input: A }\n"
+                        + "structure A { b: B, c: C }\n"
+                        + "structure B { a: A }\n"
+                        + "structure C { list: CList }\n"
+                        + "list CList { member: C }\n"
+                        + "structure Unreferenced { value: String }\n")
+                .assemble()
+                .unwrap();
+    }
+
+    @Test
+    public void computesTheSameClosuresAsWalker() {
+        NeighborProvider provider = NeighborProviderIndex.of(model).getProvider();
+
+        // A cache size of 1 forces closures to be evicted and recomputed.
+        for (int size : new int[]{1, 1000}) {
+            ClosureCache cache = new ClosureCache(model, provider, size);
+            for (Shape shape : model.toSet()) {
+                assertThat(shape.getId().toString(), new HashSet<>(cache.getClosure(shape)),
+                           equalTo(new Walker(provider).walkShapes(shape)));
+            }
+        }
+    }
+
+    @Test
+    public void sharesClosuresWithinCycles() {
+        ClosureCache cache = NeighborProviderIndex.of(model).getClosureCache();
+        Shape a = model.expectShape(ShapeId.from("smithy.example#A"));
+        Shape b = model.expectShape(ShapeId.from("smithy.example#B"));
+
+        assertThat(cache.getClosure(a), equalTo(cache.getClosure(b)));
+        assertThat(cache.getClosure(a).contains(model.expectShape(ShapeId.from("smithy.example#CList"))),
+                   equalTo(true));
+        assertThat(cache.getClosure(model.expectShape(ShapeId.from("smithy.example#C"))).contains(a),
+                   equalTo(false));
+    }
+
+    @Test
+    public void walksShapesThatAreNotInTheModel() {
+        ClosureCache cache = NeighborProviderIndex.of(model).getClosureCache();
+        StringShape shape = StringShape.builder().id("smithy.example#Other").build();
+
+        assertThat(cache.getClosure(shape), containsInAnyOrder(shape));
+    }
+
+    @Test
+    public void requiresPositiveMaximumSize() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ClosureCache(model, NeighborProviderIndex.of(model).getProvider(), 0);
+        });
+    }
+}
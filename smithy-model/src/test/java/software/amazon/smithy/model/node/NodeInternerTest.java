@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.node;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.SourceLocation;
+
+public class NodeInternerTest {
+    @Test
+    public void internsKeys() {
+        NodeInterner interner = new NodeInterner();
+        StringNode a = interner.key(new String("foo"), SourceLocation.NONE);
+        StringNode b = interner.key(new String("foo"), SourceLocation.NONE);
+
+        assertSame(a.getValue(), b.getValue());
+    }
+
+    @Test
+    public void doesNotInternLongStrings() {
+        NodeInterner interner = new NodeInterner();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.append('a');
+        }
+        String value = builder.toString();
+        StringNode a = interner.string(value, SourceLocation.NONE);
+        StringNode b = interner.string(new String(value), SourceLocation.NONE);
+
+        assertThat(a, equalTo(b));
+        assertThat(a.getValue() == b.getValue(), equalTo(false));
+    }
+
+    @Test
+    public void createsEquivalentCompactObjects() {
+        NodeInterner interner = new NodeInterner();
+        Map<StringNode, Node> members = new LinkedHashMap<>();
+        members.put(interner.key("b", SourceLocation.NONE), Node.from(1));
+        members.put(interner.key("a", SourceLocation.NONE), Node.from(2));
+        ObjectNode compact = interner.objectNode(members, SourceLocation.NONE);
+        ObjectNode regular = new ObjectNode(members, SourceLocation.NONE);
+
+        assertThat(compact, equalTo(regular));
+        assertThat(regular, equalTo(compact));
+        assertThat(compact.hashCode(), equalTo(regular.hashCode()));
+        assertThat(compact.getStringMap().keySet(), contains("b", "a"));
+        assertThat(compact.expectNumberMember("a").getValue(), equalTo(2));
+        assertThat(compact.withMember("c", true).size(), equalTo(3));
+    }
+
+    @Test
+    public void usesHashMapsForLargeObjects() {
+        NodeInterner interner = new NodeInterner();
+        Map<StringNode, Node> members = new LinkedHashMap<>();
+        for (int i = 0; i <= NodeInterner.MAX_ARRAY_MAP_SIZE; i++) {
+            members.put(interner.key("k" + i, SourceLocation.NONE), Node.from(i));
+        }
+        ObjectNode compact = interner.objectNode(members, SourceLocation.NONE);
+
+        assertThat(compact, equalTo(new ObjectNode(members, SourceLocation.NONE)));
+        assertThat(compact.getMember("k3").get(), equalTo(Node.from(3)));
+    }
+}
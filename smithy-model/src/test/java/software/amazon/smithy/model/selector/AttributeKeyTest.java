@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.selector;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.utils.MapUtils;
+import software.amazon.smithy.utils.SetUtils;
+
+public class AttributeKeyTest {
+
+    private static Model model;
+    private static Map<String, Set<Shape>> vars;
+
+    @BeforeAll
+    public static void before() {
+        model = Model.assembler()
+                .addUnparsedModel("keys.smithy", "namespace smithy.example\n"
+                        + "service Service { version: \"2020-01-01\", operations: [CreateFoo] }\n"
+                        + "@http(method: \"POST\", uri: \"/foo\") operation CreateFoo { input: Input }\n"
+                        + "@documentation(\"Input\")\n"
+                        + "structure Input { @required @length(min: 1) id: String, @deprecated data: Blob }\n")
+                .assemble()
+                .unwrap();
+        vars = MapUtils.of("ops", SetUtils.of(model.expectShape(ShapeId.from("smithy.example#CreateFoo"))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "id",
+            "id|namespace",
+            "id|name",
+            "id|member",
+            "id|member|(length)",
+            "id|(length)",
+            "trait",
+            "trait|required",
+            "trait|smithy.api#documentation",
+            "trait|documentation|(length)",
+            "trait|length|min",
+            "trait|http|method",
+            "trait|deprecated|message",
+            "trait|(keys)",
+            "trait|(values)",
+            "service",
+            "service|version",
+            "service|id|name",
+            "var|ops",
+            "var|ops|trait|http|uri",
+            "var|missing"
+    })
+    public void compiledKeysMatchGenericPaths(String path) {
+        List<String> segments = Arrays.asList(path.split("\\|"));
+
+        for (Shape shape : model.toSet()) {
+            AttributeValue expected = AttributeValue.shape(shape, vars).getPath(segments);
+            AttributeValue actual = AttributeKey.compile(segments).apply(shape, vars);
+            String message = path + " on " + shape.getId();
+
+            assertThat(message, actual.isPresent(), equalTo(expected.isPresent()));
+            assertThat(message, AttributeKey.compile(segments).isPresent(shape, vars), equalTo(expected.isPresent()));
+            assertThat(message, actual.toString(), equalTo(expected.toString()));
+            assertThat(message, actual.toMessageString(), equalTo(expected.toMessageString()));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"id|namespace", "var|ops"})
+    public void handlesNullVariables(String path) {
+        List<String> segments = Arrays.asList(path.split("\\|"));
+        Shape shape = model.expectShape(ShapeId.from("smithy.example#Input"));
+        AttributeValue expected = AttributeValue.shape(shape, null).getPath(segments);
+
+        assertThat(AttributeKey.compile(segments).apply(shape, null).toString(), equalTo(expected.toString()));
+        assertThat(AttributeKey.compile(segments).apply(shape, Collections.emptyMap()).isPresent(),
+                   equalTo(expected.isPresent()));
+    }
+}
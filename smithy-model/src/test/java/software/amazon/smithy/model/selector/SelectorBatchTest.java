@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.selector;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.utils.ListUtils;
+import software.amazon.smithy.utils.Pair;
+
+public class SelectorBatchTest {
+
+    private static Model model;
+
+    @BeforeAll
+    public static void before() {
+        model = Model.assembler()
+                .addUnparsedModel("batch.smithy", "namespace smithy.example\n"
+                        + "service Service { version: \"1\", operations: [GetFoo, PutFoo], resources: [Bar] }\n"
+                        + "resource Bar { read: GetBar }\n"
+                        + "@readonly operation GetFoo { input: GetFooInput, output: FooOutput }\n"
+                        + "@idempotent operation PutFoo { input: PutFooInput, output: FooOutput }\n"
+                        + "@readonly operation GetBar { output: FooOutput }\n"
+                        + "structure GetFooInput { @required id: String }\n"
+                        + "@documentation(\"Put\")\n"
+                        + "structure PutFooInput { @required id: String, @sensitive data: Blob }\n"
+                        + "structure FooOutput { @documentation(\"Value\") value: Integer, tags: TagList }\n"
+                        + "list TagList { member: String }\n")
+                .assemble()
+                .unwrap();
+    }
+
+    @Test
+    public void matchesTheSameShapesAsIndividualSelectors() {
+        List<Selector> selectors = ListUtils.of(
+                Selector.parse("operation -[input]-> structure"),
+                Selector.parse("operation -[input]-> structure > member"),
+                Selector.parse("operation -[input]-> structure > member [trait|required]"),
+                Selector.parse("operation -[input, output]-> structure > member > number"),
+                Selector.parse("[trait|documentation]"),
+                Selector.parse("[trait|readonly] -[output]->"),
+                Selector.parse("member [trait|sensitive]"),
+                Selector.parse("member :test(> string)"),
+                Selector.parse("[trait|(keys)|name = required]"),
+                Selector.parse("service ~> operation :not([trait|readonly])"),
+                Selector.parse("*"),
+                Selector.parse("string"));
+        Map<Selector, Set<Shape>> result = SelectorBatch.of(selectors).select(model);
+
+        assertThat(result.keySet(), contains(selectors.toArray()));
+        for (Selector selector : selectors) {
+            assertThat(selector.toString(), result.get(selector), equalTo(selector.select(model)));
+        }
+    }
+
+    @Test
+    public void isolatesVariablesOfSelectorsWithSharedPrefixes() {
+        List<Selector> selectors = ListUtils.of(
+                Selector.parse("service $ops(~> operation) ~> structure"),
+                Selector.parse("service $resources(~> resource) ~> structure"),
+                Selector.parse("service ~> structure"));
+        Map<Selector, Set<Pair<Shape, Map<String, Set<Shape>>>>> matches = new HashMap<>();
+        SelectorBatch.of(selectors).selectMatches(model, (selector, shape, vars) -> {
+            matches.computeIfAbsent(selector, s -> new HashSet<>()).add(Pair.of(shape, vars));
+        });
+
+        for (Selector selector : selectors) {
+            Set<Pair<Shape, Map<String, Set<Shape>>>> expected = new HashSet<>();
+            selector.runner().model(model).selectMatches((shape, vars) -> expected.add(Pair.of(shape, vars)));
+            assertThat(selector.toString(), matches.get(selector), equalTo(expected));
+        }
+
+        Set<String> variables = matches.get(selectors.get(2)).stream()
+                .flatMap(match -> match.right.keySet().stream())
+                .collect(Collectors.toSet());
+        assertThat(variables.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void evaluatesDuplicateSelectorsOnce() {
+        SelectorBatch batch = SelectorBatch.of(ListUtils.of(Selector.parse("string"), Selector.parse("string")));
+
+        assertThat(batch.getSelectors(), contains(Selector.parse("string")));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.shapes;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+
+public class ShapeIdTableTest {
+
+    private static final ShapeId A = ShapeId.from("ns.foo#A");
+    private static final ShapeId B = ShapeId.from("ns.foo#B");
+    private static final ShapeId B_MEMBER = ShapeId.from("ns.foo#B$c");
+    private static final ShapeId C = ShapeId.from("ns.bar#C");
+
+    @Test
+    public void assignsOrdinalsInSortedOrder() {
+        ShapeIdTable table = ShapeIdTable.of(Arrays.asList(B_MEMBER, A, C, B, A));
+
+        assertThat(table.size(), equalTo(4));
+        assertThat(table.getShapeId(0), equalTo(C));
+        assertThat(table.getShapeId(1), equalTo(A));
+        assertThat(table.getShapeId(2), equalTo(B));
+        assertThat(table.getShapeId(3), equalTo(B_MEMBER));
+
+        for (int i = 0; i < table.size(); i++) {
+            assertThat(table.getOrdinal(table.getShapeId(i)), equalTo(i));
+            assertThat(table.getOrdinal(table.getShapeId(i).toString()), equalTo(i));
+        }
+    }
+
+    @Test
+    public void returnsNegativeOrdinalForUnknownShapeIds() {
+        ShapeIdTable table = ShapeIdTable.of(Arrays.asList(A, B));
+
+        assertThat(table.getOrdinal(C), equalTo(-1));
+        assertThat(table.getOrdinal("ns.foo#Missing"), equalTo(-1));
+        assertThat(table.contains(A), equalTo(true));
+        assertThat(table.contains(C), equalTo(false));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getShapeId(2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.getShapeId(-1));
+    }
+
+    @Test
+    public void findsInternedShapeIds() {
+        ShapeIdTable table = ShapeIdTable.of(Arrays.asList(A, B));
+
+        assertThat(table.find("ns.foo#A").get(), sameInstance(A));
+        assertThat(table.find("ns.foo#C"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    public void convertsBetweenShapeIdsAndBitSets() {
+        ShapeIdTable table = ShapeIdTable.of(Arrays.asList(A, B, B_MEMBER, C));
+        BitSet bits = table.toBitSet(Arrays.asList(B_MEMBER, A, ShapeId.from("ns.foo#Missing")));
+
+        assertThat(bits.cardinality(), equalTo(2));
+        assertThat(table.getShapeIds(bits), contains(A, B_MEMBER));
+    }
+
+    @Test
+    public void handlesEmptyTables() {
+        ShapeIdTable table = ShapeIdTable.of(Arrays.asList());
+
+        assertThat(table.size(), equalTo(0));
+        assertThat(table.getOrdinal(A), equalTo(-1));
+    }
+
+    @Test
+    public void modelCachesTableOfAllShapes() {
+        Model model = Model.assembler()
+                .addShape(StringShape.builder().id(A).build())
+                .addShape(StringShape.builder().id(C).build())
+                .assemble()
+                .unwrap();
+        ShapeIdTable table = model.getShapeIdTable();
+
+        assertThat(table, sameInstance(model.getShapeIdTable()));
+        assertThat(table.size(), equalTo(model.getShapeIds().size()));
+        assertThat(table.getOrdinal(A) >= 0, equalTo(true));
+        assertThat(table.getOrdinal(C) >= 0, equalTo(true));
+    }
+}
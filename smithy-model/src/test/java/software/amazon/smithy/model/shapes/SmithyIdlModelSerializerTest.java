@@ -6,6 +6,7 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 
 import java.io.IOException;
@@ -13,7 +14,15 @@ import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DynamicTest;
@@ -136,4 +145,88 @@ public class SmithyIdlModelSerializerTest {
         Map<Path, String> serialized = serializer.serialize(model);
         assertThat(serialized.keySet(), contains(basePath.resolve("metadata.smithy")));
     }
+
+    @Test
+    public void streamsEachFileToConsumer() throws Exception {
+        Model model = Model.assembler()
+                .addImport(getClass().getResource("idl-serialization/multiple-namespaces/input.json"))
+                .assemble()
+                .unwrap();
+        Path outputDir = Paths.get(getClass().getResource("idl-serialization/multiple-namespaces/output").toURI());
+        List<Path> streamed = new ArrayList<>();
+        SmithyIdlModelSerializer.builder().basePath(outputDir).build().serialize(model, (path, contents) -> {
+            streamed.add(path);
+            assertThat(contents, equalTo(IoUtils.readUtf8File(path).replaceAll("\\R", "\n")));
+        });
+
+        assertThat(streamed, contains(outputDir.resolve("ns.primitives.smithy"),
+                                      outputDir.resolve("ns.structures.smithy")));
+    }
+
+    @Test
+    public void rendersFilesWithExecutor() throws Exception {
+        Model model = Model.assembler()
+                .addImport(getClass().getResource("idl-serialization/multiple-namespaces/input.json"))
+                .assemble()
+                .unwrap();
+        Path outputDir = Paths.get(getClass().getResource("idl-serialization/multiple-namespaces/output").toURI());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Map<Path, String> expected = SmithyIdlModelSerializer.builder().basePath(outputDir).build().serialize(model);
+        Map<Path, String> streamed = new LinkedHashMap<>();
+        try {
+            SmithyIdlModelSerializer.builder()
+                    .basePath(outputDir)
+                    .executor(executor)
+                    .build()
+                    .serialize(model, streamed::put);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(streamed, aMapWithSize(2));
+        assertThat(streamed, equalTo(expected));
+        assertThat(new ArrayList<>(streamed.keySet()), contains(outputDir.resolve("ns.primitives.smithy"),
+                                                                outputDir.resolve("ns.structures.smithy")));
+        streamed.forEach((path, generated) -> assertThat(
+                generated, equalTo(IoUtils.readUtf8File(path).replaceAll("\\R", "\n"))));
+    }
+
+    @Test
+    public void providesFilesBeforeLaterFilesAreRendered() {
+        Model model = Model.assembler()
+                .addUnparsedModel("a.smithy", "namespace a\nstring A\n")
+                .addUnparsedModel("b.smithy", "namespace b\n@documentation(\"B\")\nstring B\n")
+                .assemble()
+                .unwrap();
+        CountDownLatch firstProvided = new CountDownLatch(1);
+        AtomicBoolean providedBeforeRendering = new AtomicBoolean();
+        List<Path> paths = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            SmithyIdlModelSerializer.builder()
+                    .executor(executor)
+                    .traitFilter(trait -> {
+                        // Only b.smithy has a documentation trait, so it waits until a.smithy is provided.
+                        if (trait instanceof DocumentationTrait) {
+                            try {
+                                providedBeforeRendering.set(firstProvided.await(5, TimeUnit.SECONDS));
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                        return true;
+                    })
+                    .build()
+                    .serialize(model, (path, contents) -> {
+                        paths.add(path);
+                        firstProvided.countDown();
+                    });
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(providedBeforeRendering.get(), is(true));
+        assertThat(paths, contains(Paths.get("a.smithy"), Paths.get("b.smithy")));
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.model.traits;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+public class LazyTraitTest {
+
+    private static final ShapeId TARGET = ShapeId.from("foo#Bar");
+
+    private static Trait createLazyTrait(TraitFactory factory) {
+        return factory.createTrait(DocumentationTrait.ID, TARGET, Node.from("Hi")).get();
+    }
+
+    @Test
+    public void createsTypedTraitsOnAccess() {
+        Trait trait = createLazyTrait(LazyTrait.createLazyFactory(TraitFactory.createServiceFactory()));
+
+        assertThat(trait, instanceOf(LazyTrait.class));
+        assertThat(((LazyTrait) trait).get(), equalTo(new DocumentationTrait("Hi")));
+    }
+
+    @Test
+    public void equalityIsSymmetric() {
+        TraitFactory factory = LazyTrait.createLazyFactory(TraitFactory.createServiceFactory());
+        Trait lazy = createLazyTrait(factory);
+        Trait otherLazy = createLazyTrait(factory);
+        Trait typed = new DocumentationTrait("Hi");
+
+        assertThat(lazy.equals(otherLazy), equalTo(true));
+        assertThat(otherLazy.equals(lazy), equalTo(true));
+        assertThat(lazy.hashCode(), equalTo(otherLazy.hashCode()));
+        assertThat(lazy.equals(typed), equalTo(true));
+        assertThat(typed.equals(lazy), equalTo(true));
+        assertThat(lazy.hashCode(), equalTo(typed.hashCode()));
+        assertThat(lazy.equals(new DocumentationTrait("Bye")), equalTo(false));
+        assertThat(new DocumentationTrait("Bye").equals(lazy), equalTo(false));
+    }
+}
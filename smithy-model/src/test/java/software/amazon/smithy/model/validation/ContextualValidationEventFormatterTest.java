@@ -6,6 +6,10 @@ import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.startsWith;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.junit.jupiter.api.Test;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.SourceLocation;
@@ -60,4 +64,71 @@ public class ContextualValidationEventFormatterTest {
                 + "\n     = This is the message"
                 + "\n"));
     }
+
+    @Test
+    public void reloadsModifiedFiles() throws IOException {
+        Path file = Files.createTempFile("context", ".smithy");
+
+        try {
+            Files.write(file, "namespace foo\nstring A\n".getBytes(StandardCharsets.UTF_8));
+            ValidationEvent event = ValidationEvent.builder()
+                    .id("foo")
+                    .severity(Severity.ERROR)
+                    .message("This is the message")
+                    .sourceLocation(new SourceLocation(file.toString(), 2, 1))
+                    .build();
+            ContextualValidationEventFormatter formatter = new ContextualValidationEventFormatter();
+
+            assertThat(formatter.format(event), containsString("   2 | string A"));
+
+            Files.write(file, "namespace foo\nstring Changed\n".getBytes(StandardCharsets.UTF_8));
+
+            assertThat(formatter.format(event), containsString("   2 | string Changed"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void loadsLinesWithAnyLineTerminator() throws IOException {
+        Path file = Files.createTempFile("context", ".smithy");
+
+        try {
+            Files.write(file, "namespace foo\rstring A\r\nstring B\nstring C".getBytes(StandardCharsets.UTF_8));
+            ContextualValidationEventFormatter formatter = new ContextualValidationEventFormatter();
+
+            for (int line = 1; line <= 4; line++) {
+                ValidationEvent event = ValidationEvent.builder()
+                        .id("foo")
+                        .severity(Severity.ERROR)
+                        .message("This is the message")
+                        .sourceLocation(new SourceLocation(file.toString(), line, 1))
+                        .build();
+                String expected = line == 1 ? "namespace foo" : "string " + (char) ('A' + line - 2);
+
+                assertThat(formatter.format(event), containsString(String.format("   %d | %s%n", line, expected)));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void showsSourceLocationWhenLineIsNotFound() {
+        Model model = Model.assembler()
+                .addImport(getClass().getResource("context.smithy"))
+                .assemble()
+                .unwrap();
+        SourceLocation location = model.expectShape(ShapeId.from("example.smithy#Foo")).getSourceLocation();
+        ValidationEvent event = ValidationEvent.builder()
+                .id("foo")
+                .severity(Severity.ERROR)
+                .message("This is the message")
+                .sourceLocation(new SourceLocation(location.getFilename(), 1000, 1))
+                .build();
+
+        String format = new ContextualValidationEventFormatter().format(event);
+
+        assertThat(format, containsString("     @ " + location.getFilename() + " [1000, 1]"));
+    }
 }
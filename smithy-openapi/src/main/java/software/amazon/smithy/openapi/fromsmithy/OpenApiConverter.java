@@ -24,8 +24,13 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -37,6 +42,7 @@ import software.amazon.smithy.jsonschema.SchemaDocument;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.knowledge.ServiceIndex;
 import software.amazon.smithy.model.knowledge.TopDownIndex;
+import software.amazon.smithy.model.node.NodeMapper;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.shapes.OperationShape;
 import software.amazon.smithy.model.shapes.ServiceShape;
@@ -62,6 +68,7 @@ import software.amazon.smithy.openapi.model.SecurityScheme;
 import software.amazon.smithy.openapi.model.TagObject;
 import software.amazon.smithy.utils.MapUtils;
 import software.amazon.smithy.utils.OptionalUtils;
+import software.amazon.smithy.utils.ParallelUtils;
 import software.amazon.smithy.utils.Tagged;
 
 /**
@@ -73,6 +80,8 @@ public final class OpenApiConverter {
     private ClassLoader classLoader = OpenApiConverter.class.getClassLoader();
     private OpenApiConfig config = new OpenApiConfig();
     private final List<OpenApiMapper> mappers = new ArrayList<>();
+    private Executor executor = ForkJoinPool.commonPool();
+    private List<Smithy2OpenApiExtension> extensions;
 
     private OpenApiConverter() {}
 
@@ -133,6 +142,23 @@ public final class OpenApiConverter {
         return this;
     }
 
+    /**
+     * Sets the executor used to convert services concurrently when
+     * converting multiple services at once.
+     *
+     * <p>The thread that performs the conversion also converts services,
+     * so the executor can be a bounded pool that the caller is itself
+     * running on. The common fork-join pool is used by default.
+     *
+     * @param executor Executor to use.
+     * @return Returns the OpenApiConverter.
+     * @see #convertAll(Model, Collection)
+     */
+    public OpenApiConverter executor(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+        return this;
+    }
+
     /**
      * Converts the Smithy model to OpenAPI.
      *
@@ -166,6 +192,111 @@ public final class OpenApiConverter {
         return environment.mapper.updateNode(environment.context, openApi, node);
     }
 
+    /**
+     * Converts multiple services of the Smithy model to OpenAPI concurrently.
+     *
+     * <p>Each service is converted using a copy of the configuration
+     * settings of this converter where the {@code service} setting is set
+     * to the service being converted. {@link Smithy2OpenApiExtension}s are
+     * discovered once and shared by every conversion, as are the knowledge
+     * indexes computed for the model, so registered mappers and
+     * extensions must be thread-safe.
+     *
+     * <p>Every service is converted even if the conversion of a service
+     * fails, and the first failure is then rethrown.
+     *
+     * @param model Smithy model to convert.
+     * @param services Shape IDs of the services to convert.
+     * @return Returns the converted models in the order of the given services.
+     * @see #executor(Executor)
+     */
+    public Map<ShapeId, OpenApi> convertAll(Model model, Collection<ShapeId> services) {
+        return convertServices(model, services, OpenApiConverter::convert, (service, result) -> { });
+    }
+
+    /**
+     * Converts multiple services of the Smithy model to JSON/Node
+     * representations of OpenAPI models concurrently.
+     *
+     * <p>Services are converted in the same way as
+     * {@link #convertAll(Model, Collection)}, and each result is passed
+     * through the {@link OpenApiMapper#updateNode} method of each
+     * registered {@link OpenApiMapper} like {@link #convertToNode(Model)}.
+     *
+     * @param model Smithy model to convert.
+     * @param services Shape IDs of the services to convert.
+     * @return Returns the converted models in the order of the given services.
+     */
+    public Map<ShapeId, ObjectNode> convertAllToNode(Model model, Collection<ShapeId> services) {
+        return convertAllToNode(model, services, (service, result) -> { });
+    }
+
+    /**
+     * Converts multiple services of the Smithy model to JSON/Node
+     * representations of OpenAPI models concurrently, and passes each
+     * result to a consumer as soon as it is converted.
+     *
+     * <p>The consumer is invoked from the threads that convert services,
+     * so it can be invoked concurrently and must be thread-safe.
+     *
+     * @param model Smithy model to convert.
+     * @param services Shape IDs of the services to convert.
+     * @param consumer Consumer that receives the shape ID and converted model of each service.
+     * @return Returns the converted models in the order of the given services.
+     * @see #convertAllToNode(Model, Collection)
+     */
+    public Map<ShapeId, ObjectNode> convertAllToNode(
+            Model model,
+            Collection<ShapeId> services,
+            BiConsumer<ShapeId, ObjectNode> consumer
+    ) {
+        return convertServices(model, services, OpenApiConverter::convertToNode, consumer);
+    }
+
+    private <T> Map<ShapeId, T> convertServices(
+            Model model,
+            Collection<ShapeId> services,
+            BiFunction<OpenApiConverter, Model, T> converter,
+            BiConsumer<ShapeId, T> consumer
+    ) {
+        List<Smithy2OpenApiExtension> sharedExtensions = getExtensions();
+        ObjectNode sharedConfig = new NodeMapper().serialize(config).expectObjectNode();
+        List<ShapeId> serviceList = new ArrayList<>(new LinkedHashSet<>(services));
+
+        List<T> results = ParallelUtils.map(executor, serviceList, service -> {
+            OpenApiConverter serviceConverter = new OpenApiConverter();
+            serviceConverter.classLoader = classLoader;
+            serviceConverter.mappers.addAll(mappers);
+            serviceConverter.extensions = sharedExtensions;
+            // Conversions update the default settings of their config, so each service gets a copy.
+            serviceConverter.config = OpenApiConfig.fromNode(sharedConfig);
+            serviceConverter.config.setService(service);
+            T result = converter.apply(serviceConverter, model);
+            consumer.accept(service, result);
+            return result;
+        });
+
+        Map<ShapeId, T> resultMap = new LinkedHashMap<>();
+        for (int i = 0; i < serviceList.size(); i++) {
+            resultMap.put(serviceList.get(i), results.get(i));
+        }
+
+        return resultMap;
+    }
+
+    private List<Smithy2OpenApiExtension> getExtensions() {
+        if (extensions != null) {
+            return extensions;
+        }
+
+        List<Smithy2OpenApiExtension> result = new ArrayList<>();
+        for (Smithy2OpenApiExtension extension : ServiceLoader.load(Smithy2OpenApiExtension.class, classLoader)) {
+            result.add(extension);
+        }
+
+        return result;
+    }
+
     private ConversionEnvironment<? extends Trait> createConversionEnvironment(Model model) {
         ShapeId serviceShapeId = config.getService();
 
@@ -175,12 +306,13 @@ public final class OpenApiConverter {
 
         JsonSchemaConverter.Builder jsonSchemaConverterBuilder = JsonSchemaConverter.builder();
         jsonSchemaConverterBuilder.model(model);
+        // Reuse schemas that are converted more than once during this conversion.
+        jsonSchemaConverterBuilder.cacheSchemas(true);
 
         // Discover OpenAPI extensions.
-        List<Smithy2OpenApiExtension> extensions = new ArrayList<>();
+        List<Smithy2OpenApiExtension> extensions = getExtensions();
 
-        for (Smithy2OpenApiExtension extension : ServiceLoader.load(Smithy2OpenApiExtension.class, classLoader)) {
-            extensions.add(extension);
+        for (Smithy2OpenApiExtension extension : extensions) {
             // Add JSON schema mappers from found extensions.
             for (JsonSchemaMapper mapper : extension.getJsonSchemaMappers()) {
                 jsonSchemaConverterBuilder.addMapper(mapper);
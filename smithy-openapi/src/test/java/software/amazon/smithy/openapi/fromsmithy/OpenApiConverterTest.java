@@ -26,6 +26,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -453,4 +454,34 @@ public class OpenApiConverterTest {
 
         Node.assertEquals(result, expectedNode);
     }
+
+    @Test
+    public void convertsMultipleServices() {
+        Model model = Model.assembler()
+                .addImport(getClass().getResource("test-service.json"))
+                .addImport(getClass().getResource("documentation-test.smithy"))
+                .discoverModels()
+                .assemble()
+                .unwrap();
+        ShapeId restService = ShapeId.from("example.rest#RestService");
+        ShapeId docsService = ShapeId.from("smithy.example#MyDocs");
+        Map<ShapeId, ObjectNode> consumed = new ConcurrentHashMap<>();
+        Map<ShapeId, ObjectNode> result = OpenApiConverter.create()
+                .convertAllToNode(model, ListUtils.of(restService, docsService), consumed::put);
+
+        assertThat(result.keySet(), contains(restService, docsService));
+        assertThat(consumed, equalTo(result));
+        Node.assertEquals(result.get(restService), Node.parse(IoUtils.toUtf8String(
+                getClass().getResourceAsStream("test-service.openapi.json"))));
+        Node.assertEquals(result.get(docsService), Node.parse(IoUtils.toUtf8String(
+                getClass().getResourceAsStream("documentation-test.openapi.json"))));
+    }
+
+    @Test
+    public void failsWhenAnyServiceFailsToConvert() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            OpenApiConverter.create().convertAll(testService, ListUtils.of(
+                    ShapeId.from("example.rest#RestService"), ShapeId.from("example.rest#Missing")));
+        });
+    }
 }
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.protocoltests.runner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import software.amazon.smithy.protocoltests.traits.HttpResponseTestCase;
+import software.amazon.smithy.utils.SmithyBuilder;
+import software.amazon.smithy.utils.ToSmithyBuilder;
+
+/**
+ * An HTTP request or response exchanged with a {@link HttpTransport}.
+ *
+ * <p>Header names are case-insensitive. The URI of a request contains
+ * the path and optional query string of the request, but not the host.
+ */
+public final class HttpMessage implements ToSmithyBuilder<HttpMessage> {
+
+    private final String method;
+    private final String uri;
+    private final int code;
+    private final Map<String, String> headers;
+    private final String body;
+
+    private HttpMessage(Builder builder) {
+        method = builder.method;
+        uri = builder.uri;
+        code = builder.code;
+        body = builder.body;
+        Map<String, String> headerMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headerMap.putAll(builder.headers);
+        headers = Collections.unmodifiableMap(headerMap);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates the HTTP response described by a response test case.
+     *
+     * @param testCase Test case to convert.
+     * @return Returns the created response.
+     */
+    public static HttpMessage fromTestCase(HttpResponseTestCase testCase) {
+        return builder()
+                .code(testCase.getCode())
+                .headers(testCase.getHeaders())
+                .body(testCase.getBody().orElse(""))
+                .build();
+    }
+
+    /**
+     * Gets the HTTP method of a request.
+     *
+     * @return Returns the optional method.
+     */
+    public Optional<String> getMethod() {
+        return Optional.ofNullable(method);
+    }
+
+    /**
+     * Gets the URI of a request, including the query string.
+     *
+     * @return Returns the optional URI.
+     */
+    public Optional<String> getUri() {
+        return Optional.ofNullable(uri);
+    }
+
+    /**
+     * Gets the path of a request URI, without the query string.
+     *
+     * @return Returns the optional path.
+     */
+    public Optional<String> getPath() {
+        return getUri().map(value -> value.indexOf('?') == -1 ? value : value.substring(0, value.indexOf('?')));
+    }
+
+    /**
+     * Gets the encoded query string parameters of a request URI
+     * (e.g., "foo=bar%20baz").
+     *
+     * @return Returns the query string parameters in the order they appear.
+     */
+    public List<String> getQueryParams() {
+        int position = uri == null ? -1 : uri.indexOf('?');
+        if (position == -1) {
+            return Collections.emptyList();
+        }
+
+        List<String> result = new ArrayList<>();
+        for (String parameter : uri.substring(position + 1).split("&")) {
+            if (!parameter.isEmpty()) {
+                result.add(parameter);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the status code of a response.
+     *
+     * @return Returns the status code.
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Gets the headers of the message.
+     *
+     * @return Returns a case-insensitive map of header names to values.
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Gets a header by case-insensitive name.
+     *
+     * @param name Header to get.
+     * @return Returns the optional header value.
+     */
+    public Optional<String> getHeader(String name) {
+        return Optional.ofNullable(headers.get(name));
+    }
+
+    /**
+     * Gets the body of the message.
+     *
+     * @return Returns the body, or an empty string if there is no body.
+     */
+    public String getBody() {
+        return body;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return builder().method(method).uri(uri).code(code).headers(headers).body(body);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (!(o instanceof HttpMessage)) {
+            return false;
+        }
+        HttpMessage other = (HttpMessage) o;
+        return code == other.code
+               && Objects.equals(method, other.method)
+               && Objects.equals(uri, other.uri)
+               && headers.equals(other.headers)
+               && body.equals(other.body);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(method, uri, code, headers, body);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        if (method != null) {
+            result.append(method).append(' ').append(uri);
+        } else {
+            result.append(code);
+        }
+        headers.forEach((name, value) -> result.append(System.lineSeparator()).append(name).append(": ").append(value));
+        if (!body.isEmpty()) {
+            result.append(System.lineSeparator()).append(System.lineSeparator()).append(body);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Builds an {@link HttpMessage}.
+     */
+    public static final class Builder implements SmithyBuilder<HttpMessage> {
+        private String method;
+        private String uri;
+        private int code = 200;
+        private final Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private String body = "";
+
+        private Builder() {}
+
+        @Override
+        public HttpMessage build() {
+            return new HttpMessage(this);
+        }
+
+        public Builder method(String method) {
+            this.method = method;
+            return this;
+        }
+
+        public Builder uri(String uri) {
+            this.uri = uri;
+            return this;
+        }
+
+        public Builder code(int code) {
+            this.code = code;
+            return this;
+        }
+
+        public Builder headers(Map<String, String> headers) {
+            this.headers.clear();
+            this.headers.putAll(headers);
+            return this;
+        }
+
+        public Builder putHeader(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+
+        public Builder body(String body) {
+            this.body = body == null ? "" : body;
+            return this;
+        }
+    }
+}
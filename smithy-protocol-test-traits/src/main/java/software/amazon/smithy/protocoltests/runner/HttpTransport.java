@@ -0,0 +1,34 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.protocoltests.runner;
+
+/**
+ * Sends HTTP requests on behalf of a {@link ProtocolTestClient}.
+ *
+ * <p>Clients adapt a transport to the HTTP abstraction of the client
+ * being tested so that requests are sent to a {@link LocalHttpStandIn}
+ * rather than over the network.
+ */
+@FunctionalInterface
+public interface HttpTransport {
+    /**
+     * Sends an HTTP request and returns the response.
+     *
+     * @param request Request to send.
+     * @return Returns the HTTP response.
+     */
+    HttpMessage send(HttpMessage request);
+}
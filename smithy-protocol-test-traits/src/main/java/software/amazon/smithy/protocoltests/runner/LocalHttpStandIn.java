@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.protocoltests.runner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.HttpRoutingIndex;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+/**
+ * An in-process stand-in for an HTTP server of a service.
+ *
+ * <p>The stand-in records every request it receives, routes it to an
+ * operation of the service using the {@link HttpRoutingIndex} of the
+ * model, and responds with a fixed response.
+ *
+ * <p>A stand-in is not thread-safe and is intended to serve a single
+ * test case.
+ */
+public final class LocalHttpStandIn implements HttpTransport {
+
+    private final HttpRoutingIndex routingIndex;
+    private final ShapeId service;
+    private final HttpMessage response;
+    private final List<HttpMessage> requests = new ArrayList<>();
+    private final List<Optional<HttpRoutingIndex.Match>> matches = new ArrayList<>();
+
+    /**
+     * @param model Model that contains the service.
+     * @param service Service to route requests to.
+     * @param response Response to send for every request.
+     */
+    public LocalHttpStandIn(Model model, ShapeId service, HttpMessage response) {
+        this.routingIndex = HttpRoutingIndex.of(model);
+        this.service = service;
+        this.response = response;
+    }
+
+    @Override
+    public HttpMessage send(HttpMessage request) {
+        requests.add(request);
+        matches.add(routingIndex.match(service, request.getMethod().orElse(""), request.getUri().orElse("")));
+        return response;
+    }
+
+    /**
+     * Gets the requests received by the stand-in.
+     *
+     * @return Returns the received requests in order.
+     */
+    public List<HttpMessage> getRequests() {
+        return Collections.unmodifiableList(requests);
+    }
+
+    /**
+     * Gets the routing results of each received request.
+     *
+     * <p>A request that matched no operation of the service is represented
+     * by an empty value.
+     *
+     * @return Returns the routing results in the order requests were received.
+     */
+    public List<Optional<HttpRoutingIndex.Match>> getMatches() {
+        return Collections.unmodifiableList(matches);
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.protocoltests.runner;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+import org.xml.sax.helpers.DefaultHandler;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.protocoltests.traits.HttpMessageTestCase;
+import software.amazon.smithy.protocoltests.traits.HttpRequestTestCase;
+import software.amazon.smithy.protocoltests.traits.HttpResponseTestCase;
+
+/**
+ * Compares actual HTTP messages and parameters to the expectations of
+ * protocol test cases, returning a description of each mismatch.
+ */
+final class MessageComparator {
+
+    private MessageComparator() {}
+
+    static List<String> compareRequest(HttpRequestTestCase testCase, HttpMessage request) {
+        List<String> failures = new ArrayList<>();
+
+        if (!testCase.getMethod().equals(request.getMethod().orElse(null))) {
+            failures.add(String.format("Expected method `%s`, but found `%s`",
+                                       testCase.getMethod(), request.getMethod().orElse("")));
+        }
+
+        if (!testCase.getUri().equals(request.getPath().orElse(null))) {
+            failures.add(String.format("Expected URI path `%s`, but found `%s`",
+                                       testCase.getUri(), request.getPath().orElse("")));
+        }
+
+        List<String> queryParams = request.getQueryParams();
+        for (String expected : testCase.getQueryParams()) {
+            if (!queryParams.contains(expected)) {
+                failures.add(String.format("Expected query string parameter `%s`, but found %s",
+                                           expected, queryParams));
+            }
+        }
+
+        for (String forbidden : testCase.getForbidQueryParams()) {
+            if (findQueryParam(queryParams, forbidden)) {
+                failures.add(String.format("Found forbidden query string parameter `%s`", forbidden));
+            }
+        }
+
+        for (String required : testCase.getRequireQueryParams()) {
+            if (!findQueryParam(queryParams, required)) {
+                failures.add(String.format("Expected query string parameter `%s` to be present", required));
+            }
+        }
+
+        compareMessage(testCase, request, failures);
+        return failures;
+    }
+
+    static List<String> compareResponse(HttpResponseTestCase testCase, ObjectNode params) {
+        List<String> failures = new ArrayList<>();
+        if (!nodesEqual(testCase.getParams(), params)) {
+            failures.add(String.format("Expected params %s, but found %s",
+                                       Node.printJson(testCase.getParams()), Node.printJson(params)));
+        }
+        return failures;
+    }
+
+    private static boolean findQueryParam(List<String> queryParams, String key) {
+        for (String param : queryParams) {
+            if (param.equals(key) || param.startsWith(key + "=")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void compareMessage(HttpMessageTestCase testCase, HttpMessage message, List<String> failures) {
+        testCase.getHeaders().forEach((name, value) -> {
+            String actual = message.getHeader(name).orElse(null);
+            if (!value.equals(actual)) {
+                failures.add(String.format("Expected header `%s` to be `%s`, but found `%s`", name, value, actual));
+            }
+        });
+
+        for (String forbidden : testCase.getForbidHeaders()) {
+            if (message.getHeader(forbidden).isPresent()) {
+                failures.add(String.format("Found forbidden header `%s`", forbidden));
+            }
+        }
+
+        for (String required : testCase.getRequireHeaders()) {
+            if (!message.getHeader(required).isPresent()) {
+                failures.add(String.format("Expected header `%s` to be present", required));
+            }
+        }
+
+        testCase.getBody().ifPresent(expected -> {
+            String mediaType = testCase.getBodyMediaType()
+                    .orElseGet(() -> message.getHeader("Content-Type").orElse(""));
+            String failure = compareBody(mediaType, expected, message.getBody());
+            if (failure != null) {
+                failures.add(failure);
+            }
+        });
+    }
+
+    private static String compareBody(String mediaType, String expected, String actual) {
+        if (expected.equals(actual)) {
+            return null;
+        } else if (expected.isEmpty() || actual.isEmpty()) {
+            return formatBodyFailure(expected, actual);
+        }
+
+        try {
+            String type = mediaType.toLowerCase(Locale.ENGLISH);
+            boolean equal;
+            if (type.contains("json")) {
+                equal = nodesEqual(Node.parse(expected), Node.parse(actual));
+            } else if (type.contains("xml")) {
+                equal = elementsEqual(parseXml(expected), parseXml(actual));
+            } else if (type.startsWith("application/x-www-form-urlencoded")) {
+                equal = sortedParams(expected).equals(sortedParams(actual));
+            } else {
+                equal = false;
+            }
+            return equal ? null : formatBodyFailure(expected, actual);
+        } catch (Exception e) {
+            return String.format("Unable to compare `%s` bodies: %s%n%s", mediaType, e.getMessage(),
+                                 formatBodyFailure(expected, actual));
+        }
+    }
+
+    private static String formatBodyFailure(String expected, String actual) {
+        return String.format("Expected body:%n%s%nBut found:%n%s", expected, actual);
+    }
+
+    private static List<String> sortedParams(String body) {
+        List<String> params = new ArrayList<>(Arrays.asList(body.split("&")));
+        params.removeIf(String::isEmpty);
+        params.sort(String::compareTo);
+        return params;
+    }
+
+    // Compares nodes structurally, ignoring the order of object keys and
+    // the scale of numbers (e.g., 1 and 1.0 are equal).
+    static boolean nodesEqual(Node expected, Node actual) {
+        if (expected.isNumberNode() && actual.isNumberNode()) {
+            Number left = expected.expectNumberNode().getValue();
+            Number right = actual.expectNumberNode().getValue();
+            return new BigDecimal(left.toString()).compareTo(new BigDecimal(right.toString())) == 0;
+        } else if (expected.isObjectNode() && actual.isObjectNode()) {
+            Map<StringNode, Node> left = expected.expectObjectNode().getMembers();
+            Map<StringNode, Node> right = actual.expectObjectNode().getMembers();
+            if (!left.keySet().equals(right.keySet())) {
+                return false;
+            }
+            for (Map.Entry<StringNode, Node> entry : left.entrySet()) {
+                if (!nodesEqual(entry.getValue(), right.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (expected.isArrayNode() && actual.isArrayNode()) {
+            ArrayNode left = expected.expectArrayNode();
+            ArrayNode right = actual.expectArrayNode();
+            if (left.size() != right.size()) {
+                return false;
+            }
+            for (int i = 0; i < left.size(); i++) {
+                if (!nodesEqual(left.get(i).get(), right.get(i).get())) {
+                    return false;
+                }
+            }
+            return true;
+        } else {
+            return expected.equals(actual);
+        }
+    }
+
+    private static Element parseXml(String xml) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        DocumentBuilder builder = factory.newDocumentBuilder();
+        // Report fatal errors through exceptions rather than printing them to stderr.
+        builder.setErrorHandler(new DefaultHandler());
+        return builder.parse(new InputSource(new StringReader(xml))).getDocumentElement();
+    }
+
+    // Compares elements by name, namespace, attributes, child elements in
+    // order, and trimmed text content, ignoring whitespace between elements.
+    private static boolean elementsEqual(Element expected, Element actual) {
+        if (!Objects.equals(expected.getNamespaceURI(), actual.getNamespaceURI())
+                || !Objects.equals(expected.getLocalName(), actual.getLocalName())
+                || !attributes(expected).equals(attributes(actual))) {
+            return false;
+        }
+
+        List<Element> expectedChildren = childElements(expected);
+        List<Element> actualChildren = childElements(actual);
+        if (expectedChildren.isEmpty() && actualChildren.isEmpty()) {
+            return expected.getTextContent().trim().equals(actual.getTextContent().trim());
+        } else if (expectedChildren.size() != actualChildren.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < expectedChildren.size(); i++) {
+            if (!elementsEqual(expectedChildren.get(i), actualChildren.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, String> attributes(Element element) {
+        Map<String, String> result = new HashMap<>();
+        NamedNodeMap attributes = element.getAttributes();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            org.w3c.dom.Node attribute = attributes.item(i);
+            result.put("{" + attribute.getNamespaceURI() + "}" + attribute.getLocalName(), attribute.getNodeValue());
+        }
+        return result;
+    }
+
+    private static List<Element> childElements(Element element) {
+        List<Element> result = new ArrayList<>();
+        NodeList children = element.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            if (children.item(i) instanceof Element) {
+                result.add((Element) children.item(i));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.protocoltests.runner;
+
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.OperationShape;
+
+/**
+ * A client of a protocol that is tested by a {@link ProtocolTestEngine}.
+ *
+ * <p>Implementations must be thread-safe since test cases are executed
+ * in parallel. Response test cases do not define input parameters, so
+ * implementations must not fail when required input members are missing.
+ */
+@FunctionalInterface
+public interface ProtocolTestClient {
+    /**
+     * Invokes an operation by serializing the given input parameters into
+     * an HTTP request, sending it with the given transport, and
+     * deserializing the received response.
+     *
+     * <p>If the response is an error, the members of the deserialized
+     * error structure are returned rather than thrown.
+     *
+     * @param operation Operation to invoke.
+     * @param params Input parameters of the operation.
+     * @param transport Transport used to send the request.
+     * @return Returns the members of the deserialized output or error.
+     */
+    ObjectNode invoke(OperationShape operation, ObjectNode params, HttpTransport transport);
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.protocoltests.runner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.HttpRoutingIndex;
+import software.amazon.smithy.model.knowledge.OperationIndex;
+import software.amazon.smithy.model.knowledge.TopDownIndex;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.model.traits.HttpTrait;
+import software.amazon.smithy.protocoltests.traits.HttpMessageTestCase;
+import software.amazon.smithy.protocoltests.traits.HttpRequestTestCase;
+import software.amazon.smithy.protocoltests.traits.HttpRequestTestsTrait;
+import software.amazon.smithy.protocoltests.traits.HttpResponseTestCase;
+import software.amazon.smithy.protocoltests.traits.HttpResponseTestsTrait;
+import software.amazon.smithy.utils.ParallelUtils;
+import software.amazon.smithy.utils.SmithyBuilder;
+
+/**
+ * Executes the HTTP protocol test cases of a service against a
+ * {@link ProtocolTestClient}.
+ *
+ * <p>Test cases are taken from the {@link HttpRequestTestsTrait} and
+ * {@link HttpResponseTestsTrait} of each operation in the closure of the
+ * service, and the {@link HttpResponseTestsTrait} of each error bound to
+ * those operations. Each test case is executed against its own
+ * {@link HttpTransport}, so test cases are executed in parallel. Test
+ * cases are executed against a {@link LocalHttpStandIn} unless a custom
+ * transport factory is given to the builder.
+ *
+ * <p>Request test cases invoke the client with the params of the test
+ * case and compare the first request sent by the client to the expected
+ * method, URI, query string, headers, and body of the test case. Bodies
+ * are compared structurally when their media type is JSON, XML, or form
+ * encoded. The transport responds to requests with an empty 200 response,
+ * and failures raised by the client after a request is sent are ignored.
+ * Requests of operations with the {@link HttpTrait} must also be routed
+ * back to the tested operation by the {@link HttpRoutingIndex} of the
+ * model.
+ *
+ * <p>Response test cases invoke the client with empty params, respond
+ * to its request with the HTTP response of the test case, and compare
+ * the output or error returned by the client to the params of the test
+ * case.
+ */
+public final class ProtocolTestEngine {
+
+    private final Model model;
+    private final ShapeId service;
+    private final ShapeId protocol;
+    private final ProtocolTestClient client;
+    private final Function<HttpMessage, HttpTransport> transportFactory;
+    private final List<Task> tasks;
+
+    private ProtocolTestEngine(Builder builder) {
+        model = SmithyBuilder.requiredState("model", builder.model);
+        service = SmithyBuilder.requiredState("service", builder.service);
+        client = SmithyBuilder.requiredState("client", builder.client);
+        protocol = builder.protocol;
+        transportFactory = builder.transportFactory != null
+                ? builder.transportFactory
+                : response -> new LocalHttpStandIn(model, service, response);
+        tasks = Collections.unmodifiableList(createTasks());
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the test cases that are executed by the engine.
+     *
+     * @return Returns the test cases in the order they are executed.
+     */
+    public List<HttpMessageTestCase> getTestCases() {
+        return tasks.stream().map(task -> task.testCase).collect(Collectors.toList());
+    }
+
+    /**
+     * Executes each test case in parallel using the common fork-join pool.
+     *
+     * @return Returns the results of each test case.
+     */
+    public ProtocolTestReport run() {
+        return run(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Executes each test case in parallel using a specific executor.
+     *
+     * <p>The calling thread also executes test cases, so an executor that
+     * rejects every task results in the test cases executing serially.
+     *
+     * @param executor Executor used to execute test cases.
+     * @return Returns the results of each test case.
+     */
+    public ProtocolTestReport run(Executor executor) {
+        long start = System.nanoTime();
+        List<ProtocolTestResult> results = ParallelUtils.map(executor, tasks, this::execute);
+        return new ProtocolTestReport(results, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private List<Task> createTasks() {
+        OperationIndex operationIndex = OperationIndex.of(model);
+        List<OperationShape> operations = new ArrayList<>(TopDownIndex.of(model).getContainedOperations(service));
+        Collections.sort(operations);
+
+        List<Task> result = new ArrayList<>();
+        for (OperationShape operation : operations) {
+            operation.getTrait(HttpRequestTestsTrait.class).ifPresent(trait -> {
+                addTasks(result, operation, operation, trait.getTestCases());
+            });
+            operation.getTrait(HttpResponseTestsTrait.class).ifPresent(trait -> {
+                addTasks(result, operation, operation, trait.getTestCases());
+            });
+        }
+
+        // Errors are tested using the first operation they are bound to.
+        Set<ShapeId> errors = new HashSet<>();
+        for (OperationShape operation : operations) {
+            for (StructureShape error : operationIndex.getErrors(operation)) {
+                if (errors.add(error.getId())) {
+                    error.getTrait(HttpResponseTestsTrait.class).ifPresent(trait -> {
+                        addTasks(result, error, operation, trait.getTestCases());
+                    });
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private void addTasks(
+            List<Task> tasks,
+            Shape shape,
+            OperationShape operation,
+            List<? extends HttpMessageTestCase> testCases
+    ) {
+        for (HttpMessageTestCase testCase : testCases) {
+            if (protocol == null || protocol.equals(testCase.getProtocol())) {
+                tasks.add(new Task(shape, operation, testCase));
+            }
+        }
+    }
+
+    private ProtocolTestResult execute(Task task) {
+        long start = System.nanoTime();
+        List<String> failures = task.testCase instanceof HttpRequestTestCase
+                ? executeRequestTest(task.operation, (HttpRequestTestCase) task.testCase)
+                : executeResponseTest(task.operation, (HttpResponseTestCase) task.testCase);
+        Duration latency = Duration.ofNanos(System.nanoTime() - start);
+        return new ProtocolTestResult(task.shape.getId(), task.operation.getId(), task.testCase, latency, failures);
+    }
+
+    private List<String> executeRequestTest(OperationShape operation, HttpRequestTestCase testCase) {
+        RecordingTransport transport = new RecordingTransport(transportFactory.apply(HttpMessage.builder().build()));
+        RuntimeException error = null;
+
+        try {
+            client.invoke(operation, testCase.getParams(), transport);
+        } catch (RuntimeException e) {
+            error = e;
+        }
+
+        if (transport.requests.isEmpty()) {
+            return Collections.singletonList(error == null
+                    ? "The client did not send a request"
+                    : "The client failed before sending a request: " + error);
+        }
+
+        HttpMessage request = transport.requests.get(0);
+        List<String> failures = MessageComparator.compareRequest(testCase, request);
+
+        if (operation.hasTrait(HttpTrait.class)) {
+            ShapeId routed = HttpRoutingIndex.of(model)
+                    .match(service, request.getMethod().orElse(""), request.getUri().orElse(""))
+                    .map(HttpRoutingIndex.Match::getOperation)
+                    .orElse(null);
+            if (!operation.getId().equals(routed)) {
+                failures.add(String.format("Expected the request to be routed to `%s`, but it was routed to `%s`",
+                                           operation.getId(), routed));
+            }
+        }
+
+        return failures;
+    }
+
+    private List<String> executeResponseTest(OperationShape operation, HttpResponseTestCase testCase) {
+        HttpMessage response = HttpMessage.fromTestCase(testCase);
+        RecordingTransport transport = new RecordingTransport(transportFactory.apply(response));
+        ObjectNode result;
+
+        try {
+            result = client.invoke(operation, ObjectNode.objectNode(), transport);
+        } catch (RuntimeException e) {
+            return Collections.singletonList("The client failed to deserialize the response: " + e);
+        }
+
+        if (transport.requests.isEmpty()) {
+            return Collections.singletonList("The client did not send a request");
+        }
+
+        return MessageComparator.compareResponse(testCase, result);
+    }
+
+    // Records the requests sent to the transport of a test case.
+    private static final class RecordingTransport implements HttpTransport {
+        private final HttpTransport delegate;
+        private final List<HttpMessage> requests = new ArrayList<>();
+
+        RecordingTransport(HttpTransport delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpMessage send(HttpMessage request) {
+            requests.add(request);
+            return delegate.send(request);
+        }
+    }
+
+    private static final class Task {
+        private final Shape shape;
+        private final OperationShape operation;
+        private final HttpMessageTestCase testCase;
+
+        Task(Shape shape, OperationShape operation, HttpMessageTestCase testCase) {
+            this.shape = shape;
+            this.operation = operation;
+            this.testCase = testCase;
+        }
+    }
+
+    /**
+     * Builds a {@link ProtocolTestEngine}.
+     */
+    public static final class Builder implements SmithyBuilder<ProtocolTestEngine> {
+        private Model model;
+        private ShapeId service;
+        private ShapeId protocol;
+        private ProtocolTestClient client;
+        private Function<HttpMessage, HttpTransport> transportFactory;
+
+        private Builder() {}
+
+        @Override
+        public ProtocolTestEngine build() {
+            return new ProtocolTestEngine(this);
+        }
+
+        /**
+         * Sets the model that contains the service to test.
+         *
+         * @param model Model to test.
+         * @return Returns the builder.
+         */
+        public Builder model(Model model) {
+            this.model = model;
+            return this;
+        }
+
+        /**
+         * Sets the service to test.
+         *
+         * @param service Service to test.
+         * @return Returns the builder.
+         */
+        public Builder service(ShapeId service) {
+            this.service = service;
+            return this;
+        }
+
+        /**
+         * Only executes test cases of a specific protocol.
+         *
+         * <p>Test cases of every protocol are executed by default.
+         *
+         * @param protocol Protocol trait shape ID to test.
+         * @return Returns the builder.
+         */
+        public Builder protocol(ShapeId protocol) {
+            this.protocol = protocol;
+            return this;
+        }
+
+        /**
+         * Sets the client used to execute test cases.
+         *
+         * @param client Client to test.
+         * @return Returns the builder.
+         */
+        public Builder client(ProtocolTestClient client) {
+            this.client = client;
+            return this;
+        }
+
+        /**
+         * Sets a factory that creates the transport each test case is
+         * executed against.
+         *
+         * <p>The factory is given the response that the transport is
+         * expected to send for every request of the test case. A new
+         * transport is created for each test case, and the factory can be
+         * called concurrently. A {@link LocalHttpStandIn} is used by
+         * default.
+         *
+         * @param transportFactory Factory that creates a transport from a response.
+         * @return Returns the builder.
+         */
+        public Builder transportFactory(Function<HttpMessage, HttpTransport> transportFactory) {
+            this.transportFactory = transportFactory;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.protocoltests.runner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The results of executing protocol test cases with a
+ * {@link ProtocolTestEngine}.
+ */
+public final class ProtocolTestReport {
+
+    private final List<ProtocolTestResult> results;
+    private final Duration elapsed;
+
+    ProtocolTestReport(List<ProtocolTestResult> results, Duration elapsed) {
+        this.results = Collections.unmodifiableList(results);
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * Gets the result of every executed test case.
+     *
+     * @return Returns the results in the order test cases were found.
+     */
+    public List<ProtocolTestResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Gets the results of test cases that failed.
+     *
+     * @return Returns the failed results.
+     */
+    public List<ProtocolTestResult> getFailedResults() {
+        return results.stream().filter(result -> !result.isSuccessful()).collect(Collectors.toList());
+    }
+
+    /**
+     * Checks if every test case passed.
+     *
+     * @return Returns true if no test case failed.
+     */
+    public boolean isSuccessful() {
+        return results.stream().allMatch(ProtocolTestResult::isSuccessful);
+    }
+
+    /**
+     * Gets the wall-clock time taken to execute every test case.
+     *
+     * @return Returns the elapsed time.
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Gets the number of test cases executed per second.
+     *
+     * @return Returns the throughput of the run.
+     */
+    public double getThroughput() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : results.size() * 1_000_000_000.0 / nanos;
+    }
+
+    /**
+     * Gets a percentile of the latencies of each test case using the
+     * nearest-rank method.
+     *
+     * @param percentile Percentile to get, from 0 to 100 (e.g., 99).
+     * @return Returns the latency, or zero if no test cases were executed.
+     * @throws IllegalArgumentException if the percentile is out of range.
+     */
+    public Duration getLatencyPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        } else if (results.isEmpty()) {
+            return Duration.ZERO;
+        }
+
+        List<Duration> latencies = new ArrayList<>(results.size());
+        for (ProtocolTestResult result : results) {
+            latencies.add(result.getLatency());
+        }
+        Collections.sort(latencies);
+        int rank = (int) Math.ceil(percentile / 100 * latencies.size());
+        return latencies.get(Math.max(0, rank - 1));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        for (ProtocolTestResult failed : getFailedResults()) {
+            result.append(failed).append(System.lineSeparator());
+        }
+        return result.append(String.format(
+                "Executed %d protocol tests (%d failed) in %dms: %.1f tests/s, p50 %dus, p99 %dus",
+                results.size(),
+                getFailedResults().size(),
+                elapsed.toMillis(),
+                getThroughput(),
+                getLatencyPercentile(50).toNanos() / 1000,
+                getLatencyPercentile(99).toNanos() / 1000)).toString();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.protocoltests.runner;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.protocoltests.traits.HttpMessageTestCase;
+import software.amazon.smithy.protocoltests.traits.HttpRequestTestCase;
+
+/**
+ * The result of executing a single protocol test case.
+ */
+public final class ProtocolTestResult {
+
+    private final ShapeId shape;
+    private final ShapeId operation;
+    private final HttpMessageTestCase testCase;
+    private final Duration latency;
+    private final List<String> failures;
+
+    ProtocolTestResult(
+            ShapeId shape,
+            ShapeId operation,
+            HttpMessageTestCase testCase,
+            Duration latency,
+            List<String> failures
+    ) {
+        this.shape = shape;
+        this.operation = operation;
+        this.testCase = testCase;
+        this.latency = latency;
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * Gets the shape the test case is defined on.
+     *
+     * <p>This is the operation for request and response tests, and the
+     * error structure for error response tests.
+     *
+     * @return Returns the shape ID.
+     */
+    public ShapeId getShape() {
+        return shape;
+    }
+
+    /**
+     * Gets the operation that was invoked to execute the test case.
+     *
+     * @return Returns the operation ID.
+     */
+    public ShapeId getOperation() {
+        return operation;
+    }
+
+    /**
+     * Gets the executed test case.
+     *
+     * @return Returns the test case.
+     */
+    public HttpMessageTestCase getTestCase() {
+        return testCase;
+    }
+
+    /**
+     * Checks if the test case is a request test case.
+     *
+     * @return Returns true if the test case tested a serialized request.
+     */
+    public boolean isRequestTest() {
+        return testCase instanceof HttpRequestTestCase;
+    }
+
+    /**
+     * Gets the time taken to invoke the client and compare its results.
+     *
+     * @return Returns the latency of the test case.
+     */
+    public Duration getLatency() {
+        return latency;
+    }
+
+    /**
+     * Gets a description of each expectation that was not met.
+     *
+     * @return Returns the failures of the test case.
+     */
+    public List<String> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Checks if every expectation of the test case was met.
+     *
+     * @return Returns true if the test case passed.
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder()
+                .append(isSuccessful() ? "PASSED " : "FAILED ")
+                .append(testCase.getId())
+                .append(" (").append(shape).append(", ").append(latency.toNanos() / 1000).append("us)");
+        for (String failure : failures) {
+            result.append(System.lineSeparator()).append("  - ").append(failure.replace("\n", "\n    "));
+        }
+        return result.toString();
+    }
+}
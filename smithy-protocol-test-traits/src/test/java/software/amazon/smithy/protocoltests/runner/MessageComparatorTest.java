@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.protocoltests.runner;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.protocoltests.traits.HttpRequestTestCase;
+import software.amazon.smithy.protocoltests.traits.HttpResponseTestCase;
+
+public class MessageComparatorTest {
+
+    private static HttpRequestTestCase.Builder testCase() {
+        return HttpRequestTestCase.builder()
+                .id("test")
+                .protocol(ShapeId.from("smithy.example#protocol"))
+                .method("POST")
+                .uri("/");
+    }
+
+    private static HttpMessage.Builder request(String body) {
+        return HttpMessage.builder().method("POST").uri("/").body(body);
+    }
+
+    @Test
+    public void comparesJsonBodiesStructurally() {
+        HttpRequestTestCase testCase = testCase()
+                .body("{\"a\": 1, \"b\": [true, {\"c\": 1.50}]}")
+                .bodyMediaType("application/json")
+                .build();
+
+        assertThat(MessageComparator.compareRequest(testCase, request("{\"b\":[true,{\"c\":1.5}],\"a\":1.0}").build()),
+                   empty());
+        assertThat(MessageComparator.compareRequest(testCase, request("{\"a\":1,\"b\":[{\"c\":1.5},true]}").build()),
+                   hasSize(1));
+    }
+
+    @Test
+    public void comparesXmlBodiesStructurally() {
+        HttpRequestTestCase testCase = testCase()
+                .body("<Foo xmlns=\"https://example.com\" a=\"1\" b=\"2\">\n    <Bar>hi</Bar>\n</Foo>\n")
+                .bodyMediaType("application/xml")
+                .build();
+
+        assertThat(MessageComparator.compareRequest(
+                testCase, request("<Foo b=\"2\" a=\"1\" xmlns=\"https://example.com\"><Bar>hi</Bar></Foo>").build()),
+                   empty());
+        assertThat(MessageComparator.compareRequest(
+                testCase, request("<Foo a=\"1\" b=\"2\"><Bar>hi</Bar></Foo>").build()),
+                   hasSize(1));
+    }
+
+    @Test
+    public void comparesFormBodiesIgnoringParameterOrder() {
+        HttpRequestTestCase testCase = testCase()
+                .body("Action=Foo&Version=2020-01-01")
+                .bodyMediaType("application/x-www-form-urlencoded")
+                .build();
+
+        assertThat(MessageComparator.compareRequest(testCase, request("Version=2020-01-01&Action=Foo").build()),
+                   empty());
+    }
+
+    @Test
+    public void comparesOtherBodiesExactly() {
+        HttpRequestTestCase testCase = testCase().body("abc").bodyMediaType("text/plain").build();
+
+        assertThat(MessageComparator.compareRequest(testCase, request("abc").build()), empty());
+        assertThat(MessageComparator.compareRequest(testCase, request("abcd").build()), hasSize(1));
+    }
+
+    @Test
+    public void comparesHeadersCaseInsensitively() {
+        HttpRequestTestCase testCase = testCase()
+                .putHeader("X-Foo", "a")
+                .forbidHeaders(Collections.singletonList("X-Baz"))
+                .requireHeaders(Collections.singletonList("X-Bar"))
+                .build();
+        HttpMessage request = request("").putHeader("x-foo", "b").putHeader("x-baz", "c").build();
+
+        assertThat(MessageComparator.compareRequest(testCase, request), contains(
+                "Expected header `X-Foo` to be `a`, but found `b`",
+                "Found forbidden header `X-Baz`",
+                "Expected header `X-Bar` to be present"));
+    }
+
+    @Test
+    public void comparesResponseParamsIgnoringNumberScale() {
+        HttpResponseTestCase testCase = HttpResponseTestCase.builder()
+                .id("test")
+                .protocol(ShapeId.from("smithy.example#protocol"))
+                .code(200)
+                .params(Node.objectNode().withMember("a", Node.from(1.0)))
+                .build();
+
+        assertThat(MessageComparator.compareResponse(testCase, Node.objectNode().withMember("a", 1)), empty());
+        assertThat(MessageComparator.compareResponse(testCase, Node.objectNode().withMember("a", 2)), hasSize(1));
+    }
+}
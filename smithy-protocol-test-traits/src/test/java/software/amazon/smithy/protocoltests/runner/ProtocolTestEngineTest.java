@@ -0,0 +1,251 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.protocoltests.runner;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.HttpBinding;
+import software.amazon.smithy.model.knowledge.HttpBindingIndex;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.model.pattern.SmithyPattern;
+import software.amazon.smithy.model.shapes.OperationShape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.traits.HttpTrait;
+import software.amazon.smithy.protocoltests.traits.HttpMessageTestCase;
+
+public class ProtocolTestEngineTest {
+
+    private static final ShapeId SERVICE = ShapeId.from("smithy.example#Weather");
+    private static final ShapeId PROTOCOL = ShapeId.from("smithy.example#testProtocol");
+    private static Model model;
+
+    @BeforeAll
+    public static void before() {
+        model = Model.assembler()
+                .addImport(ProtocolTestEngineTest.class.getResource("weather.smithy"))
+                .discoverModels()
+                .assemble()
+                .unwrap();
+    }
+
+    @Test
+    public void findsTestCasesOfService() {
+        ProtocolTestEngine engine = ProtocolTestEngine.builder()
+                .model(model)
+                .service(SERVICE)
+                .client(new JsonClient(model))
+                .build();
+        List<String> ids = engine.getTestCases().stream()
+                .map(HttpMessageTestCase::getId)
+                .collect(Collectors.toList());
+
+        assertThat(ids, contains("get_forecast", "get_forecast_other_protocol", "get_forecast_response",
+                                 "put_city", "no_such_city"));
+    }
+
+    @Test
+    public void filtersTestCasesByProtocol() {
+        ProtocolTestEngine engine = ProtocolTestEngine.builder()
+                .model(model)
+                .service(SERVICE)
+                .protocol(PROTOCOL)
+                .client(new JsonClient(model))
+                .build();
+
+        assertThat(engine.getTestCases(), hasSize(4));
+    }
+
+    @Test
+    public void passesWhenClientMeetsExpectations() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        ProtocolTestReport report;
+        try {
+            report = ProtocolTestEngine.builder()
+                    .model(model)
+                    .service(SERVICE)
+                    .client(new JsonClient(model))
+                    .build()
+                    .run(executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(report.toString(), report.isSuccessful(), equalTo(true));
+        assertThat(report.getResults(), hasSize(5));
+        assertThat(report.getResults().get(4).getShape(), equalTo(ShapeId.from("smithy.example#NoSuchCity")));
+        assertThat(report.getResults().get(4).getOperation(), equalTo(ShapeId.from("smithy.example#GetForecast")));
+        assertThat(report.toString(), containsString("Executed 5 protocol tests (0 failed)"));
+    }
+
+    @Test
+    public void usesCustomTransports() {
+        List<HttpMessage> responses = Collections.synchronizedList(new ArrayList<>());
+        ProtocolTestReport report = ProtocolTestEngine.builder()
+                .model(model)
+                .service(SERVICE)
+                .client(new JsonClient(model))
+                .transportFactory(response -> {
+                    responses.add(response);
+                    return request -> response;
+                })
+                .build()
+                .run();
+
+        assertThat(report.toString(), report.isSuccessful(), equalTo(true));
+        assertThat(responses, hasSize(5));
+    }
+
+    @Test
+    public void reportsUnmetExpectations() {
+        JsonClient delegate = new JsonClient(model);
+        ProtocolTestClient client = (operation, params, transport) -> delegate.invoke(operation, params, request -> {
+            return transport.send(request.toBuilder().uri("/wrong?units=c").build());
+        });
+        ProtocolTestReport report = ProtocolTestEngine.builder()
+                .model(model)
+                .service(SERVICE)
+                .protocol(PROTOCOL)
+                .client(client)
+                .build()
+                .run();
+        List<String> failed = report.getFailedResults().stream()
+                .map(result -> result.getTestCase().getId())
+                .collect(Collectors.toList());
+        List<String> failures = report.getFailedResults().get(0).getFailures();
+
+        assertThat(report.isSuccessful(), equalTo(false));
+        assertThat(failed, contains("get_forecast", "put_city"));
+        assertThat(failures, hasItem("Expected URI path `/cities/seattle/forecast`, but found `/wrong`"));
+        assertThat(failures, hasItem("Expected query string parameter `days=3`, but found [units=c]"));
+        assertThat(failures, hasItem("Found forbidden query string parameter `units`"));
+        assertThat(failures, hasItem(
+                "Expected the request to be routed to `smithy.example#GetForecast`, but it was routed to `null`"));
+    }
+
+    @Test
+    public void reportsClientFailures() {
+        ProtocolTestReport report = ProtocolTestEngine.builder()
+                .model(model)
+                .service(SERVICE)
+                .protocol(PROTOCOL)
+                .client((operation, params, transport) -> {
+                    throw new IllegalStateException("Unsupported");
+                })
+                .build()
+                .run();
+
+        assertThat(report.getFailedResults(), hasSize(4));
+        assertThat(report.getFailedResults().get(0).getFailures(), contains(
+                "The client failed before sending a request: java.lang.IllegalStateException: Unsupported"));
+    }
+
+    @Test
+    public void computesLatencyPercentiles() {
+        List<ProtocolTestResult> results = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            results.add(new ProtocolTestResult(SERVICE, SERVICE, null, Duration.ofMillis(i), new ArrayList<>()));
+        }
+        ProtocolTestReport report = new ProtocolTestReport(results, Duration.ofSeconds(2));
+
+        assertThat(report.getLatencyPercentile(50), equalTo(Duration.ofMillis(5)));
+        assertThat(report.getLatencyPercentile(99), equalTo(Duration.ofMillis(10)));
+        assertThat(report.getLatencyPercentile(0), equalTo(Duration.ofMillis(1)));
+        assertThat(report.getThroughput(), equalTo(5.0));
+    }
+
+    /**
+     * A minimal client that serializes document members as JSON.
+     */
+    private static final class JsonClient implements ProtocolTestClient {
+        private final HttpBindingIndex bindingIndex;
+
+        JsonClient(Model model) {
+            bindingIndex = HttpBindingIndex.of(model);
+        }
+
+        @Override
+        public ObjectNode invoke(OperationShape operation, ObjectNode params, HttpTransport transport) {
+            HttpTrait trait = operation.expectTrait(HttpTrait.class);
+            StringBuilder uri = new StringBuilder();
+            for (SmithyPattern.Segment segment : trait.getUri().getSegments()) {
+                uri.append('/').append(segment.isLabel()
+                                       ? params.getMember(segment.getContent()).map(JsonClient::toString).orElse("")
+                                       : segment.getContent());
+            }
+
+            HttpMessage.Builder request = HttpMessage.builder().method(trait.getMethod());
+            ObjectNode document = Node.objectNode();
+            String separator = "?";
+            for (HttpBinding binding : bindingIndex.getRequestBindings(operation).values()) {
+                Node value = params.getMember(binding.getMemberName()).orElse(null);
+                if (value == null) {
+                    continue;
+                } else if (binding.getLocation() == HttpBinding.Location.QUERY) {
+                    uri.append(separator).append(binding.getLocationName()).append('=').append(toString(value));
+                    separator = "&";
+                } else if (binding.getLocation() == HttpBinding.Location.HEADER) {
+                    request.putHeader(binding.getLocationName(), toString(value));
+                } else if (binding.getLocation() == HttpBinding.Location.DOCUMENT) {
+                    document = document.withMember(binding.getMemberName(), value);
+                }
+            }
+
+            if (!document.isEmpty()) {
+                String body = Node.printJson(document);
+                request.body(body)
+                        .putHeader("Content-Type", "application/json")
+                        .putHeader("Content-Length", String.valueOf(body.length()));
+            }
+
+            HttpMessage response = transport.send(request.uri(uri.toString()).build());
+            ObjectNode result = response.getBody().isEmpty()
+                    ? Node.objectNode()
+                    : Node.parse(response.getBody()).expectObjectNode();
+
+            if (response.getCode() == 200) {
+                for (HttpBinding binding : bindingIndex.getResponseBindings(operation).values()) {
+                    String value = response.getHeader(binding.getLocationName()).orElse(null);
+                    if (binding.getLocation() == HttpBinding.Location.HEADER && value != null) {
+                        result = result.withMember(binding.getMemberName(), value);
+                    }
+                }
+            }
+
+            return result;
+        }
+
+        private static String toString(Node node) {
+            return node.asStringNode().map(StringNode::getValue).orElseGet(node::toString);
+        }
+    }
+}
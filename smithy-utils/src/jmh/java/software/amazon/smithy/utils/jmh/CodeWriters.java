@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.smithy.utils.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.utils.CodeWriter;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class CodeWriters {
+
+    @State(Scope.Thread)
+    public static class CodeWriterState {
+        @Param({"100", "10000"})
+        public int lines;
+    }
+
+    @Benchmark
+    public String writeWithoutFormatting(CodeWriterState state) {
+        CodeWriter writer = CodeWriter.createDefault();
+        for (int i = 0; i < state.lines; i++) {
+            writer.writeWithNoFormatting("System.out.println(\"Hello\");");
+        }
+        return writer.toString();
+    }
+
+    @Benchmark
+    public String writeWithFormatting(CodeWriterState state) {
+        CodeWriter writer = CodeWriter.createDefault();
+        for (int i = 0; i < state.lines; i++) {
+            writer.write("$L.$L($S, $L);", "System.out", "println", "Hello", i);
+        }
+        return writer.toString();
+    }
+
+    @Benchmark
+    public String writeNestedBlocks(CodeWriterState state) {
+        CodeWriter writer = CodeWriter.createDefault();
+        for (int i = 0; i < state.lines / 10; i++) {
+            writer.openBlock("public void method$L() {", "}", i, () -> {
+                writer.openBlock("if (value) {", "}", () -> {
+                    for (int j = 0; j < 8; j++) {
+                        writer.write("call($L);", j);
+                    }
+                });
+            });
+        }
+        return writer.toString();
+    }
+
+    @Benchmark
+    public String writeWithSections(CodeWriterState state) {
+        CodeWriter writer = CodeWriter.createDefault();
+        writer.onSectionAppend("body", () -> writer.write("// Appended"));
+        for (int i = 0; i < state.lines / 2; i++) {
+            writer.pushState("body");
+            writer.write("statement$L();", i);
+            writer.popState();
+        }
+        return writer.toString();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.utils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Utilities for executing work in parallel on an {@link Executor}.
+ */
+@SmithyInternalApi
+public final class ParallelUtils {
+
+    private ParallelUtils() {}
+
+    /**
+     * Applies a function to each value in parallel and returns the results
+     * in the same order as the given values.
+     *
+     * <p>Tasks are submitted to the executor to help process values, and
+     * the calling thread processes values too. The calling thread only
+     * waits for values that another thread has already started to process,
+     * so this method can be safely called from a task running on the same
+     * bounded executor without exhausting it. Values are processed on the
+     * calling thread alone if the executor rejects every task.
+     *
+     * <p>Every value is processed even if the function fails, and the first
+     * failure encountered is rethrown once processing has completed.
+     * Checked exceptions are wrapped in a {@link RuntimeException}.
+     *
+     * @param executor Executor used to process values in parallel.
+     * @param values Values to process.
+     * @param mapper Function to apply to each value.
+     * @param <T> Type of value to process.
+     * @param <R> Type of result to return.
+     * @return Returns the results in the order of the given values.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> List<R> map(Executor executor, List<T> values, Function<? super T, ? extends R> mapper) {
+        int size = values.size();
+
+        if (size < 2) {
+            List<R> result = new ArrayList<>(size);
+            for (T value : values) {
+                result.add(mapper.apply(value));
+            }
+            return result;
+        }
+
+        Object[] results = new Object[size];
+        AtomicInteger next = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch remaining = new CountDownLatch(size);
+
+        Runnable worker = () -> {
+            for (int i = next.getAndIncrement(); i < size; i = next.getAndIncrement()) {
+                try {
+                    results[i] = mapper.apply(values.get(i));
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    remaining.countDown();
+                }
+            }
+        };
+
+        // The calling thread is one of the workers, so at most size - 1 helpers are needed.
+        int helpers = Math.min(size - 1, Runtime.getRuntime().availableProcessors());
+        for (int i = 0; i < helpers; i++) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+
+        worker.run();
+
+        try {
+            remaining.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+
+        Throwable e = failure.get();
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        } else if (e instanceof Error) {
+            throw (Error) e;
+        } else if (e != null) {
+            throw new RuntimeException(e);
+        }
+
+        return new ArrayList<>((List<R>) Arrays.asList(results));
+    }
+
+    /**
+     * Creates an executor that runs each task on a new virtual thread, if
+     * the current runtime supports virtual threads.
+     *
+     * @return Returns the created executor, or an empty Optional if virtual threads are not supported.
+     */
+    public static Optional<ExecutorService> newVirtualThreadExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of((ExecutorService) method.invoke(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Virtual threads were added in Java 21, and are a preview feature in some earlier versions.
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.smithy.utils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class ParallelUtilsTest {
+    @Test
+    public void mapsValuesInOrder() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Integer> result = ParallelUtils.map(executor, ListUtils.of(1, 2, 3, 4, 5), i -> i * 2);
+
+            assertThat(result, contains(2, 4, 6, 8, 10));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void mapsValuesOnCallingThreadWhenTasksAreRejected() {
+        Thread callingThread = Thread.currentThread();
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+
+        List<String> result = ParallelUtils.map(runnable -> {
+            throw new RejectedExecutionException();
+        }, ListUtils.of("a", "b"), value -> {
+            threads.add(Thread.currentThread());
+            return value.toUpperCase();
+        });
+
+        assertThat(result, contains("A", "B"));
+        assertThat(threads, contains(callingThread, callingThread));
+    }
+
+    @Test
+    public void doesNotDeadlockWhenNestedInBoundedExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<List<Integer>> future = executor.submit(() -> ParallelUtils.map(
+                    executor, ListUtils.of(1, 2, 3), i -> ParallelUtils.map(executor, ListUtils.of(i, i), j -> j)
+                            .stream().mapToInt(Integer::intValue).sum()));
+
+            assertThat(future.get(5, TimeUnit.SECONDS), contains(2, 4, 6));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void rethrowsFailuresAfterProcessingEveryValue() {
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> {
+            ParallelUtils.map(Runnable::run, ListUtils.of("a", "b", "c"), value -> {
+                processed.add(value);
+                if (value.equals("b")) {
+                    throw new IllegalStateException("Failed");
+                }
+                return value;
+            });
+        });
+
+        assertThat(e.getMessage(), equalTo("Failed"));
+        assertThat(processed.size(), equalTo(3));
+    }
+}